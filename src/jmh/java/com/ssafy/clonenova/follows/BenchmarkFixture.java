@@ -0,0 +1,115 @@
+package com.ssafy.clonenova.follows;
+
+import com.ssafy.clonenova.CloneNovaApplication;
+import com.ssafy.clonenova.follows.graph.FollowGraph;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 Spring 컨텍스트 + 합성 데이터
+ * - 시드 전용 컨텍스트로 스키마 생성/데이터 적재 후 닫고, 같은 인메모리 DB 로 벤치마크 컨텍스트를 다시 띄움
+ *   → 그래프 워밍이 항상 시드된 데이터 기준으로 끝난 상태에서 측정
+ * - "user-star" 는 팔로워가 많은 사용자, 나머지는 무작위로 followingsPerUser 명씩 팔로우
+ * - 난수 시드 고정이라 커밋 간 같은 데이터로 비교 가능
+ */
+final class BenchmarkFixture {
+
+    static final String STAR = "user-star";
+
+    private static final String URL_TEMPLATE =
+            "jdbc:h2:mem:%s;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final long GRAPH_WARM_UP_TIMEOUT_MS = 120_000;
+
+    private BenchmarkFixture() {
+    }
+
+    /**
+     * @param extraArgs 측정 컨텍스트에만 추가로 줄 설정 (예: --follows.list.read-path=jdbc)
+     */
+    static ConfigurableApplicationContext start(boolean graphEnabled, int users, int starFollowers, int followingsPerUser,
+                                                String... extraArgs) throws InterruptedException {
+        String url = String.format(URL_TEMPLATE, "jmh-" + UUID.randomUUID());
+        try (ConfigurableApplicationContext seeder = run(url, false, "create", new String[0])) {
+            seed(seeder.getBean(JdbcTemplate.class), users, starFollowers, followingsPerUser);
+        }
+
+        ConfigurableApplicationContext context = run(url, graphEnabled, "none", extraArgs);
+        if (graphEnabled) {
+            FollowGraph graph = context.getBean(FollowGraph.class);
+            long deadline = System.currentTimeMillis() + GRAPH_WARM_UP_TIMEOUT_MS;
+            while (!graph.isReady()) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("follow graph warm-up timeout");
+                }
+                Thread.sleep(50);
+            }
+        }
+        return context;
+    }
+
+    static String userId(int i) {
+        return "user-" + i;
+    }
+
+    // 프로필 yml 보다 우선하도록 커맨드라인 인자로 전달
+    private static ConfigurableApplicationContext run(String url, boolean graphEnabled, String ddlAuto, String[] extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--follows.graph.enabled=" + graphEnabled));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(CloneNovaApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("jmh")
+                .run(args.toArray(String[]::new));
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int users, int starFollowers, int followingsPerUser) {
+        Timestamp base = Timestamp.valueOf(LocalDateTime.of(2025, 10, 1, 0, 0));
+
+        List<String> ids = new ArrayList<>(users + 1);
+        ids.add(STAR);
+        for (int i = 0; i < users; i++) {
+            ids.add(userId(i));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user (id, avatar_id, email, password, name, nickname, email_verified, created_at)"
+                + " VALUES (?, 'avatar', ?, 'pw', 'name', ?, TRUE, ?)", ids, 1000, (ps, id) -> {
+            ps.setString(1, id);
+            ps.setString(2, id + "@bench.io");
+            ps.setString(3, "nick-" + id);
+            ps.setTimestamp(4, base);
+        });
+
+        SplittableRandom random = new SplittableRandom(42);
+        List<Object[]> edges = new ArrayList<>();
+        for (int i = 0; i < Math.min(starFollowers, users); i++) {
+            edges.add(new Object[]{userId(i), STAR, new Timestamp(base.getTime() + i * 1000L)});
+        }
+        for (int i = 0; i < users; i++) {
+            Set<Integer> targets = new HashSet<>();
+            for (int k = 0; k < followingsPerUser; k++) {
+                int target = random.nextInt(users);
+                if (target != i && targets.add(target)) {
+                    edges.add(new Object[]{userId(i), userId(target), new Timestamp(base.getTime() + random.nextInt(86_400) * 1000L)});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES (?, ?, ?)", edges, 1000,
+                (ps, edge) -> {
+                    ps.setString(1, (String) edge[0]);
+                    ps.setString(2, (String) edge[1]);
+                    ps.setTimestamp(3, (Timestamp) edge[2]);
+                });
+    }
+}
@@ -0,0 +1,95 @@
+package com.ssafy.clonenova.follows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.Projections;
+import com.ssafy.clonenova.common.ScrollCursor;
+import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.entity.QFollows;
+import com.ssafy.clonenova.follows.entity.QUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 없이 DTO 생성 / 직렬화 비용만 측정 (한 페이지 = 20 행)
+ * - projectionConstructor : QueryDSL Projections.constructor 가 행마다 하는 리플렉션 생성
+ * - directConstructor : 같은 값을 생성자로 직접 생성 (기준값)
+ * - serializePage : ScrollResponseDTO<FollowSearchListResponseDTO> Jackson 직렬화 (Spring 기본 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FollowDtoBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final QFollows qFollows = QFollows.follows;
+    private final QUser qUser = QUser.user;
+
+    private FactoryExpression<FollowSearchListResponseDTO> projection;
+    private Object[][] rows;
+    private ScrollResponseDTO<FollowSearchListResponseDTO> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        projection = Projections.constructor(FollowSearchListResponseDTO.class,
+                qFollows.id,
+                qFollows.createdAt,
+                qFollows.fromUserId.as("userId"),
+                qUser.email,
+                qUser.nickname);
+
+        LocalDateTime base = LocalDateTime.of(2025, 10, 1, 0, 0);
+        rows = new Object[PAGE_SIZE][];
+        List<FollowSearchListResponseDTO> content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            rows[i] = new Object[]{(long) i, base.plusSeconds(i), BenchmarkFixture.userId(i), "user" + i + "@bench.io", "nick-" + i};
+            content.add(new FollowSearchListResponseDTO((long) i, base.plusSeconds(i), BenchmarkFixture.userId(i),
+                    "user" + i + "@bench.io", "nick-" + i, i % 2 == 0));
+        }
+        FollowSearchListResponseDTO last = content.get(PAGE_SIZE - 1);
+        page = new ScrollResponseDTO<>(content, last.getId(), new ScrollCursor(last.getCreatedAt(), last.getId()).encode(), true);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public void projectionConstructor(Blackhole blackhole) {
+        for (Object[] row : rows) {
+            blackhole.consume(projection.newInstance(row));
+        }
+    }
+
+    @Benchmark
+    public void directConstructor(Blackhole blackhole) {
+        for (Object[] row : rows) {
+            blackhole.consume(new FollowSearchListResponseDTO((Long) row[0], (LocalDateTime) row[1], (String) row[2],
+                    (String) row[3], (String) row[4]));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ssafy.clonenova.follows;
+
+import com.ssafy.clonenova.common.ScrollCursor;
+import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.repository.FollowRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팔로워/팔로잉 목록 조회 (FollowCustomRepositoryImpl)
+ * - graph : 인메모리 그래프 경로, sql : 그래프 비활성 (DB 조회 경로, QueryDSL)
+ * - jdbc : 그래프 비활성 + follows.list.read-path=jdbc (미리 만든 SQL + 직접 작성한 row mapper)
+ * - sql / jdbc 할당량 비교는 -prof gc 로 실행 (gc.alloc.rate.norm = 호출당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FollowListBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"graph", "sql", "jdbc"})
+    public String path;
+
+    @Param({"20000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private FollowRepository followRepository;
+    private ScrollCursor deepCursor;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        context = BenchmarkFixture.start("graph".equals(path), users, users / 2, 20,
+                "--follows.list.read-path=" + ("jdbc".equals(path) ? "jdbc" : "querydsl"));
+        followRepository = context.getBean(FollowRepository.class);
+
+        // 팔로워 목록 중간쯤의 커서 (깊은 페이지)
+        List<FollowSearchListResponseDTO> page = followRepository.findFollowerList(BenchmarkFixture.STAR, null, null, users / 4);
+        FollowSearchListResponseDTO last = page.get(page.size() - 1);
+        deepCursor = new ScrollCursor(last.getCreatedAt(), last.getId());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<FollowSearchListResponseDTO> followerFirstPage() {
+        return followRepository.findFollowerList(BenchmarkFixture.STAR, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<FollowSearchListResponseDTO> followerDeepPage() {
+        return followRepository.findFollowerList(BenchmarkFixture.STAR, null, deepCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<FollowSearchListResponseDTO> followerKeywordPage() {
+        // 닉네임 색인이 꺼져 있어서 모든 경로가 user 조인 LIKE 검색
+        return followRepository.findFollowerList(BenchmarkFixture.STAR, "nick-user-1", null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<FollowSearchListResponseDTO> followingFirstPage() {
+        return followRepository.findFollowingList(BenchmarkFixture.userId(7), null, null, PAGE_SIZE);
+    }
+}
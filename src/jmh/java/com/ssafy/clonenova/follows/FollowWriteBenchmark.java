@@ -0,0 +1,63 @@
+package com.ssafy.clonenova.follows;
+
+import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
+import com.ssafy.clonenova.follows.service.FollowService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FollowServiceImpl.follow / unfollow
+ * - 한 번의 호출 = 팔로우 + 언팔로우 (같은 쌍을 반복해도 상태가 원래대로 돌아옴)
+ * - 첫 바퀴 이후에는 복원(restore) 경로를 측정하게 됨 (실서비스에서도 재팔로우가 대부분)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FollowWriteBenchmark {
+
+    @Param({"graph", "sql"})
+    public String path;
+
+    @Param({"20000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private FollowService followService;
+    private int next;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        context = BenchmarkFixture.start("graph".equals(path), users, users / 2, 20);
+        followService = context.getBean(FollowService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void followThenUnfollow() throws Exception {
+        // star 는 아무도 팔로우하지 않으므로 항상 첫 팔로우 / 복원 경로
+        FollowRequestDTO request = new FollowRequestDTO(BenchmarkFixture.STAR, BenchmarkFixture.userId(next));
+        next = (next + 1) % users;
+        followService.follow(request);
+        followService.unfollow(request);
+    }
+}
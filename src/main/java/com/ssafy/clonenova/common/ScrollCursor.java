@@ -0,0 +1,53 @@
+package com.ssafy.clonenova.common;
+
+import com.ssafy.clonenova.exception.CustomException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 복합 키셋 커서
+ * - 정렬 기준(createdAt DESC, id DESC)과 커서 조건을 일치시켜서 페이지 누락/중복을 막음
+ * - 클라이언트에는 Base64 문자열(opaque)로만 노출
+ */
+@Getter
+public class ScrollCursor {
+
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    public ScrollCursor(LocalDateTime createdAt, long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public long getCreatedAtEpochMillis() {
+        return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public String encode() {
+        String raw = getCreatedAtEpochMillis() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScrollCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            long epochMillis = Long.parseLong(raw.substring(0, sep));
+            long id = Long.parseLong(raw.substring(sep + 1));
+            return new ScrollCursor(ofEpochMillis(epochMillis), id);
+        } catch (RuntimeException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "잘못된 커서 값입니다.");
+        }
+    }
+
+    public static LocalDateTime ofEpochMillis(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000),
+                (int) Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+}
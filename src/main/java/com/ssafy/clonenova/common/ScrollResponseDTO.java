@@ -9,6 +9,7 @@ import java.util.List;
 @AllArgsConstructor
 public class ScrollResponseDTO<T> {
     private List<T> content;
-    private Long nextCursor;
+    private Long nextCursor;    // 마지막 행 id (구버전 호환)
+    private String cursor;      // 다음 페이지 요청 시 그대로 넘길 opaque 커서
     private boolean hasNext;
 }
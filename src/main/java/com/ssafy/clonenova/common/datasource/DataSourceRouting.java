@@ -0,0 +1,37 @@
+package com.ssafy.clonenova.common.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 primary 로 고정 (read-your-writes)
+ * - LazyConnectionDataSourceProxy 라서 실제 커넥션은 첫 SQL 시점에 얻음
+ *   → 트랜잭션 안이라도 첫 조회 전에만 호출하면 적용됨
+ * - 트랜잭션 종료 시 자동 해제 (스레드 재사용 시 새지 않도록)
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static void usePrimary() {
+        if (Boolean.TRUE.equals(PRIMARY.get())) {
+            return;
+        }
+        PRIMARY.set(Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    PRIMARY.remove();
+                }
+            });
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY.get());
+    }
+}
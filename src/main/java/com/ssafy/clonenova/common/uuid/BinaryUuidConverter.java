@@ -0,0 +1,23 @@
+package com.ssafy.clonenova.common.uuid;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 엔티티 String id ↔ BINARY(16) 컬럼
+ * - autoApply 하지 않음 : binary-uuid 프로필의 META-INF/orm-binary-uuid.xml 이 사용자 id 컬럼에만 지정
+ * - 엔티티/DTO/API 는 그대로 문자열 UUID 를 사용
+ */
+@Converter
+public class BinaryUuidConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : UserIdCodec.toBinary(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : BinaryUuids.toUuid(dbData);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ssafy.clonenova.common.uuid;
+
+import com.ssafy.clonenova.exception.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * JDBC 직접 쿼리(upsert, 배치 insert, 통계 재계산)에서 사용자 id 바인딩
+ * - JPA 쿼리는 BinaryUuidConverter 가 처리하지만 JdbcTemplate 경로는 컨버터를 거치지 않음
+ * - follows.storage.binary-uuid=true 면 BINARY(16), 아니면 기존 VARCHAR(36) 문자열
+ * - binary 모드에서 UUID 가 아닌 요청 값은 400 (문자열 모드면 없는 id 라 빈 결과로 끝나는 값이 500 이 되지 않도록)
+ */
+@Component
+public class UserIdCodec {
+
+    // 문자열 모드의 사용자 id 컬럼 크기 (VARCHAR(36))
+    public static final int MAX_LENGTH = 36;
+
+    private final boolean binary;
+
+    public UserIdCodec(@Value("${follows.storage.binary-uuid:false}") boolean binary) {
+        this.binary = binary;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * 저장할 사용자 id 형식 확인 (빈 값, 컬럼 길이 초과, binary 모드의 UUID 아닌 값 → 400)
+     * - write-behind 로그처럼 응답 후에 DB 에 반영하는 경로는 기록 전에 거절해야 반영 단계에서 막히지 않음
+     */
+    public void validate(String userId) {
+        if (userId == null || userId.isBlank() || userId.length() > MAX_LENGTH) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "잘못된 사용자 id 형식입니다.");
+        }
+        if (binary) {
+            toBinary(userId);
+        }
+    }
+
+    /**
+     * JdbcTemplate 가변 인자용 값
+     */
+    public Object bind(String userId) {
+        return binary ? toBinary(userId) : userId;
+    }
+
+    public void set(PreparedStatement ps, int index, String userId) throws SQLException {
+        if (binary) {
+            ps.setBytes(index, toBinary(userId));
+        } else {
+            ps.setString(index, userId);
+        }
+    }
+
+    public String get(ResultSet rs, int column) throws SQLException {
+        return binary ? BinaryUuids.toUuid(rs.getBytes(column)) : rs.getString(column);
+    }
+
+    /**
+     * 요청으로 들어온 사용자 id → BINARY(16) (JPA 컨버터/UserType 의 바인딩도 이쪽을 사용)
+     */
+    public static byte[] toBinary(String userId) {
+        try {
+            return BinaryUuids.toBytes(userId);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "잘못된 사용자 id 형식입니다.");
+        }
+    }
+}
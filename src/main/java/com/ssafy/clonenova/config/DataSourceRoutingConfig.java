@@ -0,0 +1,68 @@
+package com.ssafy.clonenova.config;
+
+import com.ssafy.clonenova.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CQRS 읽기/쓰기 분리 (follows.datasource.routing-enabled=true)
+ * - 쓰기 / 일반 트랜잭션 : primary (spring.datasource.*)
+ * - @Transactional(readOnly = true) : replica 풀 라운드로빈 (follows.datasource.replica-urls)
+ * - readOnly 여부는 트랜잭션 시작 후에 정해지므로 LazyConnectionDataSourceProxy 로 커넥션 획득을 첫 SQL 까지 미룸
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "follows.datasource.routing-enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // replica 풀은 라우팅 DataSource 가 소유 (종료 시 함께 close)
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             @Value("${follows.datasource.replica-urls}") List<String> urls,
+                                                             @Value("${follows.datasource.replica-username:${spring.datasource.username:}}") String username,
+                                                             @Value("${follows.datasource.replica-password:${spring.datasource.password:}}") String password) {
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i).strip());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(primaryDataSource.getDriverClassName());
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        log.info("datasource routing enabled : replicas={}", replicas.size());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.clonenova.config;
+
+import com.ssafy.clonenova.follows.concurrency.DbConcurrencyLimitedDataSource;
+import com.ssafy.clonenova.follows.concurrency.DbConcurrencyLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 가상 스레드 모드의 DB 동시 실행 제한
+ * follows.db-limiter.enabled 기본값은 spring.threads.virtual.enabled 를 따라감 (application.yml)
+ * - 요청 단위가 아니라 커넥션 단위로 permit 을 잡음 (DB 를 실제로 쓰는 구간만)
+ * - 기본 DataSource 를 LazyConnectionDataSourceProxy -> DbConcurrencyLimitedDataSource -> 원래 DataSource 순으로 감쌈
+ *   → 트랜잭션이 열려도 첫 SQL 전까지는 커넥션/permit 을 잡지 않음
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "follows.db-limiter.enabled", havingValue = "true")
+public class DbConcurrencyLimitConfig {
+
+    // permit 수 기본값이 커넥션 풀 크기라서 DataSource 가 만들어진 직후에 감쌈
+    @Bean
+    public static BeanPostProcessor dbConcurrencyLimitDataSourcePostProcessor(
+            @Value("${follows.db-limiter.permits:0}") int permits,
+            @Value("${follows.db-limiter.acquire-timeout-ms:1000}") long acquireTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                // 0 이면 Hikari 최대 커넥션 수
+                int resolved = permits > 0 ? permits : maximumPoolSize(dataSource);
+                log.info("db concurrency limiter enabled : permits={}, acquireTimeoutMs={}", resolved, acquireTimeoutMillis);
+                DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(resolved, acquireTimeoutMillis);
+                return new LazyConnectionDataSourceProxy(new DbConcurrencyLimitedDataSource(dataSource, limiter));
+            }
+        };
+    }
+
+    @Bean
+    public DbConcurrencyLimiter dbConcurrencyLimiter(DataSource dataSource, MeterRegistry meterRegistry) throws SQLException {
+        DbConcurrencyLimiter limiter = dataSource.unwrap(DbConcurrencyLimitedDataSource.class).getLimiter();
+        Gauge.builder("follows.db.limiter.available", limiter, DbConcurrencyLimiter::available).register(meterRegistry);
+        Gauge.builder("follows.db.limiter.waiting", limiter, DbConcurrencyLimiter::waiting).register(meterRegistry);
+        return limiter;
+    }
+
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException e) {
+            throw new IllegalStateException("follows.db-limiter.permits 를 지정하거나 Hikari 커넥션 풀을 사용해야 합니다.", e);
+        }
+    }
+}
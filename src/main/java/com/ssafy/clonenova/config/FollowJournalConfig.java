@@ -0,0 +1,23 @@
+package com.ssafy.clonenova.config;
+
+import com.ssafy.clonenova.follows.journal.FollowJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "follows.journal.enabled", havingValue = "true")
+public class FollowJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public FollowJournal followJournal(@Value("${follows.journal.dir:./data/follow-journal}") String dir,
+                                       @Value("${follows.journal.segment-bytes:67108864}") long segmentBytes,
+                                       @Value("${follows.journal.group-commit-max-batch:1024}") int maxBatch,
+                                       @Value("${follows.journal.group-commit-wait-ms:2}") long groupCommitWaitMillis) throws IOException {
+        return FollowJournal.open(Path.of(dir), segmentBytes, maxBatch, groupCommitWaitMillis);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.clonenova.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.clonenova.follows.metrics.EntityLoadListener;
+import com.ssafy.clonenova.follows.metrics.FollowRequestMetricsInterceptor;
+import com.ssafy.clonenova.follows.metrics.TimedJackson2HttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@RequiredArgsConstructor
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final FollowRequestMetricsInterceptor followRequestMetricsInterceptor;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(followRequestMetricsInterceptor).addPathPatterns("/api/v1/follows/**");
+    }
+
+    // 엔티티 로드 수 집계용 리스너 (프로퍼티로는 등록할 수 없어서 레지스트리에 직접 추가)
+    @PostConstruct
+    void registerEntityLoadListener() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, new EntityLoadListener());
+    }
+
+    // 기본 Jackson 컨버터 대체 (Boot 는 같은 타입 빈이 있으면 자동 등록을 건너뜀)
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   MeterRegistry meterRegistry) {
+        return new TimedJackson2HttpMessageConverter(objectMapper, meterRegistry);
+    }
+}
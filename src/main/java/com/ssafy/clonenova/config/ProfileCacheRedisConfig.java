@@ -0,0 +1,31 @@
+package com.ssafy.clonenova.config;
+
+import com.ssafy.clonenova.follows.profile.RedisUserProfileCache;
+import com.ssafy.clonenova.follows.profile.UserProfileCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 프로필 캐시 L2 (Redis) 사용 시 다른 인스턴스의 무효화 메시지를 받아 L1 삭제
+ */
+@Configuration
+@ConditionalOnProperty(name = "follows.profile-cache.l2.enabled", havingValue = "true")
+public class ProfileCacheRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer profileInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                     UserProfileCache userProfileCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> userProfileCache.evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(RedisUserProfileCache.INVALIDATE_CHANNEL));
+        return container;
+    }
+}
@@ -24,6 +24,12 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGeneralException(Exception e) {
+        // 커넥션 획득 중 던진 CustomException 이 트랜잭션 예외로 감싸져 온 경우 (DB permit 대기 초과 503 등)
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof CustomException customException) {
+                return handleCustomException(customException);
+            }
+        }
         // 예상치 못한 모든 예외 처리
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
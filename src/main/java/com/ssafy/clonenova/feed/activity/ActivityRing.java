@@ -0,0 +1,92 @@
+package com.ssafy.clonenova.feed.activity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 사용자별 피드 링 버퍼 (최대 capacity 개, 가득 차면 가장 오래된 항목부터 버림)
+ * - id 오름차순 유지 : fan-out 이 비동기라 늦게 도착하는 항목은 끝에서부터 자리를 찾아 끼워 넣음 (대부분 0~몇 칸 이동)
+ * - 조회는 커서(id) 위치를 이진탐색 후 최신순으로 limit 개 → O(log capacity + limit)
+ * - 작게 시작해서 capacity 까지만 늘림 (활동이 적은 사용자는 메모리를 거의 쓰지 않음)
+ */
+final class ActivityRing {
+
+    private final int capacity;
+    private FeedActivity[] items = new FeedActivity[8];
+    private int head;   // 가장 오래된 항목 위치
+    private int size;
+
+    ActivityRing(int capacity) {
+        this.capacity = capacity;
+    }
+
+    synchronized void add(FeedActivity activity) {
+        if (size == capacity) {
+            if (activity.getId() < get(0).getId()) {
+                return;     // 버려질 항목보다도 오래됨
+            }
+            head = (head + 1) % items.length;
+            size--;
+        } else if (size == items.length) {
+            grow();
+        }
+        int pos = size;
+        while (pos > 0 && get(pos - 1).getId() > activity.getId()) {
+            set(pos, get(pos - 1));
+            pos--;
+        }
+        set(pos, activity);
+        size++;
+    }
+
+    /**
+     * @param beforeId 이 id 보다 오래된 항목만 (null 이면 최신부터)
+     * @param filter 포함 조건 (null 이면 전체)
+     */
+    synchronized List<FeedActivity> page(Long beforeId, Predicate<FeedActivity> filter, int limit) {
+        int end = beforeId == null ? size : lowerBound(beforeId);
+        List<FeedActivity> result = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && result.size() < limit; i--) {
+            FeedActivity activity = get(i);
+            if (filter == null || filter.test(activity)) {
+                result.add(activity);
+            }
+        }
+        return result;
+    }
+
+    // id 가 beforeId 이상인 첫 위치
+    private int lowerBound(long beforeId) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (get(mid).getId() < beforeId) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private FeedActivity get(int index) {
+        return items[(head + index) % items.length];
+    }
+
+    private void set(int index, FeedActivity activity) {
+        items[(head + index) % items.length] = activity;
+    }
+
+    private void grow() {
+        FeedActivity[] grown = new FeedActivity[Math.min(items.length << 1, capacity)];
+        for (int i = 0; i < size; i++) {
+            grown[i] = get(i);
+        }
+        Arrays.fill(items, null);
+        items = grown;
+        head = 0;
+    }
+}
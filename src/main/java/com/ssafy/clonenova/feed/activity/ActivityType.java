@@ -0,0 +1,6 @@
+package com.ssafy.clonenova.feed.activity;
+
+public enum ActivityType {
+    GAME_RECORD,    // 게임 최고 기록 갱신
+    FOLLOW          // 새 팔로우
+}
@@ -0,0 +1,36 @@
+package com.ssafy.clonenova.feed.activity;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 항목 (불변, 여러 inbox 가 같은 객체를 공유)
+ */
+@Getter
+public class FeedActivity {
+
+    private final long id;              // 발행 순서 (피드 커서)
+    private final ActivityType type;
+    private final String actorUserId;
+    private final String targetUserId;  // FOLLOW : 팔로우 대상
+    private final String gameId;        // GAME_RECORD
+    private final Long score;           // GAME_RECORD
+    private final LocalDateTime createdAt;
+    // false 면 팔로워 inbox 로 보내지 않음 (팔로워가 많은 계정) → 조회 시 outbox 에서 직접 가져옴
+    private final boolean fannedOut;
+
+    @Builder
+    public FeedActivity(long id, ActivityType type, String actorUserId, String targetUserId,
+                        String gameId, Long score, LocalDateTime createdAt, boolean fannedOut) {
+        this.id = id;
+        this.type = type;
+        this.actorUserId = actorUserId;
+        this.targetUserId = targetUserId;
+        this.gameId = gameId;
+        this.score = score;
+        this.createdAt = createdAt;
+        this.fannedOut = fannedOut;
+    }
+}
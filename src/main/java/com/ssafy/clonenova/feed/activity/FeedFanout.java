@@ -0,0 +1,135 @@
+package com.ssafy.clonenova.feed.activity;
+
+import com.ssafy.clonenova.common.ScrollCursor;
+import com.ssafy.clonenova.follows.entity.FollowStats;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import com.ssafy.clonenova.follows.graph.FollowEdge;
+import com.ssafy.clonenova.follows.repository.FollowRepository;
+import com.ssafy.clonenova.follows.repository.FollowStatsRepository;
+import com.ssafy.clonenova.follows.stats.FollowCounter;
+import com.ssafy.clonenova.games.event.GameScoreChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 활동(팔로우, 게임 기록 갱신) → 피드 반영
+ * - 커밋 이후 이벤트를 받아 별도 스레드에서 처리 (요청 스레드는 큐에 넣기만 함)
+ * - 팔로워 수(follow_stats + 미반영 delta)가 fan-in-threshold 이하 : 팔로워 목록을 follows 에서 batch-size 씩 키셋 조회해 inbox 로 전달
+ * - 초과 : outbox 에만 기록하고 조회 시 병합 (팔로워 수십만 명 계정이 활동할 때마다 그만큼 쓰지 않도록)
+ * - 큐가 가득 차면 발행 스레드에서 직접 처리 (유실 대신 배압)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedFanout {
+
+    private final FeedStore feedStore;
+    private final FollowRepository followRepository;
+    private final FollowStatsRepository followStatsRepository;
+    private final FollowCounter followCounter;
+
+    @Value("${feed.fan-in-threshold:10000}")
+    private long fanInThreshold;
+
+    @Value("${feed.fanout.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${feed.fanout.threads:2}")
+    private int threads;
+
+    @Value("${feed.fanout.queue-size:10000}")
+    private int queueSize;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger count = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                task -> {
+                    Thread thread = new Thread(task, "feed-fanout-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @TransactionalEventListener
+    public void onFollowChanged(FollowChangedEvent event) {
+        if (event.isActive()) {
+            executor.execute(() -> publish(event.getFromUserId(), FeedActivity.builder()
+                    .type(ActivityType.FOLLOW)
+                    .targetUserId(event.getToUserId())
+                    .createdAt(event.getCreatedAt() != null ? event.getCreatedAt() : LocalDateTime.now())));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onGameScoreChanged(GameScoreChangedEvent event) {
+        executor.execute(() -> publish(event.getUserId(), FeedActivity.builder()
+                .type(ActivityType.GAME_RECORD)
+                .gameId(event.getGameId())
+                .score(event.getBestScore())
+                .createdAt(LocalDateTime.now())));
+    }
+
+    void publish(String actorUserId, FeedActivity.FeedActivityBuilder builder) {
+        try {
+            boolean fanOut = followerCount(actorUserId) <= fanInThreshold;
+            FeedActivity activity = builder
+                    .id(feedStore.nextId())
+                    .actorUserId(actorUserId)
+                    .fannedOut(fanOut)
+                    .build();
+            feedStore.publish(activity);
+            if (fanOut) {
+                fanOut(activity);
+            }
+        } catch (RuntimeException e) {
+            log.warn("feed fan-out 실패", e);
+        }
+    }
+
+    private void fanOut(FeedActivity activity) {
+        ScrollCursor cursor = null;
+        long delivered = 0;
+        while (true) {
+            List<FollowEdge> followers = followRepository.findFollowerEdges(activity.getActorUserId(), cursor, batchSize);
+            feedStore.deliver(followers.stream().map(FollowEdge::getUserId).toList(), activity);
+            delivered += followers.size();
+            if (followers.size() < batchSize) {
+                break;
+            }
+            FollowEdge last = followers.get(followers.size() - 1);
+            cursor = new ScrollCursor(last.getCreatedAt(), last.getFollowId());
+        }
+        log.debug("feed fan-out : activity={}, actor={}, recipients={}", activity.getId(), activity.getActorUserId(), delivered);
+    }
+
+    // FollowServiceImpl.getFollowCount 와 같은 기준 (follow_stats + 아직 반영 안 된 delta, 통계 행이 없으면 COUNT)
+    private long followerCount(String userId) {
+        FollowStats stats = followStatsRepository.findById(userId).orElse(null);
+        if (stats == null) {
+            return followRepository.countByToUserIdAndDeletedAtIsNull(userId);
+        }
+        return stats.getFollowerCount() + followCounter.pendingFollowers(userId);
+    }
+}
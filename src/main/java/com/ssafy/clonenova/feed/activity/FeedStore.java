@@ -0,0 +1,160 @@
+package com.ssafy.clonenova.feed.activity;
+
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 인메모리 피드 저장소
+ * - inbox  : 사용자가 받은 항목 (fan-out-on-write 대상 계정의 활동)
+ * - outbox : 사용자가 발행한 항목 (팔로워가 많은 계정은 inbox 로 보내지 않고 여기서만 읽힘 = fan-in-on-read)
+ * - 사용자 id 는 UserIdInterner int id 로 배열에 바로 접근
+ * - 프로세스 메모리에만 있으므로 재시작 시 비어 있음 (링 크기만큼의 최근 활동만 보관)
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedStore {
+
+    private static final ActivityRing EMPTY = new ActivityRing(0);
+    private static final Comparator<FeedActivity> NEWEST_FIRST =
+            Comparator.comparingLong(FeedActivity::getId).reversed();
+
+    private final UserIdInterner interner;
+
+    @Value("${feed.inbox-size:500}")
+    private int inboxSize;
+
+    @Value("${feed.outbox-size:200}")
+    private int outboxSize;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile ActivityRing[] inboxes = new ActivityRing[1024];
+    private volatile ActivityRing[] outboxes = new ActivityRing[1024];
+
+    // inbox 로 보내지 않은 항목을 outbox 에 가진 계정 (int id)
+    private final Set<Integer> fanInActors = ConcurrentHashMap.newKeySet();
+
+    public long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    /**
+     * 발행자의 outbox 에 기록 (fannedOut=false 면 조회 시 fan-in 대상)
+     */
+    public void publish(FeedActivity activity) {
+        int actor = interner.intern(activity.getActorUserId());
+        outbox(actor).add(activity);
+        if (!activity.isFannedOut()) {
+            fanInActors.add(actor);
+        }
+    }
+
+    /**
+     * 팔로워 inbox 로 전달 (fan-out 배치에서 호출)
+     */
+    public void deliver(List<String> recipientUserIds, FeedActivity activity) {
+        for (String userId : recipientUserIds) {
+            inbox(interner.intern(userId)).add(activity);
+        }
+    }
+
+    /**
+     * fan-in 대상 계정 user id (조회 시 내가 팔로우 중인지만 확인)
+     */
+    public List<String> fanInActorIds() {
+        List<String> userIds = new ArrayList<>(fanInActors.size());
+        fanInActors.forEach(id -> userIds.add(interner.userId(id)));
+        return userIds;
+    }
+
+    /**
+     * 내 inbox + 팔로우 중인 fan-in 계정 outbox 를 최신순으로 병합
+     * - 소스마다 커서 이후 최대 size 개만 꺼내서 힙으로 병합 → O((1 + 계정 수) * size), 계정 수는 fan-in 계정 중 내가 팔로우한 수
+     *
+     * @param followedFanInActors 내가 팔로우 중인 fan-in 계정 user id
+     * @param beforeId 이전 페이지 마지막 항목 id (null 이면 최신부터)
+     */
+    public List<FeedActivity> read(String userId, List<String> followedFanInActors, Long beforeId, int size) {
+        List<List<FeedActivity>> sources = new ArrayList<>(followedFanInActors.size() + 1);
+        int me = interner.find(userId);
+        if (me != UserIdInterner.NOT_FOUND) {
+            sources.add(existing(inboxes, me).page(beforeId, null, size));
+        }
+        Predicate<FeedActivity> notFannedOut = activity -> !activity.isFannedOut();
+        for (String actorUserId : followedFanInActors) {
+            int actor = interner.find(actorUserId);
+            if (actor != UserIdInterner.NOT_FOUND) {
+                sources.add(existing(outboxes, actor).page(beforeId, notFannedOut, size));
+            }
+        }
+        if (sources.size() == 1) {
+            return sources.get(0);
+        }
+
+        // [소스 번호, 소스 내 위치]
+        PriorityQueue<int[]> heap = new PriorityQueue<>(Comparator.comparing(
+                (int[] cursor) -> sources.get(cursor[0]).get(cursor[1]), NEWEST_FIRST));
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) {
+                heap.add(new int[]{i, 0});
+            }
+        }
+        List<FeedActivity> result = new ArrayList<>(size);
+        while (!heap.isEmpty() && result.size() < size) {
+            int[] cursor = heap.poll();
+            List<FeedActivity> source = sources.get(cursor[0]);
+            result.add(source.get(cursor[1]));
+            if (cursor[1] + 1 < source.size()) {
+                heap.add(new int[]{cursor[0], cursor[1] + 1});
+            }
+        }
+        return result;
+    }
+
+    private ActivityRing inbox(int id) {
+        return slot(true, id);
+    }
+
+    private ActivityRing outbox(int id) {
+        return slot(false, id);
+    }
+
+    private static ActivityRing existing(ActivityRing[] rings, int id) {
+        ActivityRing ring = id >= 0 && id < rings.length ? rings[id] : null;
+        return ring == null ? EMPTY : ring;
+    }
+
+    private ActivityRing slot(boolean inbox, int id) {
+        ActivityRing ring = existing(inbox ? inboxes : outboxes, id);
+        if (ring != EMPTY) {
+            return ring;
+        }
+        synchronized (this) {
+            ActivityRing[] rings = inbox ? inboxes : outboxes;
+            if (id >= rings.length) {
+                rings = Arrays.copyOf(rings, Math.max(rings.length << 1, id + 1));
+            }
+            if (rings[id] == null) {
+                rings[id] = new ActivityRing(inbox ? inboxSize : outboxSize);
+            }
+            if (inbox) {
+                inboxes = rings;
+            } else {
+                outboxes = rings;
+            }
+            return rings[id];
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ssafy.clonenova.feed.controller;
+
+import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.feed.dto.FeedActivityResponseDTO;
+import com.ssafy.clonenova.feed.service.FeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "피드", description = "팔로우 기반 활동 피드 API")
+@RestController
+@RequestMapping("/api/v1/feed")
+@Slf4j
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @Operation(summary = "활동 피드 조회 API", description = "내가 팔로우한 사용자들의 활동 (게임 기록 갱신, 새 팔로우) 최신순")
+    @Parameters({
+            @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor 값 (첫 페이지는 생략)"),
+            @Parameter(name = "size", description = "가져올 데이터 개수 (최대 feed.max-page-size)", example = "20"),
+    })
+    @GetMapping
+    public ResponseEntity<ScrollResponseDTO<FeedActivityResponseDTO>> getFeed(@RequestParam String userId,
+                                                                              @RequestParam(required = false) Long cursor,
+                                                                              @RequestParam(required = false) Integer size) {
+        ScrollResponseDTO<FeedActivityResponseDTO> result = feedService.getFeed(userId, cursor, size);
+        return ResponseEntity.ok(result);
+    }
+}
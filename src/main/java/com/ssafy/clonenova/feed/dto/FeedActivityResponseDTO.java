@@ -0,0 +1,38 @@
+package com.ssafy.clonenova.feed.dto;
+
+import com.ssafy.clonenova.feed.activity.ActivityType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class FeedActivityResponseDTO {
+
+    private Long id;
+    private ActivityType type;
+    private String actorUserId;
+    private String actorNickname;
+    private String targetUserId;        // FOLLOW
+    private String targetNickname;      // FOLLOW
+    private String gameId;              // GAME_RECORD
+    private Long score;                 // GAME_RECORD
+    private LocalDateTime createdAt;
+
+    @Builder
+    public FeedActivityResponseDTO(Long id, ActivityType type, String actorUserId, String actorNickname,
+                                   String targetUserId, String targetNickname, String gameId, Long score,
+                                   LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.actorUserId = actorUserId;
+        this.actorNickname = actorNickname;
+        this.targetUserId = targetUserId;
+        this.targetNickname = targetNickname;
+        this.gameId = gameId;
+        this.score = score;
+        this.createdAt = createdAt;
+    }
+}
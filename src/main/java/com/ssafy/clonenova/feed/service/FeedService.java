@@ -0,0 +1,10 @@
+package com.ssafy.clonenova.feed.service;
+
+import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.feed.dto.FeedActivityResponseDTO;
+
+public interface FeedService {
+
+    ScrollResponseDTO<FeedActivityResponseDTO> getFeed(String userId, Long cursor, Integer size);
+
+}
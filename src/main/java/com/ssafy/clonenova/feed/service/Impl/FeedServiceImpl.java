@@ -0,0 +1,94 @@
+package com.ssafy.clonenova.feed.service.Impl;
+
+import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.feed.activity.FeedActivity;
+import com.ssafy.clonenova.feed.activity.FeedStore;
+import com.ssafy.clonenova.feed.dto.FeedActivityResponseDTO;
+import com.ssafy.clonenova.feed.service.FeedService;
+import com.ssafy.clonenova.follows.graph.FollowGraph;
+import com.ssafy.clonenova.follows.profile.UserProfile;
+import com.ssafy.clonenova.follows.profile.UserProfileCache;
+import com.ssafy.clonenova.follows.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class FeedServiceImpl implements FeedService {
+
+    private final FeedStore feedStore;
+    private final FollowGraph followGraph;
+    private final FollowRepository followRepository;
+    private final UserProfileCache userProfileCache;
+
+    @Value("${feed.max-page-size:50}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    @Override
+    public ScrollResponseDTO<FeedActivityResponseDTO> getFeed(String userId, Long cursor, Integer size) {
+        int limit = (size == null || size <= 0) ? 20 : Math.min(size, maxPageSize);
+
+        // 내 inbox + 내가 팔로우 중인 fan-in 계정(팔로워가 많은 계정)의 outbox
+        List<FeedActivity> activities = feedStore.read(userId, followedFanInActors(userId), cursor, limit);
+
+        boolean hasNext = activities.size() == limit;
+        Long nextCursor = hasNext ? activities.get(activities.size() - 1).getId() : null;
+        return new ScrollResponseDTO<>(toResponseList(activities), nextCursor,
+                nextCursor != null ? String.valueOf(nextCursor) : null, hasNext);
+    }
+
+    private List<String> followedFanInActors(String userId) {
+        List<String> actors = feedStore.fanInActorIds();
+        if (actors.isEmpty()) {
+            return List.of();
+        }
+        if (followGraph.isReady()) {
+            return actors.stream()
+                    .filter(actor -> followGraph.isFollowing(userId, actor))
+                    .toList();
+        }
+        return followRepository.findFollowingIdsIn(userId, actors);
+    }
+
+    private List<FeedActivityResponseDTO> toResponseList(List<FeedActivity> activities) {
+        if (activities.isEmpty()) {
+            return List.of();
+        }
+        Set<String> userIds = new HashSet<>();
+        for (FeedActivity activity : activities) {
+            userIds.add(activity.getActorUserId());
+            if (activity.getTargetUserId() != null) {
+                userIds.add(activity.getTargetUserId());
+            }
+        }
+        Map<String, UserProfile> profiles = userProfileCache.getAll(userIds);
+        return activities.stream()
+                .map(activity -> FeedActivityResponseDTO.builder()
+                        .id(activity.getId())
+                        .type(activity.getType())
+                        .actorUserId(activity.getActorUserId())
+                        .actorNickname(nickname(profiles, activity.getActorUserId()))
+                        .targetUserId(activity.getTargetUserId())
+                        .targetNickname(nickname(profiles, activity.getTargetUserId()))
+                        .gameId(activity.getGameId())
+                        .score(activity.getScore())
+                        .createdAt(activity.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    private static String nickname(Map<String, UserProfile> profiles, String userId) {
+        UserProfile profile = userId != null ? profiles.get(userId) : null;
+        return profile != null ? profile.getNickname() : null;
+    }
+}
@@ -0,0 +1,157 @@
+package com.ssafy.clonenova.follows.coalesce;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowSearchListRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.service.FollowService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 팔로우 목록 조회 single-flight + 인기 키 단기 캐시 (FollowService.getFollowList 앞단)
+ * - 같은 키 요청이 동시에 들어오면 먼저 온 요청 하나만 조회하고 나머지는 그 결과를 같이 받음
+ *   (대형 계정 방송 시작 직후 팔로워 첫 페이지 요청이 몰려도 DB/그래프 조회는 키당 한 번)
+ * - 키별 요청 수가 hot-window-ms 안에 hot-threshold 를 넘으면 hot-ttl-ms 동안 결과를 캐시
+ * - 진행 중 조회/캐시는 그래프 버전(ETag)이 같을 때만 공유 → 이 인스턴스에서 커밋된 팔로우/언팔/프로필 변경은 바로 반영
+ *   다른 인스턴스의 변경은 hot-ttl-ms 만큼 늦게 보일 수 있음
+ * - 예외는 공유하지 않고 기다리던 요청도 같은 예외로 끝남 (캐시하지 않음)
+ * - 지표 : follows.list.coalesce{result=leader|joined|cached}
+ */
+@Slf4j
+@Component
+public class FollowListCoalescer {
+
+    private final FollowService followService;
+    private final boolean enabled;
+    private final int hotThreshold;
+    private final long hotWindowMillis;
+    private final long waitTimeoutMillis;
+
+    private final ConcurrentHashMap<FollowListKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Cache<FollowListKey, RateWindow> rates;
+    private final Cache<FollowListKey, Flight> hot;
+
+    private final Counter leaders;
+    private final Counter joined;
+    private final Counter cached;
+
+    public FollowListCoalescer(FollowService followService,
+                               MeterRegistry meterRegistry,
+                               @Value("${follows.coalesce.enabled:true}") boolean enabled,
+                               @Value("${follows.coalesce.hot-threshold:50}") int hotThreshold,
+                               @Value("${follows.coalesce.hot-window-ms:1000}") long hotWindowMillis,
+                               @Value("${follows.coalesce.hot-ttl-ms:1000}") long hotTtlMillis,
+                               @Value("${follows.coalesce.max-tracked-keys:100000}") long maxTrackedKeys,
+                               @Value("${follows.coalesce.hot-max-entries:1000}") long hotMaxEntries,
+                               @Value("${follows.coalesce.wait-timeout-ms:3000}") long waitTimeoutMillis) {
+        this.followService = followService;
+        this.enabled = enabled;
+        this.hotThreshold = hotThreshold;
+        this.hotWindowMillis = hotWindowMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        // 요청 수는 최근에 조회된 키만 추적 (윈도 2개가 지나도록 조용하면 버림)
+        this.rates = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofMillis(hotWindowMillis * 2))
+                .build();
+        this.hot = Caffeine.newBuilder()
+                .maximumSize(hotMaxEntries)
+                .expireAfterWrite(Duration.ofMillis(hotTtlMillis))
+                .build();
+        this.leaders = Counter.builder("follows.list.coalesce").tag("result", "leader").register(meterRegistry);
+        this.joined = Counter.builder("follows.list.coalesce").tag("result", "joined").register(meterRegistry);
+        this.cached = Counter.builder("follows.list.coalesce").tag("result", "cached").register(meterRegistry);
+    }
+
+    /**
+     * @param version 요청 시점 그래프 버전 (컨트롤러가 데이터보다 먼저 읽은 ETag, 없으면 합치지 않음)
+     */
+    public ScrollResponseDTO<FollowSearchListResponseDTO> getFollowList(FollowSearchListRequestDTO requestDTO, String version) throws Exception {
+        if (!enabled || version == null) {
+            return followService.getFollowList(requestDTO);
+        }
+        FollowListKey key = FollowListKey.of(requestDTO);
+        boolean isHot = rates.get(key, k -> new RateWindow()).hit(System.currentTimeMillis(), hotWindowMillis) >= hotThreshold;
+
+        Flight cachedFlight = hot.getIfPresent(key);
+        if (cachedFlight != null && cachedFlight.version.equals(version)) {
+            cached.increment();
+            return cachedFlight.future.join();
+        }
+
+        Flight flight = new Flight(version, new CompletableFuture<>());
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            if (existing.version.equals(version)) {
+                joined.increment();
+                return await(existing, requestDTO);
+            }
+            // 진행 중인 조회가 다른 버전 (팔로우 변경 직후) → 합치지 않고 직접 조회
+            return followService.getFollowList(requestDTO);
+        }
+
+        leaders.increment();
+        try {
+            ScrollResponseDTO<FollowSearchListResponseDTO> result = followService.getFollowList(requestDTO);
+            flight.future.complete(result);
+            if (isHot) {
+                hot.put(key, flight);
+            }
+            return result;
+        } catch (Exception e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private ScrollResponseDTO<FollowSearchListResponseDTO> await(Flight flight, FollowSearchListRequestDTO requestDTO) throws Exception {
+        try {
+            return flight.future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 먼저 간 요청과 같은 예외 (CustomException 등) 로 응답
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (TimeoutException e) {
+            // 먼저 간 조회가 너무 오래 걸리면 기다리지 않고 직접 조회
+            log.debug("coalesced follow list wait timeout : userId={}", requestDTO.getUserId());
+            return followService.getFollowList(requestDTO);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Flight(String version, CompletableFuture<ScrollResponseDTO<FollowSearchListResponseDTO>> future) {
+    }
+
+    // 고정 윈도 요청 수 (경계에서 약간 어긋나는 건 허용)
+    private static final class RateWindow {
+        private volatile long windowStart;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private int hit(long now, long windowMillis) {
+            if (now - windowStart >= windowMillis) {
+                windowStart = now;
+                count.set(0);
+            }
+            return count.incrementAndGet();
+        }
+    }
+}
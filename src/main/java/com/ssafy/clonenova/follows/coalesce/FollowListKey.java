@@ -0,0 +1,29 @@
+package com.ssafy.clonenova.follows.coalesce;
+
+import com.ssafy.clonenova.follows.dto.FollowSearchListRequestDTO;
+
+import java.util.Locale;
+
+/**
+ * 목록 조회 합치기/캐시 키 - 같은 키면 FollowService.getFollowList 결과가 같음
+ * - type 대소문자, 빈 keyword, size 기본값은 서비스와 같은 규칙으로 정규화
+ * - cursor 가 있으면 lastId 는 무시됨 (서비스의 resolveCursor 와 동일)
+ */
+record FollowListKey(String userId, String type, String keyword, String cursor, Long lastId, int size) {
+
+    static final int DEFAULT_SIZE = 10;
+
+    static FollowListKey of(FollowSearchListRequestDTO requestDTO) {
+        String keyword = requestDTO.getKeyword();
+        String cursor = requestDTO.getCursor();
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        Integer size = requestDTO.getSize();
+        return new FollowListKey(
+                requestDTO.getUserId(),
+                requestDTO.getType() == null ? null : requestDTO.getType().toLowerCase(Locale.ROOT),
+                keyword == null || keyword.isBlank() ? null : keyword,
+                hasCursor ? cursor : null,
+                hasCursor ? null : requestDTO.getLastId(),
+                size == null || size <= 0 ? DEFAULT_SIZE : size);
+    }
+}
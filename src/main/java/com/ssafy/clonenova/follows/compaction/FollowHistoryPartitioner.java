@@ -0,0 +1,66 @@
+package com.ssafy.clonenova.follows.compaction;
+
+import com.ssafy.clonenova.follows.repository.FollowHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * follows_history 월 단위 파티션 관리 (MySQL 전용, follows.compaction.partitioning.enabled)
+ * - 옮겨올 행이 pmax 에 쌓이지 않도록 가장 오래된 취소 행의 달 ~ 다음 달까지 파티션을 미리 만듦
+ *   (RANGE 파티션은 맨 뒤에만 추가 가능 → 처음 실행 시 가장 오래된 달부터 시작)
+ * - history-retention-months 가 지난 파티션은 DROP PARTITION 으로 통째로 삭제 (행 단위 DELETE 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowHistoryPartitioner {
+
+    private final FollowHistoryRepository followHistoryRepository;
+
+    @Value("${follows.compaction.partitioning.enabled:false}")
+    private boolean enabled;
+
+    @Value("${follows.compaction.partitioning.history-retention-months:0}")
+    private int historyRetentionMonths;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void maintain(LocalDateTime now) {
+        if (!enabled) {
+            return;
+        }
+        LocalDate thisMonth = now.toLocalDate().withDayOfMonth(1);
+        List<LocalDate> bounds = followHistoryRepository.findPartitionBounds();
+
+        LocalDate next;
+        if (bounds.isEmpty()) {
+            LocalDateTime oldest = followHistoryRepository.findOldestTombstone();
+            LocalDate start = oldest == null ? thisMonth : oldest.toLocalDate().withDayOfMonth(1);
+            next = start.plusMonths(1);
+        } else {
+            next = bounds.get(bounds.size() - 1).plusMonths(1);
+        }
+        List<LocalDate> added = new ArrayList<>();
+        for (LocalDate bound = next; !bound.isAfter(thisMonth.plusMonths(2)); bound = bound.plusMonths(1)) {
+            added.add(bound);
+        }
+        followHistoryRepository.addPartitions(added);
+
+        int dropped = 0;
+        if (historyRetentionMonths > 0) {
+            dropped = followHistoryRepository.dropPartitionsUpTo(thisMonth.minusMonths(historyRetentionMonths));
+        }
+        if (!added.isEmpty() || dropped > 0) {
+            log.info("follows_history 파티션 정리 : added={}, dropped={}", added, dropped);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ssafy.clonenova.follows.compaction;
+
+import com.ssafy.clonenova.follows.repository.FollowHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 취소 팔로우(tombstone) 정리 작업
+ * - 언팔은 deleted_at 만 채우므로 그대로 두면 follows 와 목록 인덱스가 누적 취소 행만큼 계속 커짐
+ * - retention-days 가 지난 취소 행을 follows_history 로 배치 단위 이동 (배치마다 짧은 트랜잭션 + 쉬는 시간)
+ * - 보관 기간 안의 취소 행은 그대로 남아서 Follows.restore() / upsert 복원이 같은 id 로 동작
+ *   보관된 쌍을 다시 팔로우하면 새 행으로 생성 (FOLLOW 이벤트, 결과 상태는 복원과 같음)
+ * - 활성 관계만 세는 follow_stats / 인메모리 그래프에는 영향 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowTombstoneCompactor {
+
+    private final FollowHistoryRepository followHistoryRepository;
+    private final FollowHistoryPartitioner followHistoryPartitioner;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${follows.compaction.enabled:true}")
+    private boolean enabled;
+
+    @Value("${follows.compaction.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${follows.compaction.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${follows.compaction.max-batches:1000}")
+    private int maxBatches;
+
+    @Value("${follows.compaction.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    @Scheduled(cron = "${follows.compaction.cron:0 30 3 * * *}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        followHistoryPartitioner.maintain(now);
+        compactBefore(now.minusDays(retentionDays).truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * deletedBefore 이전에 취소된 행을 최대 max-batches 배치만큼 이동 (남은 행은 다음 실행에서 처리)
+     *
+     * @return 옮긴 행 수
+     */
+    public long compactBefore(LocalDateTime deletedBefore) {
+        long start = System.currentTimeMillis();
+        long archived = 0;
+        int batches = 0;
+        while (batches < maxBatches) {
+            LocalDateTime archivedAt = LocalDateTime.now();
+            Integer moved = transactionTemplate.execute(status ->
+                    followHistoryRepository.archiveTombstones(deletedBefore, batchSize, archivedAt));
+            batches++;
+            archived += moved == null ? 0 : moved;
+            if (moved == null || moved < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        log.info("follows tombstone 정리 : archived={}, batches={}, deletedBefore={}, {}ms",
+                archived, batches, deletedBefore, System.currentTimeMillis() - start);
+        return archived;
+    }
+
+    // 복제 지연 / 잠금 대기가 쌓이지 않도록 배치 사이에 쉼
+    private boolean pause() {
+        if (batchPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ssafy.clonenova.follows.concurrency;
+
+import com.ssafy.clonenova.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 커넥션을 동시에 쥘 수 있는 수 제한 (가상 스레드 모드 전용, DbConcurrencyLimitedDataSource 가 커넥션 획득/반납 시 사용)
+ * - 플랫폼 스레드는 Tomcat 스레드 수(기본 200)가 자연스럽게 상한이 되지만,
+ *   가상 스레드는 요청 수만큼 스레드가 생겨서 수천 개가 Hikari 커넥션 대기열에 몰림
+ *   → 커넥션 타임아웃(기본 30초)까지 붙잡혀 있다가 한꺼번에 실패
+ * - permit 수를 커넥션 풀 크기에 맞추고, 못 얻으면 acquire-timeout 후 503 으로 빠르게 거절
+ * - 대기는 Semaphore 에서 하므로 가상 스레드는 carrier 를 놓고 park 됨
+ */
+public class DbConcurrencyLimiter {
+
+    private final Semaphore semaphore;
+    private final int permits;
+    private final long acquireTimeoutMillis;
+
+    public DbConcurrencyLimiter(int permits, long acquireTimeoutMillis) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive : " + permits);
+        }
+        // 공정 모드 : 먼저 온 요청부터 (대기 시간 꼬리가 길어지지 않도록)
+        this.semaphore = new Semaphore(permits, true);
+        this.permits = permits;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public void acquire() {
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 중단되었습니다.");
+        }
+        if (!acquired) {
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public int permits() {
+        return permits;
+    }
+
+    public int available() {
+        return semaphore.availablePermits();
+    }
+
+    public int waiting() {
+        return semaphore.getQueueLength();
+    }
+}
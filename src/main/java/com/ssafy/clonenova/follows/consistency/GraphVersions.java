@@ -0,0 +1,70 @@
+package com.ssafy.clonenova.follows.consistency;
+
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import com.ssafy.clonenova.follows.event.UserProfileChangedEvent;
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 팔로우 그래프 버전 (목록 조회 ETag)
+ * - follow / unfollow / restore 커밋 시 양쪽 사용자 버전 증가 (팔로워 목록, 팔로잉 목록, 맞팔 여부가 함께 바뀜)
+ * - 목록에 상대 닉네임/이메일이 들어가므로 프로필 변경 시 전역 profile 버전도 증가
+ * - ETag = 기동 epoch + 사용자 버전 + profile 버전 → 재기동/다른 인스턴스에서 만든 ETag 는 일치하지 않음 (200 으로 재전송)
+ * - 버전은 그래프/캐시 반영이 끝난 뒤 올림 (LOWEST_PRECEDENCE) + 조회는 버전을 먼저 읽고 데이터를 읽음
+ *   → 이전 데이터에 새 ETag 가 붙는 일이 없음 (반대로 새 데이터에 이전 ETag 는 다음 요청에서 200 으로 끝남)
+ * - 버전은 인스턴스 메모리 → 인메모리 그래프와 같이 자기 인스턴스에서 커밋된 변경만 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphVersions {
+
+    private final UserIdInterner interner;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong profileVersion = new AtomicLong();
+    private volatile AtomicLongArray versions = new AtomicLongArray(1024);
+
+    public String etag(String userId) {
+        return "\"" + epoch + "-" + version(userId) + "-" + profileVersion.get() + "\"";
+    }
+
+    long version(String userId) {
+        int id = interner.find(userId);
+        AtomicLongArray current = versions;
+        return id == UserIdInterner.NOT_FOUND || id >= current.length() ? 0 : current.get(id);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onFollowChanged(FollowChangedEvent event) {
+        bump(interner.intern(event.getFromUserId()));
+        bump(interner.intern(event.getToUserId()));
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        profileVersion.incrementAndGet();
+    }
+
+    // 증가는 쓰기 경로에서만 → 배열 교체와 함께 락으로 처리 (조회는 락 없음)
+    private synchronized void bump(int id) {
+        AtomicLongArray current = versions;
+        if (id >= current.length()) {
+            AtomicLongArray grown = new AtomicLongArray(Math.max(current.length() << 1, id + 1));
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            versions = grown;
+            current = grown;
+        }
+        current.incrementAndGet(id);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ssafy.clonenova.follows.consistency;
+
+import com.ssafy.clonenova.common.datasource.DataSourceRouting;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * read-your-writes 보장
+ * - 팔로우/언팔이 커밋되면 window 동안 양쪽 사용자의 조회는 replica 대신 primary 로 보냄 (replica 복제 지연 흡수)
+ * - window 는 replica 지연 상한보다 크게 (follows.datasource.read-your-writes-ms)
+ * - 라우팅이 꺼져 있으면 primary 고정이 아무 영향 없음
+ */
+@Component
+public class ReadYourWrites {
+
+    private final ConcurrentHashMap<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    @Value("${follows.datasource.read-your-writes-ms:3000}")
+    private long windowMillis;
+
+    // 팔로우한 사람(팔로잉 목록)과 팔로우 받은 사람(팔로워 목록) 모두 목록이 바뀜
+    // GraphVersions 가 ETag 버전을 올리기 전에 기록 → 새 ETag 로 조회하면 primary 에서 읽음
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onFollowChanged(FollowChangedEvent event) {
+        long until = System.currentTimeMillis() + windowMillis;
+        recentWriters.put(event.getFromUserId(), until);
+        recentWriters.put(event.getToUserId(), until);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 안에서 첫 조회 전에 호출
+     */
+    public void routeReads(String userId) {
+        Long until = recentWriters.get(userId);
+        if (until != null && System.currentTimeMillis() < until) {
+            DataSourceRouting.usePrimary();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${follows.datasource.read-your-writes-evict-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        recentWriters.values().removeIf(until -> now >= until);
+    }
+}
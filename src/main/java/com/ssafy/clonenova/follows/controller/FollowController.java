@@ -1,20 +1,40 @@
 package com.ssafy.clonenova.follows.controller;
 
 import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.follows.coalesce.FollowListCoalescer;
+import com.ssafy.clonenova.follows.consistency.GraphVersions;
+import com.ssafy.clonenova.follows.dto.FollowBulkRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowBulkResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowCountResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowRecommendResponseDTO;
 import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
 import com.ssafy.clonenova.follows.dto.FollowResponseDTO;
 import com.ssafy.clonenova.follows.dto.FollowSearchListRequestDTO;
 import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusResponseDTO;
+import com.ssafy.clonenova.follows.dto.UserSearchRequestDTO;
+import com.ssafy.clonenova.follows.dto.UserSearchResponseDTO;
+import com.ssafy.clonenova.follows.export.ExportFormat;
 import com.ssafy.clonenova.follows.service.FollowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Tag(name = "팔로우 & 팔로잉", description = "팔로우 & 팔로잉 기능 API")
 @RestController
@@ -24,18 +44,107 @@ import org.springframework.web.bind.annotation.*;
 public class FollowController {
 
     private final FollowService followService;
+    private final GraphVersions graphVersions;
+    private final FollowListCoalescer followListCoalescer;
 
     @Operation(summary = "팔로우 & 팔로잉 리스트 조회 API", description = "로그인한 사용자의 팔로우 & 팔로잉 리스트 조회(+닉네임 기반 검색)")
     @Parameters({
             @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
             @Parameter(name = "type", description = "타입", example = "follower / following", required = true),
             @Parameter(name = "keyword", description = "닉네임 기반 검색 키워드", example = "wangwang"),
-            @Parameter(name = "lastId", description = "마지막으로 받은 followId", example = "1"),
+            @Parameter(name = "cursor", description = "이전 응답의 cursor 값 (첫 페이지는 생략)"),
+            @Parameter(name = "lastId", description = "마지막으로 받은 followId (cursor 미지원 클라이언트 호환용)", example = "1"),
             @Parameter(name = "size", description = "가져올 데이터 개수", example = "10"),
     })
     @GetMapping
-    public ResponseEntity<ScrollResponseDTO<FollowSearchListResponseDTO>> getFollowList(@ModelAttribute FollowSearchListRequestDTO requestDTO) throws Exception {
-        ScrollResponseDTO<FollowSearchListResponseDTO> result = followService.getFollowList(requestDTO);
+    public ResponseEntity<ScrollResponseDTO<FollowSearchListResponseDTO>> getFollowList(@ModelAttribute FollowSearchListRequestDTO requestDTO,
+                                                                                      WebRequest webRequest) throws Exception {
+        // 그래프 버전을 데이터보다 먼저 읽음 + 변경이 없으면 조회/직렬화 없이 304
+        String etag = requestDTO.getUserId() != null ? graphVersions.etag(requestDTO.getUserId()) : null;
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        // 같은 버전의 동일 요청은 진행 중인 조회 하나를 공유 (인기 키는 짧게 캐시)
+        ScrollResponseDTO<FollowSearchListResponseDTO> result = followListCoalescer.getFollowList(requestDTO, etag);
+        if (etag == null) {
+            return ResponseEntity.ok(result);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())    // 매번 If-None-Match 로 재검증
+                .body(result);
+    }
+
+
+    @Operation(summary = "팔로워 & 팔로잉 전체 내보내기 API", description = "팔로워/팔로잉 전체 목록을 NDJSON 또는 CSV 로 스트리밍 다운로드")
+    @Parameters({
+            @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "type", description = "타입", example = "follower / following", required = true),
+            @Parameter(name = "format", description = "파일 형식 (기본 ndjson)", example = "ndjson / csv"),
+    })
+    @GetMapping("/export")
+    public void exportFollowList(@RequestParam String userId,
+                                 @RequestParam String type,
+                                 @RequestParam(required = false) String format,
+                                 HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("follows." + exportFormat.getExtension())
+                .build()
+                .toString());
+        // 행 단위로 바로 응답에 기록 (chunked 전송, 서버는 버퍼 크기만큼만 메모리 사용)
+        followService.exportFollowList(userId, type, exportFormat, response.getOutputStream());
+    }
+
+
+    @Operation(summary = "회원 검색 API", description = "닉네임 기반 전체 회원 검색 (FF03)")
+    @Parameters({
+            @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정! (팔로우 여부 표시용)"),
+            @Parameter(name = "keyword", description = "닉네임 검색 키워드", example = "wangwang", required = true),
+            @Parameter(name = "cursor", description = "이전 응답의 cursor 값 (첫 페이지는 생략)"),
+            @Parameter(name = "size", description = "가져올 데이터 개수", example = "10"),
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ScrollResponseDTO<UserSearchResponseDTO>> searchUsers(@ModelAttribute UserSearchRequestDTO requestDTO) {
+        ScrollResponseDTO<UserSearchResponseDTO> result = followService.searchUsers(requestDTO);
+        return ResponseEntity.ok(result);
+    }
+
+
+    @Operation(summary = "팔로워 & 팔로잉 수 조회 API", description = "프로필 화면용 팔로워/팔로잉 수 조회 (follow_stats 기반)")
+    @Parameters({
+            @Parameter(name = "userId", description = "조회할 사용자 id(pk)", required = true),
+    })
+    @GetMapping("/count")
+    public ResponseEntity<FollowCountResponseDTO> getFollowCount(@RequestParam String userId) {
+        FollowCountResponseDTO result = followService.getFollowCount(userId);
+        return ResponseEntity.ok(result);
+    }
+
+
+    @Operation(summary = "팔로우 관계 일괄 조회 API", description = "리더보드/검색 결과의 여러 사용자에 대해 내가 팔로우 중인지, 나를 팔로우 중인지 한 번에 조회")
+    @Parameters({
+            @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "targetIds", description = "확인할 사용자 id(pk) 목록 (최대 follows.status.max-size)", required = true),
+    })
+    @PostMapping("/status")     // 조회지만 대상이 최대 수백 명이라 query string 대신 body 로 받음
+    public ResponseEntity<List<FollowStatusResponseDTO>> getFollowStatuses(@RequestBody FollowStatusRequestDTO requestDTO) {
+        List<FollowStatusResponseDTO> result = followService.getFollowStatuses(requestDTO);
+        return ResponseEntity.ok(result);
+    }
+
+
+    @Operation(summary = "알 수도 있는 사람 추천 API", description = "내가 팔로우한 사람들이 많이 팔로우한 사용자 추천 (이미 팔로우 중인 사용자 제외)")
+    @Parameters({
+            @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "size", description = "가져올 데이터 개수 (최대 follows.recommend.max-size)", example = "10"),
+    })
+    @GetMapping("/recommend")
+    public ResponseEntity<List<FollowRecommendResponseDTO>> getRecommendations(@RequestParam String userId,
+                                                                               @RequestParam(required = false) Integer size) {
+        List<FollowRecommendResponseDTO> result = followService.getRecommendations(userId, size);
         return ResponseEntity.ok(result);
     }
 
@@ -49,7 +158,8 @@ public class FollowController {
     public ResponseEntity<FollowResponseDTO> follow(@RequestBody FollowRequestDTO requestDTO) throws Exception {
 
         FollowResponseDTO result = followService.follow(requestDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        // 이미 팔로우 중이면 200 (멱등), 새로 생기거나 복원되면 201
+        return ResponseEntity.status(result.isChanged() ? HttpStatus.CREATED : HttpStatus.OK).body(result);
     }
 
 
@@ -64,4 +174,28 @@ public class FollowController {
 
         return ResponseEntity.noContent().build();
     }
+
+
+    @Operation(summary = "팔로우 일괄 추가 API", description = "로그인한 사용자가 여러 사용자를 한 번에 팔로우 하는 기능 (추천 선수 전체 팔로우 등)")
+    @Parameters({
+            @Parameter(name = "fromUserId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "toUserIds", description = "팔로우할 타겟 사용자 id(pk) 목록 (최대 follows.bulk.max-size)", required = true),
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<FollowBulkResponseDTO> followAll(@RequestBody FollowBulkRequestDTO requestDTO) {
+        FollowBulkResponseDTO result = followService.followAll(requestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+
+    @Operation(summary = "팔로우 일괄 취소 API", description = "로그인한 사용자가 여러 사용자의 팔로우를 한 번에 취소하는 기능")
+    @Parameters({
+            @Parameter(name = "fromUserId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "toUserIds", description = "팔로우 취소할 타겟 사용자 id(pk) 목록", required = true),
+    })
+    @PutMapping("/bulk")
+    public ResponseEntity<FollowBulkResponseDTO> unfollowAll(@RequestBody FollowBulkRequestDTO requestDTO) {
+        FollowBulkResponseDTO result = followService.unfollowAll(requestDTO);
+        return ResponseEntity.ok(result);
+    }
 }
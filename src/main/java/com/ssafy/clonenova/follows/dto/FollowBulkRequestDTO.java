@@ -0,0 +1,22 @@
+package com.ssafy.clonenova.follows.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class FollowBulkRequestDTO {
+
+    // TODO : currentUser 구현체 통해서 로그인한 사용자 id(pk) 가져올 예정
+    private String fromUserId;
+    private List<String> toUserIds;
+
+    @Builder
+    public FollowBulkRequestDTO(String fromUserId, List<String> toUserIds) {
+        this.fromUserId = fromUserId;
+        this.toUserIds = toUserIds;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.clonenova.follows.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class FollowBulkResponseDTO {
+
+    private String fromUserId;
+    private int requested;  // 중복/본인 제외한 요청 대상 수
+    private int changed;    // 실제로 팔로우(신규+복원) 또는 언팔된 수
+    private int unchanged;  // 이미 요청한 상태였던 수
+
+    @Builder
+    public FollowBulkResponseDTO(String fromUserId, int requested, int changed, int unchanged) {
+        this.fromUserId = fromUserId;
+        this.requested = requested;
+        this.changed = changed;
+        this.unchanged = unchanged;
+    }
+}
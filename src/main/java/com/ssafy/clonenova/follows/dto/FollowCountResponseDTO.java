@@ -0,0 +1,21 @@
+package com.ssafy.clonenova.follows.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class FollowCountResponseDTO {
+
+    private String userId;
+    private long followerCount;
+    private long followingCount;
+
+    @Builder
+    public FollowCountResponseDTO(String userId, long followerCount, long followingCount) {
+        this.userId = userId;
+        this.followerCount = followerCount;
+        this.followingCount = followingCount;
+    }
+}
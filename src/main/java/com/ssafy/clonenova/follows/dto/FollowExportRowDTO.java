@@ -0,0 +1,19 @@
+package com.ssafy.clonenova.follows.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로워/팔로잉 전체 내보내기 한 행 (상대방 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class FollowExportRowDTO {
+
+    private final String userId;
+    private final String email;
+    private final String nickname;
+    private final LocalDateTime followedAt;
+}
@@ -0,0 +1,21 @@
+package com.ssafy.clonenova.follows.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class FollowRecommendResponseDTO {
+
+    private String userId;
+    private String nickname;
+    private long mutualCount;   // 내 팔로잉 중 이 사용자를 팔로우 중인 사람 수
+
+    @Builder
+    public FollowRecommendResponseDTO(String userId, String nickname, long mutualCount) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.mutualCount = mutualCount;
+    }
+}
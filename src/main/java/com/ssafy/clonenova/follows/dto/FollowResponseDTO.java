@@ -11,12 +11,15 @@ public class FollowResponseDTO {
     private Long followId;
     private String fromUserId;
     private String toUserId;
+    // false 면 이미 팔로우 중이라 변경 없음 (재시도해도 같은 응답)
+    private boolean changed;
 
     @Builder
-    public FollowResponseDTO(Long followId, String fromUserId, String toUserId) {
+    public FollowResponseDTO(Long followId, String fromUserId, String toUserId, boolean changed) {
         this.followId = followId;
         this.fromUserId = fromUserId;
         this.toUserId = toUserId;
+        this.changed = changed;
     }
 
 }
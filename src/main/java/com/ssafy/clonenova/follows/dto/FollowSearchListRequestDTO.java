@@ -13,7 +13,8 @@ public class FollowSearchListRequestDTO {
     private String keyword; // 검색 시 사용 - 타겟 nickname
 
     // Scroll
-    private Long lastId;
+    private String cursor;  // 이전 응답의 cursor (createdAt, id 복합 커서)
+    private Long lastId;    // 구버전 클라이언트 호환용 (cursor 가 없을 때만 사용)
     private Integer size;
 
 }
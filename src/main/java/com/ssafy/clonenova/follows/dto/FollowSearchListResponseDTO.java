@@ -1,25 +1,40 @@
 package com.ssafy.clonenova.follows.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 public class FollowSearchListResponseDTO {
 
     private Long id;
+    @JsonIgnore
+    private LocalDateTime createdAt;   // 커서 생성용 (응답에는 미포함)
     private String userId;
     private String email;
     private String nickname;
     private boolean isFollowingBack;   // 맞팔여부
 
     @Builder
-    public FollowSearchListResponseDTO(Long id,String userId, String email, String nickname, boolean isFollowingBack) {
+    public FollowSearchListResponseDTO(Long id, LocalDateTime createdAt, String userId, String email, String nickname, boolean isFollowingBack) {
         this.id = id;
+        this.createdAt = createdAt;
         this.userId = userId;
         this.email = email;
         this.nickname = nickname;
         this.isFollowingBack = isFollowingBack;
     }
+
+    // 쿼리 projection 용 (맞팔 여부는 조회 후 비트맵으로 채움)
+    public FollowSearchListResponseDTO(Long id, LocalDateTime createdAt, String userId, String email, String nickname) {
+        this(id, createdAt, userId, email, nickname, false);
+    }
+
+    public FollowSearchListResponseDTO withFollowingBack(boolean isFollowingBack) {
+        return new FollowSearchListResponseDTO(id, createdAt, userId, email, nickname, isFollowingBack);
+    }
 }
@@ -0,0 +1,22 @@
+package com.ssafy.clonenova.follows.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class FollowStatusRequestDTO {
+
+    // TODO : currentUser 구현체 통해서 로그인한 사용자 id(pk) 가져올 예정
+    private String userId;
+    private List<String> targetIds;
+
+    @Builder
+    public FollowStatusRequestDTO(String userId, List<String> targetIds) {
+        this.userId = userId;
+        this.targetIds = targetIds;
+    }
+}
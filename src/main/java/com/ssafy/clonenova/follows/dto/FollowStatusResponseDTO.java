@@ -0,0 +1,21 @@
+package com.ssafy.clonenova.follows.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class FollowStatusResponseDTO {
+
+    private String userId;          // 대상 사용자 id
+    private boolean following;      // 내가 대상을 팔로우 중인지
+    private boolean followedBy;     // 대상이 나를 팔로우 중인지
+
+    @Builder
+    public FollowStatusResponseDTO(String userId, boolean following, boolean followedBy) {
+        this.userId = userId;
+        this.following = following;
+        this.followedBy = followedBy;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.clonenova.follows.dto;
+
+import lombok.*;
+
+
+@Getter
+@AllArgsConstructor
+public class UserSearchRequestDTO {
+
+    // TODO : currentUser 구현체 통해서 로그인한 사용자 id(pk) 가져올 예정
+    private String userId;  // 로그인한 사용자 Id (팔로우 여부 표시용, null 허용)
+    private String keyword; // 닉네임 검색어
+
+    // Scroll
+    private String cursor;  // 이전 응답의 cursor (마지막 userId)
+    private Integer size;
+
+}
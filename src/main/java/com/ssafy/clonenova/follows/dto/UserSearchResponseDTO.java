@@ -0,0 +1,21 @@
+package com.ssafy.clonenova.follows.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class UserSearchResponseDTO {
+
+    private String userId;
+    private String nickname;
+    private boolean isFollowing;   // 로그인한 사용자가 팔로우 중인지 여부
+
+    @Builder
+    public UserSearchResponseDTO(String userId, String nickname, boolean isFollowing) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.isFollowing = isFollowing;
+    }
+}
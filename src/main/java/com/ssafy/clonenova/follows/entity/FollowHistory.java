@@ -0,0 +1,52 @@
+package com.ssafy.clonenova.follows.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 취소 팔로우 (follows 에서 옮겨온 행, V6 마이그레이션)
+ * - id 는 원래 follows.id 그대로 (보관된 쌍을 다시 팔로우하면 follows 에 새 id 로 생성)
+ * - MySQL 에서는 deleted_at 월 단위 RANGE 파티션이라 PK 가 (id, deleted_at)
+ */
+@Entity
+@Table(name = "follows_history", indexes = {
+        @Index(name = "idx_follows_history_pair", columnList = "from_user_id, to_user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FollowHistory {
+
+    @Id
+    private Long id;
+
+    @Column(name = "from_user_id", columnDefinition = "VARCHAR(36)")
+    private String fromUserId;
+
+    @Column(name = "to_user_id", columnDefinition = "VARCHAR(36)")
+    private String toUserId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Builder
+    public FollowHistory(Long id, String fromUserId, String toUserId, LocalDateTime createdAt,
+                         LocalDateTime deletedAt, LocalDateTime archivedAt) {
+        this.id = id;
+        this.fromUserId = fromUserId;
+        this.toUserId = toUserId;
+        this.createdAt = createdAt;
+        this.deletedAt = deletedAt;
+        this.archivedAt = archivedAt;
+    }
+}
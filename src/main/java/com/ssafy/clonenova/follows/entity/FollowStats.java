@@ -0,0 +1,37 @@
+package com.ssafy.clonenova.follows.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "follow_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FollowStats {
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "VARCHAR(36)")
+    private String userId;
+
+    @Column(name = "follower_count", nullable = false)
+    private long followerCount;
+
+    @Column(name = "following_count", nullable = false)
+    private long followingCount;
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public FollowStats(String userId, long followerCount, long followingCount, LocalDateTime updatedAt) {
+        this.userId = userId;
+        this.followerCount = followerCount;
+        this.followingCount = followingCount;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -7,9 +7,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "follows")
+@Table(name = "follows", uniqueConstraints = {
+        // 한 쌍당 한 행 (V3 마이그레이션) → 팔로우/복원은 upsert 한 문장으로 처리
+        @UniqueConstraint(name = "uk_follows_from_to", columnNames = {"from_user_id", "to_user_id"})
+}, indexes = {
+        // 목록 조회 정렬/커서 (createdAt DESC, id DESC) 와 동일한 순서의 복합 인덱스 (V2 마이그레이션)
+        @Index(name = "idx_follows_to_user_page", columnList = "to_user_id, deleted_at, created_at, id"),
+        @Index(name = "idx_follows_from_user_page", columnList = "from_user_id, deleted_at, created_at, id"),
+        // 보관 기간이 지난 취소 행만 range scan (FollowTombstoneCompactor, V6 마이그레이션)
+        @Index(name = "idx_follows_deleted_at", columnList = "deleted_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Follows {
@@ -40,6 +50,7 @@ public class Follows {
 
     public void restore() {
         this.deletedAt = null;
-        this.createdAt = LocalDateTime.now();
+        // TIMESTAMP 컬럼 정밀도(초)에 맞춰서 커서/인메모리 정렬 값과 DB 값이 어긋나지 않도록 함
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
     }
 }
@@ -1,5 +1,6 @@
 package com.ssafy.clonenova.follows.entity;
 
+import com.ssafy.clonenova.follows.event.UserEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "user")
+@EntityListeners(UserEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
@@ -59,4 +61,9 @@ public class User {
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
     }
+
+    public void updateNickname(String nickname) {
+        this.nickname = nickname;
+        this.updatedAt = LocalDateTime.now();
+    }
 }
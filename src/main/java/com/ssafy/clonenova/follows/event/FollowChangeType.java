@@ -0,0 +1,7 @@
+package com.ssafy.clonenova.follows.event;
+
+public enum FollowChangeType {
+    FOLLOW,     // 첫 팔로우 (insert)
+    RESTORE,    // 언팔했던 관계 복원 (deletedAt -> null)
+    UNFOLLOW    // 팔로우 취소 (deletedAt 세팅)
+}
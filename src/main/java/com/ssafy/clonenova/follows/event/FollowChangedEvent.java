@@ -0,0 +1,33 @@
+package com.ssafy.clonenova.follows.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로우 관계 변경 이벤트
+ * - FollowServiceImpl 에서 발행하고, 커밋 이후(AFTER_COMMIT) 인메모리 인덱스 등이 구독해서 반영
+ */
+@Getter
+public class FollowChangedEvent {
+
+    private final FollowChangeType type;
+    private final Long followId;        // UNFOLLOW 시 null 일 수 있음
+    private final String fromUserId;
+    private final String toUserId;
+    private final LocalDateTime createdAt;
+
+    @Builder
+    public FollowChangedEvent(FollowChangeType type, Long followId, String fromUserId, String toUserId, LocalDateTime createdAt) {
+        this.type = type;
+        this.followId = followId;
+        this.fromUserId = fromUserId;
+        this.toUserId = toUserId;
+        this.createdAt = createdAt;
+    }
+
+    public boolean isActive() {
+        return type != FollowChangeType.UNFOLLOW;
+    }
+}
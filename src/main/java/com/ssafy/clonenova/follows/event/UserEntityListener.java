@@ -0,0 +1,38 @@
+package com.ssafy.clonenova.follows.event;
+
+import com.ssafy.clonenova.follows.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * user 엔티티 변경 → UserProfileChangedEvent 발행
+ * (Spring 빈으로 등록돼 있어서 Hibernate 가 주입된 인스턴스를 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(User user) {
+        eventPublisher.publishEvent(UserProfileChangedEvent.builder()
+                .userId(user.getId())
+                .nickname(user.getNickname())
+                .active(user.getDeletedAt() == null)
+                .build());
+    }
+
+    @PostRemove
+    public void onRemoved(User user) {
+        eventPublisher.publishEvent(UserProfileChangedEvent.builder()
+                .userId(user.getId())
+                .active(false)
+                .build());
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy.clonenova.follows.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 회원 프로필(닉네임 등) 변경 이벤트
+ * - UserEntityListener 가 user 엔티티 저장/수정/삭제 시 발행
+ * - 닉네임 색인 등 인메모리 인덱스가 커밋 이후 반영
+ */
+@Getter
+public class UserProfileChangedEvent {
+
+    private final String userId;
+    private final String nickname;
+    private final boolean active;   // 탈퇴(deletedAt 세팅/삭제) 시 false
+
+    @Builder
+    public UserProfileChangedEvent(String userId, String nickname, boolean active) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.active = active;
+    }
+}
@@ -0,0 +1,129 @@
+package com.ssafy.clonenova.follows.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ssafy.clonenova.follows.dto.FollowExportRowDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 내보내기 행을 응답 스트림에 바로 기록 (행 단위, 버퍼 크기만큼만 메모리 사용)
+ * - 스트림 쓰기 실패(클라이언트 연결 끊김 등)는 UncheckedIOException → 스크롤 중단 + 트랜잭션 종료
+ * - close 는 flush 만 하고 응답 스트림은 닫지 않음 (컨테이너 소유)
+ */
+public abstract class FollowExportWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    protected final Writer out;
+
+    protected FollowExportWriter(OutputStream outputStream) {
+        this.out = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public static FollowExportWriter open(ExportFormat format, OutputStream outputStream) {
+        return switch (format) {
+            case NDJSON -> new Ndjson(outputStream);
+            case CSV -> new Csv(outputStream);
+        };
+    }
+
+    public final void write(FollowExportRowDTO row) {
+        try {
+            writeRow(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void writeRow(FollowExportRowDTO row) throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+
+    private static final class Ndjson extends FollowExportWriter {
+        private final JsonGenerator generator;
+
+        private Ndjson(OutputStream outputStream) {
+            super(outputStream);
+            try {
+                this.generator = JSON_FACTORY.createGenerator(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // 생성기가 out 을 닫지 않도록 (flush 만)
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        protected void writeRow(FollowExportRowDTO row) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("userId", row.getUserId());
+            generator.writeStringField("email", row.getEmail());
+            generator.writeStringField("nickname", row.getNickname());
+            generator.writeStringField("followedAt", row.getFollowedAt() == null ? null : row.getFollowedAt().toString());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+            super.close();
+        }
+    }
+
+    private static final class Csv extends FollowExportWriter {
+        private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+        private Csv(OutputStream outputStream) {
+            super(outputStream);
+            try {
+                out.write("userId,email,nickname,followedAt\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        protected void writeRow(FollowExportRowDTO row) throws IOException {
+            writeField(row.getUserId());
+            out.write(',');
+            writeField(row.getEmail());
+            out.write(',');
+            writeField(row.getNickname());
+            out.write(',');
+            writeField(row.getFollowedAt() == null ? null : FORMATTER.format(row.getFollowedAt()));
+            out.write('\n');
+        }
+
+        // RFC 4180 : 쉼표/따옴표/개행이 있으면 따옴표로 감싸고 따옴표는 두 번
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.ssafy.clonenova.follows.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 사용자의 한 방향(in 또는 out) 간선 목록
+ * - 시간순 배열 : (createdAt, followId) 오름차순 → 최신순 페이지는 뒤에서부터 읽음
+ * - peer 순 배열 : peer id 오름차순 → 다른 id 집합과의 교집합
+ * - members 비트맵 : 멤버십(맞팔 여부) 확인을 O(1) 에 가깝게 처리
+ * 두 배열 모두 같은 간선을 담고 있고, primitive 배열이라 박싱/객체 헤더 비용이 없음
+ */
+final class Adjacency {
+
+    private static final int[] EMPTY_INTS = new int[0];
+    private static final long[] EMPTY_LONGS = new long[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int size;
+
+    // 시간순 정렬 (병렬 배열)
+    private long[] createdAts = EMPTY_LONGS;
+    private long[] followIds = EMPTY_LONGS;
+    private int[] peers = EMPTY_INTS;
+
+    // peer 순 정렬 (병렬 배열)
+    private int[] sortedPeers = EMPTY_INTS;
+    private long[] peerCreatedAts = EMPTY_LONGS;
+    private long[] peerFollowIds = EMPTY_LONGS;
+
+    // peer id 집합 (Roaring 방식 압축 비트맵)
+    private IntBitmap members = new IntBitmap();
+
+    /**
+     * 간선 추가 (이미 같은 peer 가 있으면 교체)
+     */
+    void add(int peer, long followId, long createdAt) {
+        lock.writeLock().lock();
+        try {
+            int pos = Arrays.binarySearch(sortedPeers, 0, size, peer);
+            if (pos >= 0) {
+                // 기존 간선 교체 : 시간순 배열에서만 자리 이동
+                removeFromTimeline(peerCreatedAts[pos], peerFollowIds[pos], size);
+                insertTimeline(peer, followId, createdAt, size - 1);
+                peerCreatedAts[pos] = createdAt;
+                peerFollowIds[pos] = followId;
+                return;
+            }
+            ensureCapacity(size + 1);
+            insertPeer(-pos - 1, peer, followId, createdAt);
+            insertTimeline(peer, followId, createdAt, size);
+            members.add(peer);
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 간선 제거
+     *
+     * @return 실제로 제거됐으면 true
+     */
+    boolean remove(int peer) {
+        lock.writeLock().lock();
+        try {
+            int pos = Arrays.binarySearch(sortedPeers, 0, size, peer);
+            if (pos < 0) {
+                return false;
+            }
+            removeFromTimeline(peerCreatedAts[pos], peerFollowIds[pos], size);
+            int moved = size - pos - 1;
+            System.arraycopy(sortedPeers, pos + 1, sortedPeers, pos, moved);
+            System.arraycopy(peerCreatedAts, pos + 1, peerCreatedAts, pos, moved);
+            System.arraycopy(peerFollowIds, pos + 1, peerFollowIds, pos, moved);
+            members.remove(peer);
+            size--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean contains(int peer) {
+        lock.readLock().lock();
+        try {
+            return members.contains(peer);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 최근 간선의 peer id (최신순, 최대 limit 개)
+     */
+    int[] recentPeers(int limit) {
+        lock.readLock().lock();
+        try {
+            int count = Math.min(limit, size);
+            int[] result = new int[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = peers[size - 1 - i];
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 최신순 페이지 조회
+     *
+     * @param hasCursor       false 면 첫 페이지
+     * @param cursorCreatedAt 이전 페이지 마지막 간선의 createdAt (epoch millis)
+     * @param cursorFollowId  이전 페이지 마지막 간선의 followId
+     * @param limit           가져올 개수
+     */
+    List<Edge> page(boolean hasCursor, long cursorCreatedAt, long cursorFollowId, int limit) {
+        lock.readLock().lock();
+        try {
+            // (createdAt, followId) 가 커서보다 작은 마지막 위치를 이진탐색 → 깊은 페이지도 O(log n)
+            int from = hasCursor ? lowerBound(cursorCreatedAt, cursorFollowId, size) - 1 : size - 1;
+
+            int count = Math.min(limit, from + 1);
+            List<Edge> result = new ArrayList<>(Math.max(count, 0));
+            for (int i = from; i > from - count; i--) {
+                result.add(new Edge(peers[i], followIds[i], createdAts[i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * candidates(peer id 오름차순) 에 속한 간선만 최신순 페이지 조회
+     * - 후보가 간선 수보다 적으면 후보 기준으로 peer 배열을 이진탐색 + top-K
+     * - 후보가 더 많으면 시간순 배열을 커서부터 훑으면서 후보 여부만 확인
+     */
+    List<Edge> pageMatching(int[] candidates, boolean hasCursor, long cursorCreatedAt, long cursorFollowId, int limit) {
+        lock.readLock().lock();
+        try {
+            long maxCreatedAt = hasCursor ? cursorCreatedAt : Long.MAX_VALUE;
+            long maxFollowId = hasCursor ? cursorFollowId : Long.MAX_VALUE;
+
+            if (candidates.length < size) {
+                TopEdges top = new TopEdges(limit);
+                for (int candidate : candidates) {
+                    // 대부분의 후보는 비트맵에서 바로 걸러짐
+                    if (!members.contains(candidate)) {
+                        continue;
+                    }
+                    int pos = Arrays.binarySearch(sortedPeers, 0, size, candidate);
+                    if (pos >= 0 && compare(peerCreatedAts[pos], peerFollowIds[pos], maxCreatedAt, maxFollowId) < 0) {
+                        top.offer(candidate, peerFollowIds[pos], peerCreatedAts[pos]);
+                    }
+                }
+                return top.toDescendingList();
+            }
+
+            int from = hasCursor ? lowerBound(cursorCreatedAt, cursorFollowId, size) - 1 : size - 1;
+            List<Edge> result = new ArrayList<>(limit);
+            for (int i = from; i >= 0 && result.size() < limit; i--) {
+                if (Arrays.binarySearch(candidates, peers[i]) >= 0) {
+                    result.add(new Edge(peers[i], followIds[i], createdAts[i]));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 워밍 시 정렬 없이 뒤에 붙이기만 함 → 로딩 종료 후 seal() 호출 필수
+     */
+    void append(int peer, long followId, long createdAt) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(size + 1);
+            peers[size] = peer;
+            followIds[size] = followId;
+            createdAts[size] = createdAt;
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * append 로 쌓인 간선을 정렬해서 두 배열을 구성 (중복 peer 는 최신 간선만 남김)
+     */
+    void seal() {
+        lock.writeLock().lock();
+        try {
+            System.arraycopy(peers, 0, sortedPeers, 0, size);
+            System.arraycopy(followIds, 0, peerFollowIds, 0, size);
+            System.arraycopy(createdAts, 0, peerCreatedAts, 0, size);
+            sortByPeer(0, size - 1);
+
+            // 같은 peer 가 연속으로 모여 있으므로 마지막(최신) 것만 남김
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (i + 1 < size && sortedPeers[i + 1] == sortedPeers[i]) {
+                    continue;
+                }
+                sortedPeers[distinct] = sortedPeers[i];
+                peerFollowIds[distinct] = peerFollowIds[i];
+                peerCreatedAts[distinct] = peerCreatedAts[i];
+                distinct++;
+            }
+            size = distinct;
+
+            members = new IntBitmap();
+            for (int i = 0; i < size; i++) {
+                members.add(sortedPeers[i]);
+            }
+
+            System.arraycopy(sortedPeers, 0, peers, 0, size);
+            System.arraycopy(peerFollowIds, 0, followIds, 0, size);
+            System.arraycopy(peerCreatedAts, 0, createdAts, 0, size);
+            sortByTime(0, size - 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 시간순 배열(길이 length)에 삽입
+    private void insertTimeline(int peer, long followId, long createdAt, int length) {
+        // 대부분 최신 간선이므로 맨 뒤면 이진탐색 없이 바로 붙임
+        int pos = length == 0 || compare(createdAts[length - 1], followIds[length - 1], createdAt, followId) < 0
+                ? length : lowerBound(createdAt, followId, length);
+        System.arraycopy(peers, pos, peers, pos + 1, length - pos);
+        System.arraycopy(followIds, pos, followIds, pos + 1, length - pos);
+        System.arraycopy(createdAts, pos, createdAts, pos + 1, length - pos);
+        peers[pos] = peer;
+        followIds[pos] = followId;
+        createdAts[pos] = createdAt;
+    }
+
+    private void insertPeer(int pos, int peer, long followId, long createdAt) {
+        System.arraycopy(sortedPeers, pos, sortedPeers, pos + 1, size - pos);
+        System.arraycopy(peerFollowIds, pos, peerFollowIds, pos + 1, size - pos);
+        System.arraycopy(peerCreatedAts, pos, peerCreatedAts, pos + 1, size - pos);
+        sortedPeers[pos] = peer;
+        peerFollowIds[pos] = followId;
+        peerCreatedAts[pos] = createdAt;
+    }
+
+    // 시간순 배열(길이 length)에서 제거 → peer 순 배열에 있는 (createdAt, followId) 로 바로 위치를 찾음
+    private void removeFromTimeline(long createdAt, long followId, int length) {
+        int pos = lowerBound(createdAt, followId, length);
+        System.arraycopy(peers, pos + 1, peers, pos, length - pos - 1);
+        System.arraycopy(followIds, pos + 1, followIds, pos, length - pos - 1);
+        System.arraycopy(createdAts, pos + 1, createdAts, pos, length - pos - 1);
+    }
+
+    // (createdAt, followId) 이상인 첫 위치
+    private int lowerBound(long createdAt, long followId, int length) {
+        int lo = 0;
+        int hi = length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(createdAts[mid], followIds[mid], createdAt, followId) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= peers.length) {
+            return;
+        }
+        int capacity = Math.max(4, Math.max(required, peers.length + (peers.length >> 1)));
+        peers = Arrays.copyOf(peers, capacity);
+        followIds = Arrays.copyOf(followIds, capacity);
+        createdAts = Arrays.copyOf(createdAts, capacity);
+        sortedPeers = Arrays.copyOf(sortedPeers, capacity);
+        peerFollowIds = Arrays.copyOf(peerFollowIds, capacity);
+        peerCreatedAts = Arrays.copyOf(peerCreatedAts, capacity);
+    }
+
+    private void sortByTime(int lo, int hi) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            long pivotCreatedAt = createdAts[mid];
+            long pivotFollowId = followIds[mid];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (compare(createdAts[i], followIds[i], pivotCreatedAt, pivotFollowId) < 0) i++;
+                while (compare(createdAts[j], followIds[j], pivotCreatedAt, pivotFollowId) > 0) j--;
+                if (i <= j) {
+                    swap(peers, followIds, createdAts, i++, j--);
+                }
+            }
+            // 작은 쪽만 재귀 → 스택 깊이 O(log n)
+            if (j - lo < hi - i) {
+                sortByTime(lo, j);
+                lo = i;
+            } else {
+                sortByTime(i, hi);
+                hi = j;
+            }
+        }
+    }
+
+    // peer 오름차순, 같은 peer 는 (createdAt, followId) 오름차순
+    private void sortByPeer(int lo, int hi) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int pivotPeer = sortedPeers[mid];
+            long pivotCreatedAt = peerCreatedAts[mid];
+            long pivotFollowId = peerFollowIds[mid];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (comparePeer(i, pivotPeer, pivotCreatedAt, pivotFollowId) < 0) i++;
+                while (comparePeer(j, pivotPeer, pivotCreatedAt, pivotFollowId) > 0) j--;
+                if (i <= j) {
+                    swap(sortedPeers, peerFollowIds, peerCreatedAts, i++, j--);
+                }
+            }
+            if (j - lo < hi - i) {
+                sortByPeer(lo, j);
+                lo = i;
+            } else {
+                sortByPeer(i, hi);
+                hi = j;
+            }
+        }
+    }
+
+    private int comparePeer(int idx, int peer, long createdAt, long followId) {
+        int cmp = Integer.compare(sortedPeers[idx], peer);
+        return cmp != 0 ? cmp : compare(peerCreatedAts[idx], peerFollowIds[idx], createdAt, followId);
+    }
+
+    private static void swap(int[] ints, long[] longsA, long[] longsB, int a, int b) {
+        int p = ints[a]; ints[a] = ints[b]; ints[b] = p;
+        long f = longsA[a]; longsA[a] = longsA[b]; longsA[b] = f;
+        long c = longsB[a]; longsB[a] = longsB[b]; longsB[b] = c;
+    }
+
+    private static int compare(long createdAtA, long followIdA, long createdAtB, long followIdB) {
+        int cmp = Long.compare(createdAtA, createdAtB);
+        return cmp != 0 ? cmp : Long.compare(followIdA, followIdB);
+    }
+
+    /**
+     * 페이지 조회 결과 한 건 (peer 는 내부 int id)
+     */
+    record Edge(int peer, long followId, long createdAt) {
+    }
+
+    /**
+     * (createdAt, followId) 기준 상위 K 개만 유지하는 min-heap
+     */
+    private static final class TopEdges {
+        private final Edge[] heap;
+        private int count;
+
+        private TopEdges(int limit) {
+            this.heap = new Edge[Math.max(limit, 0)];
+        }
+
+        private void offer(int peer, long followId, long createdAt) {
+            if (heap.length == 0) {
+                return;
+            }
+            if (count < heap.length) {
+                heap[count] = new Edge(peer, followId, createdAt);
+                siftUp(count++);
+            } else if (compare(createdAt, followId, heap[0].createdAt(), heap[0].followId()) > 0) {
+                heap[0] = new Edge(peer, followId, createdAt);
+                siftDown(0);
+            }
+        }
+
+        private List<Edge> toDescendingList() {
+            Edge[] sorted = Arrays.copyOf(heap, count);
+            Arrays.sort(sorted, (a, b) -> compare(b.createdAt(), b.followId(), a.createdAt(), a.followId()));
+            return Arrays.asList(sorted);
+        }
+
+        private void siftUp(int idx) {
+            while (idx > 0) {
+                int parent = (idx - 1) >>> 1;
+                if (less(heap[parent], heap[idx])) {
+                    break;
+                }
+                swapHeap(parent, idx);
+                idx = parent;
+            }
+        }
+
+        private void siftDown(int idx) {
+            while (true) {
+                int left = idx * 2 + 1;
+                if (left >= count) {
+                    break;
+                }
+                int right = left + 1;
+                int smallest = right < count && less(heap[right], heap[left]) ? right : left;
+                if (less(heap[idx], heap[smallest])) {
+                    break;
+                }
+                swapHeap(idx, smallest);
+                idx = smallest;
+            }
+        }
+
+        private boolean less(Edge a, Edge b) {
+            return compare(a.createdAt(), a.followId(), b.createdAt(), b.followId()) < 0;
+        }
+
+        private void swapHeap(int a, int b) {
+            Edge tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
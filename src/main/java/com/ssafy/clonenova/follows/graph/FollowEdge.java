@@ -0,0 +1,18 @@
+package com.ssafy.clonenova.follows.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그래프 페이지 조회 결과 (상대방 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class FollowEdge {
+
+    private final long followId;
+    private final String userId;        // 상대방 사용자 id
+    private final LocalDateTime createdAt;
+}
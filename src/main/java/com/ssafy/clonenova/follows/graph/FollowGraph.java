@@ -0,0 +1,243 @@
+package com.ssafy.clonenova.follows.graph;
+
+import com.ssafy.clonenova.common.ScrollCursor;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * 프로세스 내부 팔로우 그래프 (인접 리스트)
+ * - 사용자 UUID(String) 는 UserIdInterner 로 int id 로 바꿔서 관리
+ * - 사용자마다 in(팔로워) / out(팔로잉) 간선을 primitive 배열로 보관
+ * - 워밍(FollowGraphLoader)이 끝나기 전까지는 ready=false → 조회는 DB 로 fallback
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraph {
+
+    private static final Adjacency EMPTY = new Adjacency();
+
+    private final UserIdInterner interner;
+
+    // int id 로 바로 접근 (슬롯 생성은 slot() 에서만, 읽기는 lock-free)
+    private volatile Adjacency[] outEdges = new Adjacency[1024];
+    private volatile Adjacency[] inEdges = new Adjacency[1024];
+
+    private volatile boolean ready;
+
+    // 워밍 중에 커밋된 변경은 큐에 쌓아뒀다가 로딩 후 순서대로 재적용
+    private final Queue<FollowChangedEvent> pending = new ArrayDeque<>();
+    private boolean loading;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 사용자의 팔로워 목록 (최신순)
+     */
+    public List<FollowEdge> findFollowers(String userId, ScrollCursor cursor, int size) {
+        return toFollowEdges(page(in(interner.find(userId)), cursor, size));
+    }
+
+    /**
+     * 사용자의 팔로잉 목록 (최신순)
+     */
+    public List<FollowEdge> findFollowings(String userId, ScrollCursor cursor, int size) {
+        return toFollowEdges(page(out(interner.find(userId)), cursor, size));
+    }
+
+    /**
+     * 사용자의 팔로워 중 candidates(int id 오름차순) 에 속한 사용자만 최신순 조회
+     */
+    public List<FollowEdge> findFollowers(String userId, int[] candidates, ScrollCursor cursor, int size) {
+        return toFollowEdges(pageMatching(in(interner.find(userId)), candidates, cursor, size));
+    }
+
+    /**
+     * 사용자의 팔로잉 중 candidates(int id 오름차순) 에 속한 사용자만 최신순 조회
+     */
+    public List<FollowEdge> findFollowings(String userId, int[] candidates, ScrollCursor cursor, int size) {
+        return toFollowEdges(pageMatching(out(interner.find(userId)), candidates, cursor, size));
+    }
+
+    /**
+     * fromUserId 가 toUserId 를 팔로우 중인지 여부
+     */
+    public boolean isFollowing(String fromUserId, String toUserId) {
+        int to = interner.find(toUserId);
+        return to != UserIdInterner.NOT_FOUND && out(interner.find(fromUserId)).contains(to);
+    }
+
+    /**
+     * int id 기준 팔로우 여부 (추천 등 id 공간에서 바로 계산하는 곳에서 사용)
+     */
+    public boolean isFollowing(int from, int to) {
+        return out(from).contains(to);
+    }
+
+    /**
+     * 사용자가 최근에 팔로우한 사용자 int id (최신순, 최대 limit 개)
+     */
+    public int[] recentFollowingIds(int id, int limit) {
+        return out(id).recentPeers(limit);
+    }
+
+    public int followerCount(String userId) {
+        return in(interner.find(userId)).size();
+    }
+
+    public int followingCount(String userId) {
+        return out(interner.find(userId)).size();
+    }
+
+    /**
+     * 커밋된 팔로우 변경 반영 (워밍 중이면 큐잉)
+     */
+    public void apply(FollowChangedEvent event) {
+        synchronized (pending) {
+            if (loading) {
+                pending.add(event);
+                return;
+            }
+        }
+        applyNow(event);
+    }
+
+    // ===== 워밍 (FollowGraphLoader 전용) =====
+
+    void beginLoad() {
+        synchronized (pending) {
+            loading = true;
+            ready = false;
+        }
+    }
+
+    void load(String fromUserId, String toUserId, long followId, LocalDateTime createdAt) {
+        int from = slot(fromUserId);
+        int to = slot(toUserId);
+        long epoch = toEpochMillis(createdAt);
+        outEdges[from].append(to, followId, epoch);
+        inEdges[to].append(from, followId, epoch);
+    }
+
+    void finishLoad() {
+        Adjacency[] outs = outEdges;
+        Adjacency[] ins = inEdges;
+        int count = 0;
+        for (int i = 0; i < outs.length; i++) {
+            if (outs[i] != null) {
+                outs[i].seal();
+                ins[i].seal();
+                count++;
+            }
+        }
+
+        // 큐가 빌 때까지 재적용 후 loading 해제
+        while (true) {
+            List<FollowChangedEvent> drained;
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    loading = false;
+                    ready = true;
+                    break;
+                }
+                drained = new ArrayList<>(pending);
+                pending.clear();
+            }
+            drained.forEach(this::applyNow);
+        }
+        log.info("follow graph loaded : users={}", count);
+    }
+
+    void abortLoad() {
+        synchronized (pending) {
+            pending.clear();
+            loading = false;
+            ready = false;
+        }
+    }
+
+    // ===== 내부 =====
+
+    private void applyNow(FollowChangedEvent event) {
+        int from = slot(event.getFromUserId());
+        int to = slot(event.getToUserId());
+        if (event.isActive()) {
+            long epoch = toEpochMillis(event.getCreatedAt());
+            outEdges[from].add(to, event.getFollowId(), epoch);
+            inEdges[to].add(from, event.getFollowId(), epoch);
+        } else {
+            outEdges[from].remove(to);
+            inEdges[to].remove(from);
+        }
+    }
+
+    // intern 후 해당 id 의 인접 리스트 슬롯을 보장
+    private int slot(String userId) {
+        int id = interner.intern(userId);
+        Adjacency[] outs = outEdges;
+        if (id < outs.length && outs[id] != null) {
+            return id;
+        }
+        synchronized (this) {
+            if (id >= outEdges.length) {
+                int capacity = Math.max(outEdges.length << 1, id + 1);
+                outEdges = Arrays.copyOf(outEdges, capacity);
+                inEdges = Arrays.copyOf(inEdges, capacity);
+            }
+            if (outEdges[id] == null) {
+                // in 을 먼저 채워야 out 슬롯이 보이는 시점에 in 도 항상 존재
+                inEdges[id] = new Adjacency();
+                outEdges[id] = new Adjacency();
+            }
+            return id;
+        }
+    }
+
+    private Adjacency out(int id) {
+        Adjacency[] outs = outEdges;
+        Adjacency adjacency = id >= 0 && id < outs.length ? outs[id] : null;
+        return adjacency == null ? EMPTY : adjacency;
+    }
+
+    private Adjacency in(int id) {
+        Adjacency[] ins = inEdges;
+        Adjacency adjacency = id >= 0 && id < ins.length ? ins[id] : null;
+        return adjacency == null ? EMPTY : adjacency;
+    }
+
+    private List<Adjacency.Edge> page(Adjacency adjacency, ScrollCursor cursor, int size) {
+        return cursor == null
+                ? adjacency.page(false, 0L, 0L, size)
+                : adjacency.page(true, cursor.getCreatedAtEpochMillis(), cursor.getId(), size);
+    }
+
+    private List<Adjacency.Edge> pageMatching(Adjacency adjacency, int[] candidates, ScrollCursor cursor, int size) {
+        return cursor == null
+                ? adjacency.pageMatching(candidates, false, 0L, 0L, size)
+                : adjacency.pageMatching(candidates, true, cursor.getCreatedAtEpochMillis(), cursor.getId(), size);
+    }
+
+    private List<FollowEdge> toFollowEdges(List<Adjacency.Edge> edges) {
+        List<FollowEdge> result = new ArrayList<>(edges.size());
+        for (Adjacency.Edge edge : edges) {
+            result.add(new FollowEdge(edge.followId(), interner.userId(edge.peer()), ScrollCursor.ofEpochMillis(edge.createdAt())));
+        }
+        return result;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time == null ? 0L : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
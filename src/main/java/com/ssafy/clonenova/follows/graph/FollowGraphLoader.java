@@ -0,0 +1,96 @@
+package com.ssafy.clonenova.follows.graph;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.clonenova.follows.entity.QFollows;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * FollowGraph 워밍 + 변경 반영
+ * - 애플리케이션 기동 후 follows 테이블(활성 간선)을 id 순 배치로 읽어 그래프를 채움
+ * - 팔로우/언팔로우는 커밋 이후 이벤트로 write-through
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraphLoader {
+
+    private final FollowGraph followGraph;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final QFollows qFollows = QFollows.follows;
+
+    @Value("${follows.graph.enabled:true}")
+    private boolean enabled;
+
+    @Value("${follows.graph.load-batch-size:10000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            log.info("follow graph disabled : 목록 조회는 DB 로 처리");
+            return;
+        }
+        // 기동을 막지 않도록 백그라운드에서 로딩 (로딩 중 조회는 DB fallback)
+        Thread loader = new Thread(this::load, "follow-graph-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // GraphVersions 가 ETag 버전을 올리기 전에 그래프부터 반영
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onFollowChanged(FollowChangedEvent event) {
+        if (enabled) {
+            followGraph.apply(event);
+        }
+    }
+
+    void load() {
+        long start = System.currentTimeMillis();
+        followGraph.beginLoad();
+        try {
+            long lastId = 0L;
+            long loaded = 0L;
+            while (true) {
+                List<Tuple> rows = jpaQueryFactory
+                        .select(qFollows.id, qFollows.fromUserId, qFollows.toUserId, qFollows.createdAt)
+                        .from(qFollows)
+                        .where(qFollows.id.gt(lastId)
+                                .and(qFollows.deletedAt.isNull()))
+                        .orderBy(qFollows.id.asc())
+                        .limit(batchSize)
+                        .fetch();
+
+                for (Tuple row : rows) {
+                    followGraph.load(row.get(qFollows.fromUserId), row.get(qFollows.toUserId),
+                            row.get(qFollows.id), row.get(qFollows.createdAt));
+                }
+                loaded += rows.size();
+
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).get(qFollows.id);
+            }
+            followGraph.finishLoad();
+            log.info("follow graph warm-up 완료 : edges={}, {}ms", loaded, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 실패 시 그래프는 계속 not-ready → DB 조회로 동작
+            followGraph.abortLoad();
+            log.error("follow graph warm-up 실패", e);
+        }
+    }
+}
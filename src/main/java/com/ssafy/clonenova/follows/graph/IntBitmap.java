@@ -0,0 +1,203 @@
+package com.ssafy.clonenova.follows.graph;
+
+import java.util.Arrays;
+
+/**
+ * Roaring 방식의 압축 int 집합
+ * - 상위 16bit 로 컨테이너를 나누고, 컨테이너 안은 하위 16bit 만 저장
+ * - 원소가 4096 개 이하면 정렬된 char 배열, 넘으면 8KB 비트맵으로 전환 (2048 개 이하로 줄면 다시 배열)
+ * - contains 는 컨테이너 이진탐색 + (배열 이진탐색 | 비트 확인)
+ * 동기화는 호출부(Adjacency 락)에서 처리
+ */
+final class IntBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int containerCount;
+    private int cardinality;
+
+    boolean add(int value) {
+        char high = (char) (value >>> 16);
+        char low = (char) value;
+        int idx = findContainer(high);
+        if (idx < 0) {
+            idx = -idx - 1;
+            insertContainer(idx, high, new ArrayContainer());
+        }
+        Container container = containers[idx];
+        if (!container.add(low)) {
+            return false;
+        }
+        if (container instanceof ArrayContainer array && array.size > ARRAY_MAX) {
+            containers[idx] = array.toBitmap();
+        }
+        cardinality++;
+        return true;
+    }
+
+    boolean remove(int value) {
+        int idx = findContainer((char) (value >>> 16));
+        if (idx < 0) {
+            return false;
+        }
+        Container container = containers[idx];
+        if (!container.remove((char) value)) {
+            return false;
+        }
+        cardinality--;
+        if (container.cardinality() == 0) {
+            removeContainer(idx);
+        } else if (container instanceof BitmapContainer bitmap && bitmap.cardinality <= ARRAY_MAX / 2) {
+            // 경계에서 추가/삭제가 반복될 때 전환이 반복되지 않도록 절반 이하로 줄었을 때만 배열로 되돌림
+            containers[idx] = bitmap.toArray();
+        }
+        return true;
+    }
+
+    boolean contains(int value) {
+        int idx = findContainer((char) (value >>> 16));
+        return idx >= 0 && containers[idx].contains((char) value);
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    private int findContainer(char high) {
+        return Arrays.binarySearch(keys, 0, containerCount, high);
+    }
+
+    private void insertContainer(int idx, char high, Container container) {
+        if (containerCount == keys.length) {
+            int capacity = Math.max(4, containerCount << 1);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, idx, keys, idx + 1, containerCount - idx);
+        System.arraycopy(containers, idx, containers, idx + 1, containerCount - idx);
+        keys[idx] = high;
+        containers[idx] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(int idx) {
+        System.arraycopy(keys, idx + 1, keys, idx, containerCount - idx - 1);
+        System.arraycopy(containers, idx + 1, containers, idx, containerCount - idx - 1);
+        containers[--containerCount] = null;
+    }
+
+    private interface Container {
+        boolean add(char low);
+
+        boolean remove(char low);
+
+        boolean contains(char low);
+
+        int cardinality();
+    }
+
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public boolean add(char low) {
+            int pos = Arrays.binarySearch(values, 0, size, low);
+            if (pos >= 0) {
+                return false;
+            }
+            pos = -pos - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size << 1, ARRAY_MAX + 1));
+            }
+            System.arraycopy(values, pos, values, pos + 1, size - pos);
+            values[pos] = low;
+            size++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char low) {
+            int pos = Arrays.binarySearch(values, 0, size, low);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+        private final long[] words = new long[1024];
+        private int cardinality;
+
+        @Override
+        public boolean add(char low) {
+            long mask = 1L << low;
+            int word = low >>> 6;
+            if ((words[word] & mask) != 0) {
+                return false;
+            }
+            words[word] |= mask;
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char low) {
+            long mask = 1L << low;
+            int word = low >>> 6;
+            if ((words[word] & mask) == 0) {
+                return false;
+            }
+            words[word] &= ~mask;
+            cardinality--;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(cardinality, 4)];
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    int bit = Long.numberOfTrailingZeros(bits);
+                    array.values[array.size++] = (char) ((word << 6) + bit);
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
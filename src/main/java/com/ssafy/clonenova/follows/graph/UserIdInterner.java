@@ -0,0 +1,58 @@
+package com.ssafy.clonenova.follows.graph;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 UUID(String) ↔ int id 매핑
+ * - 그래프, 닉네임 색인 등 인메모리 인덱스가 같은 id 공간을 써야 교집합을 int 배열로 바로 계산할 수 있음
+ * - 한 번 발급된 id 는 프로세스가 살아있는 동안 바뀌지 않음
+ */
+@Component
+public class UserIdInterner {
+
+    public static final int NOT_FOUND = -1;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] userIds = new String[1024];
+    private int nextId;
+
+    public int intern(String userId) {
+        Integer id = ids.get(userId);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(userId);
+            if (id != null) {
+                return id;
+            }
+            int newId = nextId++;
+            if (newId == userIds.length) {
+                userIds = Arrays.copyOf(userIds, userIds.length << 1);
+            }
+            userIds[newId] = userId;
+            // 배열 세팅 이후에 map 에 공개 → 조회 쪽에서 항상 채워진 슬롯을 봄
+            ids.put(userId, newId);
+            return newId;
+        }
+    }
+
+    /**
+     * @return int id (없으면 NOT_FOUND)
+     */
+    public int find(String userId) {
+        Integer id = ids.get(userId);
+        return id == null ? NOT_FOUND : id;
+    }
+
+    public String userId(int id) {
+        return userIds[id];
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
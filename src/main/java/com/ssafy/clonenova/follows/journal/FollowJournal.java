@@ -0,0 +1,590 @@
+package com.ssafy.clonenova.follows.journal;
+
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 팔로우/언팔로우 write-behind 로그 (로컬 append-only 파일)
+ * - append 요청은 큐에 쌓이고, 단일 writer 스레드가 모아서 한 번 write + fsync (group commit)
+ * - fsync 가 끝난 뒤에 호출자에게 seq 를 돌려줌 → 응답한 요청은 크래시 후에도 남아 있음
+ * - seq 는 writer 한 곳에서 발급하므로 같은 (from, to) 쌍의 요청 순서가 로그 순서와 같음
+ * - 세그먼트 파일 이름은 첫 seq ({seq}.log), 적용 완료 지점은 applied.ckpt 에 기록
+ * - 실패한 배치를 잘라내지 못하면 (깨진 꼬리 뒤에 쓰면 recover() 가 그 뒤를 전부 버림) 이후 append 를 모두 거절
+ *
+ * 레코드 포맷 : [int bodyLength][body][int crc32(body)]
+ *   body = [long seq][byte type][long createdAt][utf fromUserId][utf toUserId]
+ */
+@Slf4j
+public class FollowJournal implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "applied.ckpt";
+    private static final String DEAD_LETTER_FILE = "dead-letter.tsv";
+    private static final int MAX_BODY_LENGTH = 4096;
+
+    private final Path dir;
+    private final long segmentBytes;
+    private final int maxBatch;
+    private final long groupCommitWaitNanos;
+
+    private final LinkedBlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    // 아직 DB 에 반영되지 않은 쌍별 마지막 요청 (응답의 changed 판단용, 재기동 시 다시 반영되는 레코드는 포함 안 됨)
+    private final ConcurrentHashMap<String, PendingAppend> unapplied = new ConcurrentHashMap<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+    // 실패한 쓰기를 되돌리지 못함 → 재기동(recover) 전까지 기록 불가
+    private volatile boolean failed;
+
+    // writer 스레드 전용
+    private FileChannel channel;
+    private long nextSeq;
+
+    // fsync 까지 끝난 마지막 seq (reader 는 이 이상 읽지 않음)
+    private volatile long durableSeq;
+
+    private FollowJournal(Path dir, long segmentBytes, int maxBatch, long groupCommitWaitMillis) throws IOException {
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.maxBatch = maxBatch;
+        this.groupCommitWaitNanos = TimeUnit.MILLISECONDS.toNanos(groupCommitWaitMillis);
+        Files.createDirectories(dir);
+        recover();
+        this.writer = new Thread(this::runWriter, "follow-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public static FollowJournal open(Path dir, long segmentBytes, int maxBatch, long groupCommitWaitMillis) throws IOException {
+        return new FollowJournal(dir, segmentBytes, maxBatch, groupCommitWaitMillis);
+    }
+
+    /**
+     * 로그에 기록하고 fsync 될 때까지 대기
+     *
+     * @return 발급된 seq
+     */
+    public long append(FollowChangeType type, String fromUserId, String toUserId) {
+        return await(enqueue(type, fromUserId, List.of(toUserId), null));
+    }
+
+    /**
+     * 같은 사용자의 여러 대상을 한 번에 기록 (단건은 대상 하나) - 대상 순서대로 seq 발급, 전부 fsync 될 때까지 대기
+     * - 큐에 연속으로 넣으므로 writer 가 보통 한두 번의 fsync 로 묶어서 씀
+     *
+     * @return 대상별로 아직 DB 에 반영되지 않은 같은 쌍의 직전 요청 (없으면 null → 직전 상태는 DB/그래프 기준)
+     */
+    public List<FollowChangeType> appendAll(FollowChangeType type, String fromUserId, List<String> toUserIds) {
+        List<FollowChangeType> previous = new ArrayList<>(toUserIds.size());
+        await(enqueue(type, fromUserId, toUserIds, previous));
+        return previous;
+    }
+
+    /**
+     * applier 가 DB 반영을 마친 레코드 → 반영 대기 목록에서 제거 (그 뒤에 들어온 같은 쌍의 요청은 유지)
+     */
+    public void markApplied(List<JournalRecord> records) {
+        for (JournalRecord record : records) {
+            unapplied.computeIfPresent(record.pairKey(),
+                    (key, pending) -> pending.seq != 0 && pending.seq <= record.getSeq() ? null : pending);
+        }
+    }
+
+    private List<PendingAppend> enqueue(FollowChangeType type, String fromUserId, List<String> toUserIds,
+                                        List<FollowChangeType> previous) {
+        if (type != FollowChangeType.FOLLOW && type != FollowChangeType.UNFOLLOW) {
+            throw new IllegalArgumentException("journal 은 FOLLOW / UNFOLLOW 만 기록 : " + type);
+        }
+        if (!running) {
+            throw new IllegalStateException("follow journal closed");
+        }
+        if (failed) {
+            throw new IllegalStateException("follow journal failed (재기동 필요)");
+        }
+        long createdAt = System.currentTimeMillis();
+        List<PendingAppend> pendings = new ArrayList<>(toUserIds.size());
+        for (String toUserId : toUserIds) {
+            PendingAppend pending = new PendingAppend(type, fromUserId, toUserId, createdAt);
+            // 직전 요청 확인과 큐 삽입을 쌍 단위로 원자적으로 → 같은 쌍의 map 순서 = 로그 순서
+            unapplied.compute(pending.pairKey(), (key, prev) -> {
+                if (previous != null) {
+                    previous.add(prev == null ? null : prev.type);
+                }
+                queue.add(pending);
+                return pending;
+            });
+            pendings.add(pending);
+        }
+        return pendings;
+    }
+
+    private static long await(List<PendingAppend> pendings) {
+        long seq = 0;
+        try {
+            // 실패는 writer 배치 단위라 앞쪽만 실패할 수도 있음 → 전부 확인
+            for (PendingAppend pending : pendings) {
+                seq = pending.future.get();
+            }
+            return seq;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("follow journal append interrupted", e);
+        } catch (ExecutionException e) {
+            throw new UncheckedIOException("follow journal append failed", asIOException(e.getCause()));
+        }
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public long durableSeq() {
+        return durableSeq;
+    }
+
+    /**
+     * 마지막으로 DB 에 반영된 seq (없으면 0)
+     */
+    public long appliedSeq() {
+        Path checkpoint = dir.resolve(CHECKPOINT_FILE);
+        try {
+            return Files.exists(checkpoint) ? Long.parseLong(Files.readString(checkpoint).strip()) : 0L;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * appliedSeq 까지 반영 완료 기록 + 전부 반영된 세그먼트 삭제
+     */
+    public void checkpoint(long appliedSeq) {
+        try {
+            Path tmp = dir.resolve(CHECKPOINT_FILE + ".tmp");
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                out.write(ByteBuffer.wrap(Long.toString(appliedSeq).getBytes(StandardCharsets.US_ASCII)));
+                out.force(true);
+            }
+            Files.move(tmp, dir.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // 다음 세그먼트의 첫 seq 가 appliedSeq + 1 이하면 이 세그먼트는 전부 반영됨 (마지막 세그먼트는 항상 유지)
+            List<Long> segments = segments();
+            for (int i = 0; i + 1 < segments.size(); i++) {
+                if (segments.get(i + 1) <= appliedSeq + 1) {
+                    Files.deleteIfExists(segmentPath(segments.get(i)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * DB 에 반영할 수 없는 레코드를 dead-letter 파일에 남김 (체크포인트가 이 레코드를 넘기 전에 fsync)
+     * - 한 줄 = seq, type, createdAt(epoch ms), fromUserId, toUserId, 사유 (탭 구분) → 수동 확인/재처리용
+     */
+    public synchronized void deadLetter(JournalRecord record, String reason) {
+        String line = String.join("\t",
+                Long.toString(record.getSeq()),
+                record.getType().name(),
+                Long.toString(record.getCreatedAtEpochMillis()),
+                singleLine(record.getFromUserId()),
+                singleLine(record.getToUserId()),
+                singleLine(reason)) + "\n";
+        try (FileChannel out = FileChannel.open(dir.resolve(DEAD_LETTER_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path deadLetterPath() {
+        return dir.resolve(DEAD_LETTER_FILE);
+    }
+
+    private static String singleLine(String value) {
+        return value == null ? "" : value.replaceAll("[\\t\\r\\n]+", " ");
+    }
+
+    /**
+     * afterSeq 다음 레코드부터 읽는 reader
+     */
+    public Reader openReader(long afterSeq) {
+        List<Long> segments = segments();
+        long start = segments.get(0);
+        for (long first : segments) {
+            if (first <= afterSeq + 1) {
+                start = first;
+            }
+        }
+        return new Reader(start, afterSeq);
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    // ===== writer =====
+
+    private void runWriter() {
+        List<PendingAppend> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAppend first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 이전 fsync 동안 쌓인 요청을 한 번에 가져오고, 그래도 덜 찼으면 잠깐 더 기다림
+                queue.drainTo(batch, maxBatch - batch.size());
+                long deadline = System.nanoTime() + groupCommitWaitNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingAppend next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatch - batch.size());
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+        // 종료 후 들어온 요청은 실패 처리
+        PendingAppend left;
+        while ((left = queue.poll()) != null) {
+            unapplied.remove(left.pairKey(), left);
+            left.future.completeExceptionally(new IOException("follow journal closed"));
+        }
+    }
+
+    private void write(List<PendingAppend> batch) {
+        if (failed) {
+            // 거절 전에 큐에 들어와 있던 요청
+            fail(batch, new IOException("follow journal failed"));
+            return;
+        }
+        long startSeq = nextSeq;
+        long startSize = -1;
+        try {
+            if (channel.size() >= segmentBytes) {
+                roll();
+            }
+            startSize = channel.size();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(batch.size() * 128);
+            for (PendingAppend pending : batch) {
+                pending.seq = nextSeq++;
+                encode(out, pending);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            durableSeq = nextSeq - 1;
+            batch.forEach(pending -> pending.future.complete(pending.seq));
+        } catch (IOException | RuntimeException e) {
+            log.error("follow journal write 실패 : {} 건", batch.size(), e);
+            nextSeq = startSeq;
+            try {
+                if (startSize < 0) {
+                    // roll 도중 실패 등으로 파일 상태를 알 수 없음
+                    throw new IOException("follow journal 기록 위치를 알 수 없음");
+                }
+                channel.truncate(startSize);
+            } catch (IOException truncateFailure) {
+                // 깨진 꼬리 뒤에 이어 쓰면 fsync 후 응답한 요청도 다음 기동의 recover() 에서 잘려 나감 → 더 이상 쓰지 않음
+                failed = true;
+                log.error("follow journal 쓰기 실패를 되돌리지 못함, 이후 append 거절 (재기동 시 recover)", truncateFailure);
+            }
+            fail(batch, e);
+        }
+    }
+
+    private void fail(List<PendingAppend> batch, Exception e) {
+        batch.forEach(pending -> {
+            // 기록 안 된 요청은 반영 대기 목록에서도 뺌 (덮어쓴 이전 요청의 상태는 DB/그래프 기준으로 판단)
+            unapplied.remove(pending.pairKey(), pending);
+            pending.future.completeExceptionally(e);
+        });
+    }
+
+    private void roll() throws IOException {
+        channel.close();
+        channel = openForAppend(segmentPath(nextSeq));
+        log.info("follow journal segment roll : {}", nextSeq);
+    }
+
+    // ===== 기동 시 복구 =====
+
+    private void recover() throws IOException {
+        long applied = appliedSeq();
+        List<Long> segments = segments();
+        if (segments.isEmpty()) {
+            nextSeq = applied + 1;
+            channel = openForAppend(segmentPath(nextSeq));
+            durableSeq = applied;
+            return;
+        }
+
+        // 마지막 세그먼트만 쓰는 중이었을 수 있음 → 유효한 레코드 끝까지 스캔 후 꼬리 절단
+        long first = segments.get(segments.size() - 1);
+        Path last = segmentPath(first);
+        long lastSeq = first - 1;
+        long validEnd = 0;
+        try (FileChannel in = FileChannel.open(last, StandardOpenOption.READ)) {
+            RecordAt record;
+            while ((record = read(in, validEnd)) != null) {
+                lastSeq = record.record.getSeq();
+                validEnd += record.length;
+            }
+            if (validEnd < in.size()) {
+                log.warn("follow journal 꼬리 손상 : {} ({} -> {} bytes)", last.getFileName(), in.size(), validEnd);
+            }
+        }
+        channel = openForAppend(last);
+        channel.truncate(validEnd);
+        channel.force(true);
+        nextSeq = lastSeq + 1;
+
+        if (nextSeq <= applied) {
+            // 체크포인트가 로그보다 앞서 있으면 (세그먼트 수동 삭제 등) seq 를 이어서 발급
+            nextSeq = applied + 1;
+            roll();
+        }
+        durableSeq = nextSeq - 1;
+        log.info("follow journal recovered : segments={}, nextSeq={}, appliedSeq={}", segments.size(), nextSeq, applied);
+    }
+
+    // ===== 파일 =====
+
+    private List<Long> segments() {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long firstSeq) {
+        return dir.resolve(String.format("%020d%s", firstSeq, SEGMENT_SUFFIX));
+    }
+
+    private static FileChannel openForAppend(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private static void encode(ByteArrayOutputStream out, PendingAppend pending) throws IOException {
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(96);
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+        body.writeLong(pending.seq);
+        body.writeByte(pending.type.ordinal());
+        body.writeLong(pending.createdAtEpochMillis);
+        body.writeUTF(pending.fromUserId);
+        body.writeUTF(pending.toUserId);
+
+        byte[] bytes = bodyBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        DataOutputStream record = new DataOutputStream(out);
+        record.writeInt(bytes.length);
+        record.write(bytes);
+        record.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * position 의 레코드 (끝이거나 덜 쓰였거나 crc 불일치면 null)
+     */
+    private static RecordAt read(FileChannel in, long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        if (readFully(in, header, position) < Integer.BYTES) {
+            return null;
+        }
+        int length = header.flip().getInt();
+        if (length <= 0 || length > MAX_BODY_LENGTH) {
+            return null;
+        }
+        ByteBuffer rest = ByteBuffer.allocate(length + Integer.BYTES);
+        if (readFully(in, rest, position + Integer.BYTES) < rest.capacity()) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        rest.flip().get(bytes);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        if ((int) crc.getValue() != rest.getInt()) {
+            return null;
+        }
+
+        DataInputStream body = new DataInputStream(new ByteArrayInputStream(bytes));
+        long seq = body.readLong();
+        FollowChangeType type = FollowChangeType.values()[body.readByte()];
+        long createdAt = body.readLong();
+        String fromUserId = body.readUTF();
+        String toUserId = body.readUTF();
+        return new RecordAt(new JournalRecord(seq, type, fromUserId, toUserId, createdAt), Integer.BYTES * 2 + length);
+    }
+
+    private static int readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = in.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static IOException asIOException(Throwable cause) {
+        return cause instanceof IOException io ? io : new IOException(cause);
+    }
+
+    private record RecordAt(JournalRecord record, int length) {
+    }
+
+    private static final class PendingAppend {
+        private final FollowChangeType type;
+        private final String fromUserId;
+        private final String toUserId;
+        private final long createdAtEpochMillis;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        // writer 가 기록 직전에 발급 (0 = 아직 기록 전)
+        private volatile long seq;
+
+        private PendingAppend(FollowChangeType type, String fromUserId, String toUserId, long createdAtEpochMillis) {
+            this.type = type;
+            this.fromUserId = fromUserId;
+            this.toUserId = toUserId;
+            this.createdAtEpochMillis = createdAtEpochMillis;
+        }
+
+        private String pairKey() {
+            return JournalRecord.pairKey(fromUserId, toUserId);
+        }
+    }
+
+    /**
+     * seq 순서대로 fsync 완료된 레코드만 읽음 (applier 단일 스레드 전용)
+     */
+    public final class Reader implements Closeable {
+
+        private final long skipUntil;
+        private long segmentFirstSeq;
+        private FileChannel in;
+        private long position;
+        private long expectedSeq;
+
+        private Reader(long segmentFirstSeq, long skipUntil) {
+            this.skipUntil = skipUntil;
+            this.segmentFirstSeq = segmentFirstSeq;
+            this.expectedSeq = segmentFirstSeq;
+        }
+
+        public List<JournalRecord> next(int max) {
+            List<JournalRecord> result = new ArrayList<>(Math.min(max, 256));
+            try {
+                while (result.size() < max) {
+                    RecordAt record = in() == null ? null : read(in, position);
+                    if (record == null || record.record.getSeq() > durableSeq) {
+                        // 현재 세그먼트를 다 읽었고 다음 세그먼트가 바로 이어지면 넘어감
+                        if (!moveToNextSegment()) {
+                            break;
+                        }
+                        continue;
+                    }
+                    if (record.record.getSeq() != expectedSeq) {
+                        throw new IllegalStateException("follow journal seq 불일치 : expected=" + expectedSeq
+                                + ", actual=" + record.record.getSeq());
+                    }
+                    position += record.length;
+                    expectedSeq++;
+                    if (record.record.getSeq() > skipUntil) {
+                        result.add(record.record);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return result;
+        }
+
+        private FileChannel in() throws IOException {
+            if (in == null) {
+                Path path = segmentPath(segmentFirstSeq);
+                if (!Files.exists(path)) {
+                    return null;
+                }
+                in = FileChannel.open(path, StandardOpenOption.READ);
+            }
+            return in;
+        }
+
+        private boolean moveToNextSegment() throws IOException {
+            if (!segments().contains(expectedSeq) || expectedSeq == segmentFirstSeq) {
+                return false;
+            }
+            close();
+            segmentFirstSeq = expectedSeq;
+            position = 0;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (in != null) {
+                in.close();
+                in = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.ssafy.clonenova.follows.journal;
+
+import com.ssafy.clonenova.exception.CustomException;
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import com.ssafy.clonenova.follows.service.Impl.FollowEdgeWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FollowJournal → follows 테이블 반영 (write-behind)
+ * - 체크포인트 이후 로그를 seq 순서로 읽어서 배치 단위로 한 트랜잭션에 반영
+ * - 배치 안에서는 (from, to) 쌍마다 마지막 요청만 남김 → 팔로우 후 언팔은 언팔로, 언팔 후 팔로우는 팔로우로
+ * - 배치 간에는 순서대로 반영하므로 같은 쌍의 요청이 뒤바뀌지 않음
+ * - 반영은 FollowEdgeWriter (이미 팔로우 중 / 이미 취소됨은 무시) 라 재실행해도 결과가 같음
+ *   (FollowService 는 journal 모드에서 다시 로그에 기록하므로 쓰지 않음)
+ *   → 커밋 후 체크포인트 전에 죽어도 기동 시 체크포인트부터 다시 반영하면 됨 (크래시 복구)
+ * - 배치가 DB 장애가 아닌 이유로 실패하면 쌍 단위로 나눠서 반영 → 계속 실패하는 레코드는
+ *   apply-max-attempts 번까지 재시도 후 dead-letter 파일로 빼고 넘어감 (한 건 때문에 이후 반영이 모두 멈추지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "follows.journal.enabled", havingValue = "true")
+public class FollowJournalApplier {
+
+    private final FollowJournal followJournal;
+    private final FollowEdgeWriter followEdgeWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${follows.journal.apply-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${follows.journal.apply-max-attempts:5}")
+    private int maxAttempts;
+
+    private FollowJournal.Reader reader;
+    // 쌍 단위 반영이 실패한 레코드별 횟수 (seq → 실패 수)
+    private final Map<Long, Integer> failures = new HashMap<>();
+
+    @Scheduled(fixedDelayString = "${follows.journal.apply-interval-ms:200}")
+    public synchronized void apply() {
+        if (reader == null) {
+            long applied = followJournal.appliedSeq();
+            if (applied < followJournal.durableSeq()) {
+                log.info("follow journal 재반영 : appliedSeq={}, durableSeq={}", applied, followJournal.durableSeq());
+            }
+            reader = followJournal.openReader(applied);
+        }
+
+        try {
+            List<JournalRecord> records;
+            while (!(records = reader.next(batchSize)).isEmpty()) {
+                // 쌍별 마지막 요청만 남김 (LinkedHashMap 이라 제거 후 재삽입으로 로그 순서 유지)
+                Map<String, JournalRecord> latest = new LinkedHashMap<>();
+                for (JournalRecord record : records) {
+                    latest.remove(record.pairKey());
+                    latest.put(record.pairKey(), record);
+                }
+                try {
+                    applyBatch(latest.values());
+                } catch (RuntimeException e) {
+                    if (isTransient(e)) {
+                        throw e;
+                    }
+                    log.warn("follow journal 배치 반영 실패, 쌍 단위로 재시도 : records={}", records.size(), e);
+                    applyEach(latest.values());
+                }
+                long lastSeq = records.get(records.size() - 1).getSeq();
+                followJournal.markApplied(records);
+                followJournal.checkpoint(lastSeq);
+                failures.keySet().removeIf(seq -> seq <= lastSeq);
+                log.debug("follow journal 반영 : records={}, pairs={}", records.size(), latest.size());
+            }
+        } catch (RuntimeException e) {
+            // 반영 실패 → 체크포인트부터 다시 읽음 (다음 주기에 재시도, 이미 반영된 쌍은 다시 반영해도 결과가 같음)
+            log.warn("follow journal 반영 실패, 재시도 예약", e);
+            resetReader();
+        }
+    }
+
+    // 한 쌍씩 별도 트랜잭션으로 반영 - 쌍마다 최종 요청 하나라 다른 쌍이 먼저 반영돼도 결과는 같음
+    // 실패한 쌍은 재시도 횟수를 넘기면 dead-letter 로 빼고, 아직 남았으면 배치 전체를 다음 주기에 다시 시도
+    private void applyEach(Collection<JournalRecord> records) {
+        RuntimeException retry = null;
+        for (JournalRecord record : records) {
+            try {
+                applyBatch(List.of(record));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    throw e;
+                }
+                int attempts = failures.merge(record.getSeq(), 1, Integer::sum);
+                if (attempts < maxAttempts) {
+                    retry = e;
+                    continue;
+                }
+                followJournal.deadLetter(record, e.toString());
+                failures.remove(record.getSeq());
+                meterRegistry.counter("follows.journal.dead.letter", "type", record.getType().name()).increment();
+                log.error("follow journal 레코드 반영 포기, dead-letter 로 이동 : seq={}, from={}, to={}, attempts={}",
+                        record.getSeq(), record.getFromUserId(), record.getToUserId(), attempts, e);
+            }
+        }
+        if (retry != null) {
+            throw retry;
+        }
+    }
+
+    // DB/커넥션 장애처럼 기다리면 풀리는 실패 → 레코드 탓이 아니므로 dead-letter 없이 계속 재시도
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof CustomException custom && custom.getStatus().is5xxServerError()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void applyBatch(Collection<JournalRecord> latest) {
+        // 팔로우는 created_at 을 반영 시각이 아닌 요청 시각으로 → (from, 요청 시각) 단위로 묶음 (일괄 요청은 한 묶음)
+        Map<String, Map<LocalDateTime, List<String>>> follows = new LinkedHashMap<>();
+        Map<String, List<String>> unfollows = new LinkedHashMap<>();
+        for (JournalRecord record : latest) {
+            if (record.getType() == FollowChangeType.FOLLOW) {
+                follows.computeIfAbsent(record.getFromUserId(), k -> new LinkedHashMap<>())
+                        .computeIfAbsent(createdAt(record), k -> new ArrayList<>())
+                        .add(record.getToUserId());
+            } else {
+                unfollows.computeIfAbsent(record.getFromUserId(), k -> new ArrayList<>()).add(record.getToUserId());
+            }
+        }
+
+        // 쌍마다 최종 상태 하나만 남았으므로 팔로우/언팔 반영 순서는 결과에 영향 없음
+        transactionTemplate.executeWithoutResult(status -> {
+            unfollows.forEach(followEdgeWriter::unfollowAll);
+            follows.forEach((from, byCreatedAt) -> byCreatedAt.forEach(
+                    (createdAt, targets) -> followEdgeWriter.followAll(from, targets, createdAt)));
+        });
+    }
+
+    // 동기 경로와 같은 초 단위 (DATETIME 기본 정밀도)
+    private static LocalDateTime createdAt(JournalRecord record) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(record.getCreatedAtEpochMillis()), ZoneId.systemDefault())
+                .truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private void resetReader() {
+        try {
+            reader.close();
+        } catch (IOException ignore) {
+            // 읽기 전용 채널
+        }
+        reader = null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ssafy.clonenova.follows.journal;
+
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팔로우 로그 한 건 (FOLLOW / UNFOLLOW)
+ */
+@Getter
+@AllArgsConstructor
+public class JournalRecord {
+
+    private final long seq;                 // 로그 전체에서 단조 증가
+    private final FollowChangeType type;
+    private final String fromUserId;
+    private final String toUserId;
+    private final long createdAtEpochMillis;
+
+    public String pairKey() {
+        return pairKey(fromUserId, toUserId);
+    }
+
+    public static String pairKey(String fromUserId, String toUserId) {
+        return fromUserId + ':' + toUserId;
+    }
+}
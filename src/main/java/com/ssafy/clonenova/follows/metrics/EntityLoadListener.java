@@ -0,0 +1,15 @@
+package com.ssafy.clonenova.follows.metrics;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * 엔티티 로드 수 집계 (DTO projection 은 해당 없음)
+ */
+public class EntityLoadListener implements PostLoadEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestQueryStats.entityLoaded();
+    }
+}
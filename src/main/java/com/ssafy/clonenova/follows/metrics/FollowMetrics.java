@@ -0,0 +1,78 @@
+package com.ssafy.clonenova.follows.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 팔로우 조회/쓰기 경로 지표
+ * - follows.list    : 서비스 목록 조회 시간 (type, keyword, page)
+ * - follows.query   : 저장소 쿼리 시간 (query, path = graph | index | db, 목록은 type/keyword/page 추가)
+ * - follows.query.rows : 쿼리가 돌려준 행 수
+ * 분위수/히스토그램은 management.metrics.distribution.* 설정으로 켬 (application.yml)
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowMetrics {
+
+    public static final String PATH_GRAPH = "graph";
+    public static final String PATH_INDEX = "index";
+    public static final String PATH_DB = "db";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 목록 조회 태그 (page 는 커서 유무로 첫 페이지 / 다음 페이지만 구분)
+     */
+    public static Tags listTags(String type, boolean keyword, boolean firstPage) {
+        return Tags.of("type", type, "keyword", Boolean.toString(keyword), "page", firstPage ? "first" : "next");
+    }
+
+    public <T> T recordList(Tags tags, Supplier<T> call) {
+        return record("follows.list", tags, call);
+    }
+
+    public <T> T recordQuery(String query, String path, Supplier<T> call) {
+        return recordQuery(query, path, Tags.empty(), call);
+    }
+
+    public <T> T recordQuery(String query, String path, Tags extra, Supplier<T> call) {
+        Tags tags = Tags.of("query", query, "path", path).and(extra);
+        T result = record("follows.query", tags, call);
+        if (result instanceof Collection<?> rows) {
+            DistributionSummary.builder("follows.query.rows")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(rows.size());
+        }
+        return result;
+    }
+
+    public void recordQuery(String query, String path, Runnable call) {
+        recordQuery(query, path, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private <T> T record(String name, Tags tags, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ssafy.clonenova.follows.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api/v1/follows 요청 단위 Hibernate 지표 (handler = 컨트롤러 메서드명)
+ * - follows.request.statements   : 요청당 JDBC 문 수
+ * - follows.request.db           : 요청당 DB 실행 시간 합
+ * - follows.request.entity.loads : 요청당 엔티티 로드 수
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowRequestMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestQueryStats.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestQueryStats stats = RequestQueryStats.end();
+        if (stats == null || !(handler instanceof HandlerMethod method)) {
+            return;
+        }
+        String name = method.getMethod().getName();
+        DistributionSummary.builder("follows.request.statements")
+                .tag("handler", name)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("follows.request.entity.loads")
+                .tag("handler", name)
+                .register(meterRegistry)
+                .record(stats.getEntityLoads());
+        Timer.builder("follows.request.db")
+                .tag("handler", name)
+                .register(meterRegistry)
+                .record(stats.getDbNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ssafy.clonenova.follows.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션마다 생성되는 Hibernate 리스너 (hibernate.session.events.auto 로 등록)
+ * JDBC 실행 시작~끝 시간을 현재 요청 통계에 더함
+ */
+public class QueryStatsSessionListener implements SessionEventListener {
+
+    private long executeStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStats.statementExecuted(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestQueryStats.statementExecuted(System.nanoTime() - executeStart);
+    }
+}
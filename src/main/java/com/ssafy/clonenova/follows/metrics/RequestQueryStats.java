@@ -0,0 +1,58 @@
+package com.ssafy.clonenova.follows.metrics;
+
+/**
+ * 요청(스레드) 단위 Hibernate 통계 누적
+ * - QueryStatsSessionListener : 실행한 JDBC 문 수 / DB 시간
+ * - EntityLoadListener : 엔티티 로드 수
+ * - FollowRequestMetricsInterceptor 가 요청 시작에 열고 끝에 지표로 기록
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long dbNanos;
+    private int entityLoads;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static RequestQueryStats end() {
+        RequestQueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void statementExecuted(long nanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.dbNanos += nanos;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    int getStatements() {
+        return statements;
+    }
+
+    long getDbNanos() {
+        return dbNanos;
+    }
+
+    int getEntityLoads() {
+        return entityLoads;
+    }
+}
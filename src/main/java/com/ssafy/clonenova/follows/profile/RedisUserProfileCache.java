@@ -0,0 +1,150 @@
+package com.ssafy.clonenova.follows.profile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis L2 프로필 캐시
+ * - 키 follows:profile:{userId} → {"email","nickname"} JSON, TTL l2-ttl-seconds
+ * - 무효화 버전 follows:profile:version:{userId} (evict 때 INCR, TTL 은 값 TTL 의 2배)
+ * - 조회는 값 + 버전을 MGET 한 번, 저장은 파이프라인 Lua (버전이 조회 때와 같을 때만 SET EX)
+ * - Redis 장애 시 캐시 미스로 취급 (DB 로 fallback, 요청은 실패시키지 않음)
+ * - 삭제 시 follows:profile:invalidate 채널에 userId 발행 → 각 인스턴스 L1 삭제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "follows.profile-cache.l2.enabled", havingValue = "true")
+public class RedisUserProfileCache implements UserProfileL2Cache {
+
+    public static final String INVALIDATE_CHANNEL = "follows:profile:invalidate";
+    private static final String KEY_PREFIX = "follows:profile:";
+    private static final String VERSION_KEY_PREFIX = "follows:profile:version:";
+    // KEYS[1] = 값, KEYS[2] = 버전 / ARGV[1] = 값, ARGV[2] = 조회 때 버전, ARGV[3] = TTL(초)
+    private static final byte[] SET_IF_VERSION_SCRIPT = """
+            if (tonumber(redis.call('GET', KEYS[2])) or 0) == tonumber(ARGV[2]) then
+              redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+              return 1
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlSeconds;
+
+    public RedisUserProfileCache(StringRedisTemplate redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${follows.profile-cache.l2.ttl-seconds:3600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @Override
+    public Snapshot getAll(Collection<String> userIds) {
+        List<String> ids = List.copyOf(userIds);
+        List<String> keys = new ArrayList<>(ids.size() * 2);
+        ids.forEach(id -> keys.add(KEY_PREFIX + id));
+        ids.forEach(id -> keys.add(VERSION_KEY_PREFIX + id));
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (DataAccessException e) {
+            log.warn("profile l2 get failed : {}", e.getMessage());
+            return new Snapshot(Map.of(), Map.of());
+        }
+        if (values == null) {
+            return new Snapshot(Map.of(), Map.of());
+        }
+        Map<String, UserProfile> profiles = new HashMap<>();
+        Map<String, Long> versions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values.get(i);
+            UserProfile profile = value == null ? null : decode(ids.get(i), value);
+            if (profile != null) {
+                profiles.put(ids.get(i), profile);
+            } else {
+                String version = values.get(ids.size() + i);
+                versions.put(ids.get(i), version == null ? 0L : Long.parseLong(version));
+            }
+        }
+        return new Snapshot(profiles, versions);
+    }
+
+    @Override
+    public void putAll(Collection<UserProfile> profiles, Map<String, Long> versions) {
+        byte[] ttl = Long.toString(ttlSeconds).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UserProfile profile : profiles) {
+                    Long version = versions.get(profile.getUserId());
+                    if (version == null) {
+                        // 조회 때 버전을 모르면 (Redis 조회 실패 등) 저장하지 않음
+                        continue;
+                    }
+                    connection.scriptingCommands().eval(SET_IF_VERSION_SCRIPT, ReturnType.INTEGER, 2,
+                            (KEY_PREFIX + profile.getUserId()).getBytes(StandardCharsets.UTF_8),
+                            (VERSION_KEY_PREFIX + profile.getUserId()).getBytes(StandardCharsets.UTF_8),
+                            encode(profile).getBytes(StandardCharsets.UTF_8),
+                            Long.toString(version).getBytes(StandardCharsets.UTF_8),
+                            ttl);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("profile l2 put failed : {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String userId) {
+        try {
+            // 버전을 먼저 올림 → 이전 버전으로 조회해 둔 값은 삭제 이후에도 저장되지 않음
+            String versionKey = VERSION_KEY_PREFIX + userId;
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, Duration.ofSeconds(ttlSeconds * 2));
+            redisTemplate.delete(KEY_PREFIX + userId);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, userId);
+        } catch (DataAccessException e) {
+            // 삭제 실패 시 L2 는 TTL 까지 이전 값 → 경고만 남김
+            log.warn("profile l2 evict failed : userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    private String encode(UserProfile profile) {
+        try {
+            return objectMapper.writeValueAsString(new CachedProfile(profile.getEmail(), profile.getNickname()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 형식이 다른 값(배포 중 구버전 등)은 미스로 처리 → DB 에서 다시 채움
+    private UserProfile decode(String userId, String value) {
+        try {
+            CachedProfile cached = objectMapper.readValue(value, CachedProfile.class);
+            return new UserProfile(userId, cached.email(), cached.nickname());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private record CachedProfile(String email, String nickname) {
+    }
+}
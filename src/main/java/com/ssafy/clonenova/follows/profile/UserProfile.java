@@ -0,0 +1,16 @@
+package com.ssafy.clonenova.follows.profile;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 목록 응답에 필요한 회원 프로필 필드만 담은 projection (UserProfileCache 값)
+ */
+@Getter
+@AllArgsConstructor
+public class UserProfile {
+
+    private final String userId;
+    private final String email;
+    private final String nickname;
+}
@@ -0,0 +1,151 @@
+package com.ssafy.clonenova.follows.profile;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.clonenova.follows.event.UserProfileChangedEvent;
+import com.ssafy.clonenova.follows.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원 프로필 2단 캐시 (목록 조회의 user 조인 제거용)
+ * - L1 : 인스턴스 내 Caffeine (W-TinyLFU → 소수 인기 사용자가 한 번 훑고 지나가는 스캔에 밀려나지 않음)
+ * - L2 : Redis (follows.profile-cache.l2.enabled=true 일 때만)
+ * - 둘 다 없으면 user 테이블 IN 조회 한 번으로 채우고 L2 → L1 순으로 저장
+ * - 프로필 변경 커밋 시 L1 / L2 모두 삭제 (다른 인스턴스 L1 은 L2 구현체가 전파)
+ * - 무효화와 DB 로드가 겹쳐도 이전 값이 다시 들어가지 않도록 무효화 버전 확인
+ *   L1 : userId 해시 stripe 별 버전을 조회 전에 읽고, 저장 후 바뀌었으면 방금 넣은 값을 제거
+ *   L2 : 구현체가 userId 별 버전이 조회 때와 같을 때만 저장 (UserProfileL2Cache)
+ * - 적중률 : cache.gets{cache=user.profile.l1|user.profile.l2, result=hit|miss}
+ */
+@Component
+public class UserProfileCache {
+
+    public static final String L1_NAME = "user.profile.l1";
+    public static final String L2_NAME = "user.profile.l2";
+    // 무효화 버전 stripe 수 (2의 제곱) - 다른 사용자와 stripe 가 겹치면 그 조회 결과를 캐시에 안 넣을 뿐
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    private final UserRepository userRepository;
+    private final Optional<UserProfileL2Cache> l2;
+    private final Cache<String, UserProfile> l1;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public UserProfileCache(UserRepository userRepository,
+                            Optional<UserProfileL2Cache> l2,
+                            MeterRegistry meterRegistry,
+                            @Value("${follows.profile-cache.l1-max-size:100000}") long maxSize,
+                            @Value("${follows.profile-cache.l1-ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.l2 = l2;
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, L1_NAME);
+        this.l2Hits = Counter.builder("cache.gets").tag("cache", L2_NAME).tag("result", "hit").register(meterRegistry);
+        this.l2Misses = Counter.builder("cache.gets").tag("cache", L2_NAME).tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * @return userId → 프로필 (user 행이 없는 userId 는 빠짐)
+     */
+    public Map<String, UserProfile> getAll(Collection<String> userIds) {
+        Set<String> ids = new LinkedHashSet<>(userIds);
+        Map<String, UserProfile> found = new HashMap<>(l1.getAllPresent(ids));
+        if (found.size() == ids.size()) {
+            return found;
+        }
+        List<String> misses = new ArrayList<>(ids.size() - found.size());
+        for (String id : ids) {
+            if (!found.containsKey(id)) {
+                misses.add(id);
+            }
+        }
+        // L2/DB 조회 전에 무효화 버전을 읽어 둠
+        Map<String, Long> versions = new HashMap<>();
+        misses.forEach(id -> versions.put(id, invalidations.get(stripe(id))));
+
+        Map<String, Long> l2Versions = Map.of();
+        if (l2.isPresent()) {
+            UserProfileL2Cache.Snapshot snapshot = l2.get().getAll(misses);
+            Map<String, UserProfile> shared = snapshot.profiles();
+            l2Versions = snapshot.versions();
+            l2Hits.increment(shared.size());
+            l2Misses.increment(misses.size() - shared.size());
+            if (!shared.isEmpty()) {
+                shared.values().forEach(profile -> putLocal(profile, versions.get(profile.getUserId())));
+                found.putAll(shared);
+                misses.removeIf(shared::containsKey);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<UserProfile> loaded = userRepository.findProfiles(misses);
+            if (!loaded.isEmpty()) {
+                Map<String, Long> fillVersions = l2Versions;
+                l2.ifPresent(cache -> cache.putAll(loaded, fillVersions));
+                for (UserProfile profile : loaded) {
+                    putLocal(profile, versions.get(profile.getUserId()));
+                    found.put(profile.getUserId(), profile);
+                }
+            }
+        }
+        return found;
+    }
+
+    // 넣은 뒤 버전을 다시 확인 → 조회 중 또는 넣는 사이에 무효화됐으면 방금 넣은 값만 제거
+    private void putLocal(UserProfile profile, long version) {
+        int stripe = stripe(profile.getUserId());
+        l1.put(profile.getUserId(), profile);
+        if (invalidations.get(stripe) != version) {
+            l1.asMap().remove(profile.getUserId(), profile);
+        }
+    }
+
+    // 버전을 먼저 올리고 삭제 (putLocal 과 순서가 엇갈려도 둘 중 한쪽이 이전 값을 지움)
+    private void invalidateLocal(String userId) {
+        invalidations.incrementAndGet(stripe(userId));
+        l1.invalidate(userId);
+    }
+
+    private static int stripe(String userId) {
+        int h = userId.hashCode();
+        return (h ^ (h >>> 16)) & (INVALIDATION_STRIPES - 1);
+    }
+
+    // GraphVersions 가 ETag 버전을 올리기 전에 무효화
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        invalidateLocal(event.getUserId());
+        l2.ifPresent(cache -> cache.evict(event.getUserId()));
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신 시 (L1 만)
+     */
+    public void evictLocal(String userId) {
+        invalidateLocal(userId);
+    }
+}
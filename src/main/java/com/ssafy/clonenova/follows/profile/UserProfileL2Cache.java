@@ -0,0 +1,31 @@
+package com.ssafy.clonenova.follows.profile;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 인스턴스 간 공유 프로필 캐시 (L2)
+ * 구현체가 빈으로 등록돼 있을 때만 UserProfileCache 가 사용
+ * - userId 마다 무효화 버전을 두고, 조회 시점의 버전과 같을 때만 저장
+ *   → 다른 인스턴스의 DB 조회가 무효화와 겹쳐도 이전 값이 다시 들어가지 않음
+ */
+public interface UserProfileL2Cache {
+
+    /**
+     * @return 캐시에 있는 프로필 (없는 userId 는 키가 빠짐) + 없는 userId 의 현재 무효화 버전
+     */
+    Snapshot getAll(Collection<String> userIds);
+
+    /**
+     * versions(getAll 시점의 버전)와 현재 버전이 같은 userId 만 저장
+     */
+    void putAll(Collection<UserProfile> profiles, Map<String, Long> versions);
+
+    /**
+     * 무효화 버전 증가 + L2 에서 삭제 + 다른 인스턴스의 L1 무효화 전파
+     */
+    void evict(String userId);
+
+    record Snapshot(Map<String, UserProfile> profiles, Map<String, Long> versions) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.clonenova.follows.recommend;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 후보 (내 팔로잉 중 mutualCount 명이 팔로우 중인 사용자)
+ */
+@Getter
+@AllArgsConstructor
+public class FollowCandidate {
+
+    private final String userId;
+    private final int mutualCount;
+}
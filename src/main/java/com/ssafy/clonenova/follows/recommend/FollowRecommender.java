@@ -0,0 +1,224 @@
+package com.ssafy.clonenova.follows.recommend;
+
+import com.ssafy.clonenova.follows.graph.FollowGraph;
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 알 수도 있는 사람 (친구의 친구) 계산
+ * - 내 팔로잉(1 hop) 각각의 팔로잉(2 hop)을 세어서 많이 겹치는 순으로 추천
+ * - hop 마다 최근 간선만 상한까지 사용 → 수천 명을 팔로우하는 사용자도 계산량이 일정
+ * - 1 hop 목록을 구간으로 나눠 fork-join 으로 병렬 카운트 후 병합, 최종 top-K 는 크기 K 의 min-heap
+ * - 그래프에는 활성 간선(deletedAt IS NULL)만 있으므로 2 hop 계산에서 취소된 관계는 자연히 제외
+ * - 내가 팔로우했다가 취소한 사용자(tombstone)는 그래프에 없으므로 호출부가 DB 에서 읽어 excludedUserIds 로 넘김
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowRecommender {
+
+    private final FollowGraph followGraph;
+    private final UserIdInterner interner;
+
+    @Value("${follows.recommend.max-followings:2000}")
+    private int maxFollowings;
+
+    @Value("${follows.recommend.max-followings-per-hop:500}")
+    private int maxFollowingsPerHop;
+
+    @Value("${follows.recommend.fork-threshold:64}")
+    private int forkThreshold;
+
+    @Value("${follows.recommend.parallelism:0}")
+    private int parallelism;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void init() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    public boolean isReady() {
+        return followGraph.isReady();
+    }
+
+    public List<FollowCandidate> recommend(String userId, int size) {
+        return recommend(userId, size, List.of());
+    }
+
+    /**
+     * @param excludedUserIds 팔로우 중인 사용자 / 본인 외에 추가로 제외할 사용자 (내가 취소한 팔로우 대상 등)
+     * @return mutualCount 내림차순 (같으면 먼저 가입/색인된 사용자 우선) 상위 size 명
+     */
+    public List<FollowCandidate> recommend(String userId, int size, Collection<String> excludedUserIds) {
+        int me = interner.find(userId);
+        if (me == UserIdInterner.NOT_FOUND || size <= 0) {
+            return List.of();
+        }
+        int[] followings = followGraph.recentFollowingIds(me, maxFollowings);
+        if (followings.length == 0) {
+            return List.of();
+        }
+
+        IntCounter counts = followings.length <= forkThreshold
+                ? count(followings, 0, followings.length)
+                : pool.invoke(new CountTask(followings, 0, followings.length));
+
+        int[] excluded = internedIds(excludedUserIds);
+
+        // (count, -id) 를 long 하나로 묶어 min-heap 유지 → 박싱 객체 K 개만 생성
+        PriorityQueue<Long> top = new PriorityQueue<>(size + 1);
+        for (int slot = 0; slot < counts.keys.length; slot++) {
+            int candidate = counts.keys[slot];
+            if (candidate == IntCounter.FREE || candidate == me || followGraph.isFollowing(me, candidate)
+                    || Arrays.binarySearch(excluded, candidate) >= 0) {
+                continue;
+            }
+            long score = ((long) counts.values[slot] << 32) | (Integer.MAX_VALUE - candidate);
+            if (top.size() < size) {
+                top.add(score);
+            } else if (score > top.peek()) {
+                top.poll();
+                top.add(score);
+            }
+        }
+
+        List<FollowCandidate> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            long score = top.poll();
+            int candidate = Integer.MAX_VALUE - (int) score;
+            result.add(new FollowCandidate(interner.userId(candidate), (int) (score >>> 32)));
+        }
+        // min-heap 에서 꺼낸 순서(오름차순) 뒤집기
+        Collections.reverse(result);
+        return result;
+    }
+
+    // 그래프에 없는 사용자는 후보가 될 수 없으므로 버림 (정렬해서 binarySearch)
+    private int[] internedIds(Collection<String> userIds) {
+        return userIds.stream()
+                .mapToInt(interner::find)
+                .filter(id -> id != UserIdInterner.NOT_FOUND)
+                .sorted()
+                .toArray();
+    }
+
+    private IntCounter count(int[] followings, int from, int to) {
+        IntCounter counts = new IntCounter(Math.max(16, (to - from) * 8));
+        for (int i = from; i < to; i++) {
+            for (int peer : followGraph.recentFollowingIds(followings[i], maxFollowingsPerHop)) {
+                counts.increment(peer, 1);
+            }
+        }
+        return counts;
+    }
+
+    private final class CountTask extends RecursiveTask<IntCounter> {
+        private final int[] followings;
+        private final int from;
+        private final int to;
+
+        private CountTask(int[] followings, int from, int to) {
+            this.followings = followings;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IntCounter compute() {
+            if (to - from <= forkThreshold) {
+                return count(followings, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(followings, from, mid);
+            left.fork();
+            IntCounter right = new CountTask(followings, mid, to).compute();
+            return left.join().mergeFrom(right);
+        }
+    }
+
+    /**
+     * int → int 카운터 (open addressing, 박싱 없음)
+     */
+    static final class IntCounter {
+        static final int FREE = -1;
+
+        private int[] keys;
+        private int[] values;
+        private int size;
+
+        IntCounter(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1;
+            keys = new int[capacity];
+            values = new int[capacity];
+            Arrays.fill(keys, FREE);
+        }
+
+        void increment(int key, int delta) {
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (keys[slot] != FREE && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == FREE) {
+                keys[slot] = key;
+                if (++size * 2 > keys.length) {
+                    values[slot] = delta;
+                    resize();
+                    return;
+                }
+            }
+            values[slot] += delta;
+        }
+
+        IntCounter mergeFrom(IntCounter other) {
+            // 큰 쪽에 작은 쪽을 더함
+            IntCounter target = size >= other.size ? this : other;
+            IntCounter source = target == this ? other : this;
+            for (int slot = 0; slot < source.keys.length; slot++) {
+                if (source.keys[slot] != FREE) {
+                    target.increment(source.keys[slot], source.values[slot]);
+                }
+            }
+            return target;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[oldKeys.length << 1];
+            values = new int[oldKeys.length << 1];
+            Arrays.fill(keys, FREE);
+            size = 0;
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldKeys[slot] != FREE) {
+                    increment(oldKeys[slot], oldValues[slot]);
+                }
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
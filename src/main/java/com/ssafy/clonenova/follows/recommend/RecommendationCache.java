@@ -0,0 +1,70 @@
+package com.ssafy.clonenova.follows.recommend;
+
+import com.ssafy.clonenova.follows.dto.FollowRecommendResponseDTO;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 추천 결과 캐시
+ * - TTL 이 지나면 조회 시 무시하고 주기적으로 정리
+ * - 내 팔로우/언팔이 커밋되면 내 추천은 바로 무효화 (친구의 친구 변화는 TTL 로 흡수)
+ */
+@Component
+public class RecommendationCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${follows.recommend.cache-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${follows.recommend.cache-max-entries:10000}")
+    private int maxEntries;
+
+    /**
+     * @return 캐시된 결과 (없거나 만료됐거나 요청 size 보다 적게 계산된 결과면 null)
+     */
+    public List<FollowRecommendResponseDTO> get(String userId, int size) {
+        Entry entry = entries.get(userId);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        // 계산할 때 size 보다 후보가 적었으면 더 큰 size 요청에도 그대로 사용 가능
+        if (entry.size < size && entry.result.size() == entry.size) {
+            return null;
+        }
+        return entry.result.size() > size ? entry.result.subList(0, size) : entry.result;
+    }
+
+    public void put(String userId, int size, List<FollowRecommendResponseDTO> result) {
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(userId, new Entry(List.copyOf(result), size, System.currentTimeMillis() + ttlSeconds * 1000));
+    }
+
+    @TransactionalEventListener
+    public void onFollowChanged(FollowChangedEvent event) {
+        entries.remove(event.getFromUserId());
+    }
+
+    @Scheduled(fixedDelayString = "${follows.recommend.cache-evict-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private record Entry(List<FollowRecommendResponseDTO> result, int size, long expiresAt) {
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package com.ssafy.clonenova.follows.repository;
 
+import com.ssafy.clonenova.common.ScrollCursor;
+import com.ssafy.clonenova.follows.dto.FollowExportRowDTO;
+import com.ssafy.clonenova.follows.dto.FollowRecommendResponseDTO;
 import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusResponseDTO;
 import com.ssafy.clonenova.follows.entity.Follows;
+import com.ssafy.clonenova.follows.graph.FollowEdge;
 import jakarta.annotation.Nullable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FollowCustomRepository {
 
@@ -13,33 +21,131 @@ public interface FollowCustomRepository {
      *
      * @param userId 사용자 ID
      * @param keyword 타겟 닉네임 검색 (null 허용)
+     * @param cursor 이전 페이지 마지막 행의 (createdAt, id) (null 이면 첫 페이지)
      * @return 사용자를 팔로우한 유저 리스트
      * */
-    List<FollowSearchListResponseDTO> findFollowerList(String userId, @Nullable String keyword, @Nullable Long lastId, int size);
+    List<FollowSearchListResponseDTO> findFollowerList(String userId, @Nullable String keyword, @Nullable ScrollCursor cursor, int size);
 
     /**
      * 사용자의 팔로잉 목록 조회
      *
      * @param userId 사용자 ID
      * @param keyword 타겟 닉네임 검색 (null 허용)
+     * @param cursor 이전 페이지 마지막 행의 (createdAt, id) (null 이면 첫 페이지)
      * @return 사용자가 팔로잉한 유저 리스트
      * */
-    List<FollowSearchListResponseDTO> findFollowingList(String userId, @Nullable String keyword, @Nullable Long lastId, int size);
+    List<FollowSearchListResponseDTO> findFollowingList(String userId, @Nullable String keyword, @Nullable ScrollCursor cursor, int size);
 
     /**
-     * 팔로우 존재여부 확인
+     * 팔로워 간선만 최신순 키셋 조회 (프로필/맞팔 없음, 피드 fan-out 수신자 목록용)
+     *
+     * @param toUserId 사용자 ID
+     * @param cursor 이전 배치 마지막 간선의 (createdAt, id) (null 이면 처음부터)
+     * @param size 가져올 개수
+     * @return 팔로워 간선 (상대방 = 팔로워)
+     * */
+    List<FollowEdge> findFollowerEdges(String toUserId, @Nullable ScrollCursor cursor, int size);
+
+    /**
+     * 팔로워/팔로잉 전체 목록 스트리밍 (forward-only 커서, 최신순)
+     * 행을 모아두지 않고 sink 로 바로 넘김 → 목록 크기와 무관하게 메모리 일정
+     *
+     * @param userId 사용자 ID
+     * @param followers true 면 팔로워, false 면 팔로잉
+     * @param fetchSize 드라이버가 한 번에 가져올 행 수
+     * @param clearInterval 이 행 수마다 영속성 컨텍스트 비움
+     * @param sink 행 소비자
+     * @return 내보낸 행 수
+     * */
+    long streamFollowList(String userId, boolean followers, int fetchSize, int clearInterval, Consumer<FollowExportRowDTO> sink);
+
+    /**
+     * 알 수도 있는 사람 (친구의 친구) 조회
+     *
+     * @param userId 사용자 ID
+     * @param size 가져올 개수
+     * @return 내 팔로잉이 많이 팔로우한 순 (이미 팔로우 중인 사용자, 본인 제외)
+     * */
+    List<FollowRecommendResponseDTO> findRecommendations(String userId, int size);
+
+    /**
+     * 사용자가 팔로우 중인 대상 ID 조회 (targets 중에서만)
+     *
+     * @param fromUserId 사용자 ID
+     * @param toUserIds 확인할 타겟 사용자 ID 목록
+     * @return 팔로우 중인 타겟 사용자 ID 리스트
+     * */
+    List<String> findFollowingIdsIn(String fromUserId, Collection<String> toUserIds);
+
+    /**
+     * 사용자가 팔로우 중인 대상 ID 전체 조회 (친구 랭킹 등, 그래프 워밍 전 fallback)
+     *
+     * @param fromUserId 사용자 ID
+     * @return 팔로우 중인 타겟 사용자 ID 리스트
+     * */
+    List<String> findFollowingIds(String fromUserId);
+
+    /**
+     * 사용자와 대상들 사이의 양방향 팔로우 여부 일괄 조회 (리더보드/검색 결과 화면용)
+     *
+     * @param userId 사용자 ID
+     * @param targetIds 확인할 대상 사용자 ID 목록 (중복 없음)
+     * @return 대상마다 (내가 팔로우 중, 나를 팔로우 중) - targetIds 순서 그대로
+     * */
+    List<FollowStatusResponseDTO> findFollowStatuses(String userId, List<String> targetIds);
+
+    /**
+     * 사용자와 타겟들 사이의 팔로우 행 조회 (취소된 행 포함)
+     *
+     * @param fromUserId 사용자 ID
+     * @param toUserIds 타겟 사용자 ID 목록
+     * @return 팔로우 객체 리스트
+     * */
+    List<Follows> findEdges(String fromUserId, Collection<String> toUserIds);
+
+    /**
+     * 팔로우 생성 / 취소된 팔로우 복원 / 이미 팔로우 중이면 그대로 (insert → uk_follows_from_to 충돌 시 복원)
+     *
+     * @param fromUserId 사용자 ID
+     * @param toUserId 타겟 사용자 ID
+     * @param createdAt 팔로우 시각 (복원 시에도 이 값으로 갱신)
+     * @return 팔로우 ID 와 실제 변경 여부
+     * */
+    FollowUpsertResult upsertFollow(String fromUserId, String toUserId, LocalDateTime createdAt);
+
+    /**
+     * 팔로우 일괄 생성 (묶음별 multi-row insert)
      *
      * @param fromUserId 사용자 ID
-     * @param toUserId   타겟 사용자 ID 검색
-     * @return 팔로우 객체 반환
-     */
-    Follows findIsFollowCheck(String fromUserId, String toUserId);
+     * @param toUserIds 팔로우할 타겟 사용자 ID 목록
+     * @param createdAt 팔로우 시각
+     * @return 실제로 생성한 타겟 ID (이미 행이 있어 충돌한 묶음은 통째로 빠짐)
+     * */
+    List<String> insertAll(String fromUserId, List<String> toUserIds, LocalDateTime createdAt);
+
+    /**
+     * 취소된 팔로우 일괄 복원 (JDBC batch update)
+     *
+     * @param followIds 복원할 팔로우 ID 목록
+     * @param createdAt 복원 시각
+     * @return 복원하지 못한 팔로우 ID (조회 이후 tombstone 정리로 follows_history 에 옮겨진 행)
+     * */
+    List<Long> restoreAll(List<Long> followIds, LocalDateTime createdAt);
+
+    /**
+     * 팔로우 일괄 취소
+     *
+     * @param followIds 취소할 팔로우 ID 목록
+     * @return 실제로 취소된 행 수
+     * */
+    long cancelAll(List<Long> followIds);
 
     /**
      * 팔로우 취소
      *
      * @param fromUserId 사용자 ID (=pk)
      * @param toUserId 타겟 사용자 ID (=pk) 검색
+     * @return 실제로 취소된 행 수 (이미 취소된 상태면 0)
      * */
-    void cancelFollow(String fromUserId, String toUserId);
+    long cancelFollow(String fromUserId, String toUserId);
 }
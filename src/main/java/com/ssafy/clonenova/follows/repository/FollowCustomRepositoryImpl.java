@@ -1,21 +1,56 @@
 package com.ssafy.clonenova.follows.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.clonenova.common.ScrollCursor;
+import com.ssafy.clonenova.common.uuid.UserIdCodec;
+import com.ssafy.clonenova.follows.dto.FollowExportRowDTO;
+import com.ssafy.clonenova.follows.dto.FollowRecommendResponseDTO;
 import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusResponseDTO;
 import com.ssafy.clonenova.follows.entity.Follows;
 import com.ssafy.clonenova.follows.entity.QFollows;
 import com.ssafy.clonenova.follows.entity.QUser;
+import com.ssafy.clonenova.follows.graph.FollowEdge;
+import com.ssafy.clonenova.follows.graph.FollowGraph;
+import com.ssafy.clonenova.follows.metrics.FollowMetrics;
+import com.ssafy.clonenova.follows.profile.UserProfile;
+import com.ssafy.clonenova.follows.profile.UserProfileCache;
+import com.ssafy.clonenova.follows.recommend.FollowCandidate;
+import com.ssafy.clonenova.follows.recommend.FollowRecommender;
+import com.ssafy.clonenova.follows.search.NicknameIndex;
 import jakarta.annotation.Nullable;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Repository
 @RequiredArgsConstructor
@@ -23,148 +58,642 @@ import java.util.List;
 public class FollowCustomRepositoryImpl implements FollowCustomRepository{
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final FollowGraph followGraph;
+    private final NicknameIndex nicknameIndex;
+    private final FollowRecommender followRecommender;
+    private final FollowMetrics followMetrics;
+    private final UserProfileCache userProfileCache;
+    private final UserIdCodec userIdCodec;
+    private final FollowListJdbcReader followListJdbcReader;
+
+    // 목록 DB 조회 방식 : querydsl(기본) | jdbc (미리 만든 SQL + 직접 작성한 row mapper)
+    @Value("${follows.list.read-path:querydsl}")
+    private String listReadPath;
+
+    // IDENTITY 전략이라 Hibernate 배치 insert 가 불가능 → 대량 쓰기는 JDBC 로 직접 처리
+    // (insert 는 multi-row 문장을 직접 만들고, 복원 batch 는 MySQL URL 에 rewriteBatchedStatements=true 가 있어야 묶임)
+    private static final int IN_CHUNK_SIZE = 1000;
+    private static final String INSERT_SQL =
+            "INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES (?, ?, ?)";
+    // upsert 상태는 ON DUPLICATE KEY UPDATE 의 affected rows 대신 문장별 결과로 판단
+    // (affected rows 는 드라이버 useAffectedRows 설정에 따라 무변경도 1 로 와서 신규와 구분이 안 됨)
+    // - insert 성공 → 신규 / uk_follows_from_to 충돌 → deleted_at 이 있는 행만 복원 → 복원 0건이면 이미 팔로우 중
+    private static final String RESTORE_EDGE_SQL =
+            "UPDATE follows SET deleted_at = NULL, created_at = ? "
+                    + "WHERE from_user_id = ? AND to_user_id = ? AND deleted_at IS NOT NULL";
+    private static final String EDGE_ID_SQL =
+            "SELECT id FROM follows WHERE from_user_id = ? AND to_user_id = ?";
+    private static final String RESTORE_SQL =
+            "UPDATE follows SET deleted_at = NULL, created_at = ? WHERE id = ? AND deleted_at IS NOT NULL";
 
     // DB 와 매핑된 entity 클래스인 QClass 객체 생성
     private final QFollows qFollows = QFollows.follows;
-    private final QFollows targetF = new QFollows("targetF");
     private final QUser qUser = QUser.user;
 
     @Override
-    public List<FollowSearchListResponseDTO> findFollowerList(String userId, @Nullable String keyword, @Nullable Long lastId, int size) {
-        // follows 와 user 조인
-        // keyword 가 존재시 nickname Like 검색 조건 추가
-        return jpaQueryFactory
-                .select(Projections.constructor(FollowSearchListResponseDTO.class,
+    public List<FollowSearchListResponseDTO> findFollowerList(String userId, @Nullable String keyword, @Nullable ScrollCursor cursor, int size) {
+        return followMetrics.recordQuery("follower_list", listPath(keyword),
+                FollowMetrics.listTags("follower", hasKeyword(keyword), cursor == null),
+                () -> followerList(userId, keyword, cursor, size));
+    }
+
+    @Override
+    public List<FollowSearchListResponseDTO> findFollowingList(String userId, @Nullable String keyword, @Nullable ScrollCursor cursor, int size) {
+        return followMetrics.recordQuery("following_list", listPath(keyword),
+                FollowMetrics.listTags("following", hasKeyword(keyword), cursor == null),
+                () -> followingList(userId, keyword, cursor, size));
+    }
+
+    private List<FollowSearchListResponseDTO> followerList(String userId, @Nullable String keyword, @Nullable ScrollCursor cursor, int size) {
+        // 인메모리 그래프에서 처리 (워밍 전이면 DB 조회)
+        // 키워드 검색은 닉네임 색인 posting 과 팔로워 간선의 교집합으로 처리
+        if (followGraph.isReady() && !hasKeyword(keyword)) {
+            return toResponsePage(cursor, size, (next, limit) -> followGraph.findFollowers(userId, next, limit),
+                    peerId -> followGraph.isFollowing(userId, peerId));
+        }
+        if (followGraph.isReady() && useNicknameIndex(keyword)) {
+            int[] candidates = nicknameIndex.search(keyword);
+            return toResponsePage(cursor, size, (next, limit) -> followGraph.findFollowers(userId, candidates, next, limit),
+                    peerId -> followGraph.isFollowing(userId, peerId));
+        }
+
+        // 키워드 없음 : follows 만 조회하고 프로필은 UserProfileCache 에서 일괄로 채움 (user 조인 없음)
+        // 키워드 LIKE 검색 : nickname 조건이 있어서 user 와 조인
+        // 맞팔 여부는 follows self join 대신 조회 후 한 번에 확인
+        List<FollowSearchListResponseDTO> rows;
+        if (useJdbcReader()) {
+            rows = hasKeyword(keyword)
+                    ? followListJdbcReader.search(true, userId, keyword, cursor, size)
+                    : toResponsePage(cursor, size, (next, limit) -> followListJdbcReader.findEdges(true, userId, next, limit));
+        } else if (!hasKeyword(keyword)) {
+            rows = toResponsePage(cursor, size, (next, limit) -> jpaQueryFactory
+                    .select(Projections.constructor(FollowEdge.class,
+                            qFollows.id,
+                            qFollows.fromUserId,
+                            qFollows.createdAt))
+                    .from(qFollows)
+                    .where(qFollows.toUserId.eq(userId)
+                            .and(qFollows.deletedAt.isNull())
+                            .and(cursorCondition(next)))
+                    .orderBy(qFollows.createdAt.desc(), qFollows.id.desc())
+                    .limit(limit)
+                    .fetch(), peerId -> false);
+        } else {
+            rows = jpaQueryFactory
+                    .select(Projections.constructor(FollowSearchListResponseDTO.class,
+                            qFollows.id,
+                            qFollows.createdAt,
+                            qFollows.fromUserId.as("userId"),
+                            qUser.email,
+                            qUser.nickname
+                            ))
+                    .from(qFollows)
+                    .join(qUser).on(qFollows.fromUserId.eq(qUser.id))
+                    .where(qFollows.toUserId.eq(userId)
+                            .and(qFollows.deletedAt.isNull())
+                            .and(keywordCondition(keyword))
+                            .and(cursorCondition(cursor))
+                            )
+                    .orderBy(qFollows.createdAt.desc(), qFollows.id.desc())
+                    .limit(size)
+                    .fetch();
+        }
+
+        // 팔로워 목록의 맞팔 = 내가 그 사람을 팔로우 중인지
+        Set<String> followingBack = followGraph.isReady()
+                ? null : new HashSet<>(findFollowingIdsIn(userId, userIds(rows)));
+        return rows.stream()
+                .map(row -> row.withFollowingBack(followingBack == null
+                        ? followGraph.isFollowing(userId, row.getUserId())
+                        : followingBack.contains(row.getUserId())))
+                .toList();
+    }
+
+    private List<FollowSearchListResponseDTO> followingList(String userId, @Nullable String keyword, @Nullable ScrollCursor cursor, int size) {
+        if (followGraph.isReady() && !hasKeyword(keyword)) {
+            return toResponsePage(cursor, size, (next, limit) -> followGraph.findFollowings(userId, next, limit),
+                    peerId -> followGraph.isFollowing(peerId, userId));
+        }
+        if (followGraph.isReady() && useNicknameIndex(keyword)) {
+            int[] candidates = nicknameIndex.search(keyword);
+            return toResponsePage(cursor, size, (next, limit) -> followGraph.findFollowings(userId, candidates, next, limit),
+                    peerId -> followGraph.isFollowing(peerId, userId));
+        }
+
+        // 키워드 없음 : follows 만 조회 + 프로필 캐시 / 키워드 LIKE 검색 : user 조인
+        List<FollowSearchListResponseDTO> rows;
+        if (useJdbcReader()) {
+            rows = hasKeyword(keyword)
+                    ? followListJdbcReader.search(false, userId, keyword, cursor, size)
+                    : toResponsePage(cursor, size, (next, limit) -> followListJdbcReader.findEdges(false, userId, next, limit));
+        } else if (!hasKeyword(keyword)) {
+            rows = toResponsePage(cursor, size, (next, limit) -> jpaQueryFactory
+                    .select(Projections.constructor(FollowEdge.class,
+                            qFollows.id,
+                            qFollows.toUserId,
+                            qFollows.createdAt))
+                    .from(qFollows)
+                    .where(qFollows.fromUserId.eq(userId)
+                            .and(qFollows.deletedAt.isNull())
+                            .and(cursorCondition(next)))
+                    .orderBy(qFollows.createdAt.desc(), qFollows.id.desc())
+                    .limit(limit)
+                    .fetch(), peerId -> false);
+        } else {
+            rows = jpaQueryFactory
+                    .select(Projections.constructor(FollowSearchListResponseDTO.class,
+                            qFollows.id,
+                            qFollows.createdAt,
+                            qFollows.toUserId.as("userId"),
+                            qUser.email,
+                            qUser.nickname
+                    ))
+                    .from(qFollows)
+                    .join(qUser).on(qFollows.toUserId.eq(qUser.id))
+                    .where(qFollows.fromUserId.eq(userId)
+                            .and(qFollows.deletedAt.isNull())
+                            .and(keywordCondition(keyword))
+                            .and(cursorCondition(cursor)))
+                    .orderBy(qFollows.createdAt.desc(), qFollows.id.desc())
+                    .limit(size)
+                    .fetch();
+        }
+
+        // 팔로잉 목록의 맞팔 = 그 사람이 나를 팔로우 중인지
+        Set<String> followingBack = followGraph.isReady()
+                ? null : new HashSet<>(findFollowerIdsIn(userId, userIds(rows)));
+        return rows.stream()
+                .map(row -> row.withFollowingBack(followingBack == null
+                        ? followGraph.isFollowing(row.getUserId(), userId)
+                        : followingBack.contains(row.getUserId())))
+                .toList();
+    }
+
+    @Override
+    public List<FollowEdge> findFollowerEdges(String toUserId, @Nullable ScrollCursor cursor, int size) {
+        return followMetrics.recordQuery("follower_edges", FollowMetrics.PATH_DB, () -> jpaQueryFactory
+                .select(Projections.constructor(FollowEdge.class,
                         qFollows.id,
-                        qFollows.fromUserId.as("userId"),
-                        qUser.email,
-                        qUser.nickname,
-                        Expressions.booleanTemplate(
-                                "CASE WHEN {0} IS NOT NULL AND {1} IS NULL " +
-                                        "THEN TRUE ELSE FALSE END",
-                                targetF.id,
-                                targetF.deletedAt
-                        ).as("isFollowingBack")
-                        ))
+                        qFollows.fromUserId,
+                        qFollows.createdAt))
                 .from(qFollows)
-                .join(qUser).on(qFollows.fromUserId.eq(qUser.id))
-                .leftJoin(targetF)
-                    .on(qFollows.fromUserId.eq(targetF.toUserId)
-                    .and(qFollows.toUserId.eq(targetF.fromUserId)))
-                .where(qFollows.toUserId.eq(userId)
+                .where(qFollows.toUserId.eq(toUserId)
                         .and(qFollows.deletedAt.isNull())
-                        .and(keywordCondition(keyword))
-                        .and(cursorCondition(lastId))
-                        )
-                .orderBy(qFollows.createdAt.desc())
+                        .and(cursorCondition(cursor)))
+                .orderBy(qFollows.createdAt.desc(), qFollows.id.desc())
                 .limit(size)
-                .fetch();
+                .fetch());
     }
 
     @Override
-    public List<FollowSearchListResponseDTO> findFollowingList(String userId, @Nullable String keyword, Long lastId, int size) {
-        // follows 와 user 조인
-        // keyword 가 존재시 nickname Like 검색 조건 추가
-        return jpaQueryFactory
-                .select(Projections.constructor(FollowSearchListResponseDTO.class,
-                        qFollows.id,
-                        qFollows.toUserId.as("userId"),
+    public long streamFollowList(String userId, boolean followers, int fetchSize, int clearInterval, Consumer<FollowExportRowDTO> sink) {
+        return followMetrics.recordQuery("export", FollowMetrics.PATH_DB,
+                () -> scrollFollowList(userId, followers, fetchSize, clearInterval, sink));
+    }
+
+    private long scrollFollowList(String userId, boolean followers, int fetchSize, int clearInterval, Consumer<FollowExportRowDTO> sink) {
+        StringPath owner = followers ? qFollows.toUserId : qFollows.fromUserId;
+        StringPath peer = followers ? qFollows.fromUserId : qFollows.toUserId;
+
+        // 프로필은 캐시 대신 user 조인으로 가져옴 (전체 내보내기가 L1 캐시를 밀어내지 않도록)
+        // createQuery() 에도 QueryDSL 의 projection 변환이 걸려 있어서 scroll 결과가 바로 DTO 로 나옴
+        @SuppressWarnings("unchecked")
+        Query<FollowExportRowDTO> query = jpaQueryFactory
+                .select(Projections.constructor(FollowExportRowDTO.class,
+                        peer,
                         qUser.email,
                         qUser.nickname,
-                        Expressions.booleanTemplate(
-                                "CASE WHEN {0} IS NOT NULL AND {1} IS NULL " +
-                                        "THEN TRUE ELSE FALSE END",
-                                targetF.id,
-                                targetF.deletedAt
-                        ).as("isFollowingBack")
-                ))
+                        qFollows.createdAt))
                 .from(qFollows)
-                .join(qUser).on(qFollows.fromUserId.eq(qUser.id))
-                .leftJoin(targetF)
-                .on(qFollows.fromUserId.eq(targetF.toUserId)
-                        .and(qFollows.toUserId.eq(targetF.fromUserId)))
+                .join(qUser).on(peer.eq(qUser.id))
+                .where(owner.eq(userId)
+                        .and(qFollows.deletedAt.isNull()))
+                .orderBy(qFollows.createdAt.desc(), qFollows.id.desc())
+                .createQuery()
+                .unwrap(Query.class);
+
+        // MySQL 은 URL 에 useCursorFetch=true 가 있어야 fetchSize 단위로 가져옴 (없으면 결과 전체를 드라이버가 메모리에 적재)
+        query.setFetchSize(fetchSize);
+        query.setReadOnly(true);
+        query.setCacheMode(CacheMode.IGNORE);
+
+        long count = 0;
+        try (ScrollableResults<FollowExportRowDTO> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                sink.accept(results.get());
+                // 스칼라 조회라 관리 엔티티는 없지만, 같은 트랜잭션에서 쌓인 것이 있으면 주기적으로 비움
+                if (++count % clearInterval == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public List<FollowRecommendResponseDTO> findRecommendations(String userId, int size) {
+        String path = followRecommender.isReady() ? FollowMetrics.PATH_GRAPH : FollowMetrics.PATH_DB;
+        return followMetrics.recordQuery("recommendations", path, () -> recommendations(userId, size));
+    }
+
+    private List<FollowRecommendResponseDTO> recommendations(String userId, int size) {
+        if (followRecommender.isReady()) {
+            // 그래프에는 활성 간선만 있으므로 내가 취소한 팔로우 대상은 따로 읽어서 제외
+            List<FollowCandidate> candidates = followRecommender.recommend(userId, size, findUnfollowedIds(userId));
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+            Map<String, UserProfile> profiles = userProfileCache.getAll(
+                    candidates.stream().map(FollowCandidate::getUserId).toList());
+
+            // 프로필 없는 사용자는 제외 (목록 조회와 동일)
+            return candidates.stream()
+                    .filter(candidate -> profiles.containsKey(candidate.getUserId()))
+                    .map(candidate -> FollowRecommendResponseDTO.builder()
+                            .userId(candidate.getUserId())
+                            .nickname(profiles.get(candidate.getUserId()).getNickname())
+                            .mutualCount(candidate.getMutualCount())
+                            .build())
+                    .toList();
+        }
+
+        // 그래프 워밍 전 : 내 팔로잉(f) → 그들의 팔로잉(hop) 을 집계
+        QFollows hop = new QFollows("hop");
+        QFollows mine = new QFollows("mine");
+        NumberExpression<Long> mutualCount = hop.id.count();
+        return jpaQueryFactory
+                .select(Projections.constructor(FollowRecommendResponseDTO.class,
+                        hop.toUserId,
+                        qUser.nickname,
+                        mutualCount))
+                .from(qFollows)
+                .join(hop).on(hop.fromUserId.eq(qFollows.toUserId)
+                        .and(hop.deletedAt.isNull()))
+                .join(qUser).on(qUser.id.eq(hop.toUserId))
                 .where(qFollows.fromUserId.eq(userId)
                         .and(qFollows.deletedAt.isNull())
-                        .and(keywordCondition(keyword))
-                        .and(cursorCondition(lastId)))
-                .orderBy(qFollows.createdAt.desc())
+                        .and(hop.toUserId.ne(userId))
+                        // 팔로우 중 + 취소한 대상(tombstone) 모두 제외
+                        .and(hop.toUserId.notIn(JPAExpressions
+                                .select(mine.toUserId)
+                                .from(mine)
+                                .where(mine.fromUserId.eq(userId)))))
+                .groupBy(hop.toUserId, qUser.nickname)
+                .orderBy(mutualCount.desc(), hop.toUserId.asc())
                 .limit(size)
                 .fetch();
     }
 
-    @Transactional
+    // 사용자가 팔로우했다가 취소한 대상 (idx_follows_from_user_page 의 (from_user_id, deleted_at) 범위 조회)
+    private List<String> findUnfollowedIds(String fromUserId) {
+        return followMetrics.recordQuery("unfollowed_ids", FollowMetrics.PATH_DB, () -> jpaQueryFactory
+                .select(qFollows.toUserId)
+                .from(qFollows)
+                .where(qFollows.fromUserId.eq(fromUserId)
+                        .and(qFollows.deletedAt.isNotNull()))
+                .fetch());
+    }
+
     @Override
-    public Follows findIsFollowCheck(String fromUserId, String toUserId) {
+    public List<String> findFollowingIdsIn(String fromUserId, Collection<String> toUserIds) {
+        if (toUserIds.isEmpty()) {
+            return List.of();
+        }
+        if (followGraph.isReady()) {
+            return toUserIds.stream()
+                    .filter(toUserId -> followGraph.isFollowing(fromUserId, toUserId))
+                    .toList();
+        }
         return jpaQueryFactory
-                .selectFrom(qFollows)
+                .select(qFollows.toUserId)
+                .from(qFollows)
                 .where(qFollows.fromUserId.eq(fromUserId)
-                        .and(qFollows.toUserId.eq(toUserId))
-                        .and(qFollows.deletedAt.isNotNull()))
-                .fetchOne();
-
-        // 첫 팔로우
-//        if(ObjectUtils.isEmpty(existing)) {
-//            Follows newFollow = Follows.builder()
-//                    .fromUserId(fromUserId)
-//                    .toUserId(toUserId)
-//                    .build();
-//
-//            // 영속성 컨텍스트에 등록 (insert 예약)
-//            // 커밋 시점에 실제 insert 쿼리 실행
-//            entityManager.persist(newFollow);
-//
-//            return FollowResponseDTO.builder()
-//                    .followId(newFollow.getId())
-//                    .fromUserId(newFollow.getFromUserId())
-//                    .toUserId(newFollow.getToUserId())
-//                    .build();
-//
-//        }
-//        // 과거에 언팔 -> 다시 팔로우 복원
-//        else if(existing.getDeletedAt() != null) {
-//            // 비어있지않다면 한번 언팔한 사이로 세팅값 변경
-//            // -> JPA 필드 변경 감지하여 자동 쿼리 호출됨
-//            existing.restore();
-//
-//            return FollowResponseDTO.builder()
-//                    .followId(existing.getId())
-//                    .fromUserId(existing.getFromUserId())
-//                    .toUserId(existing.getToUserId())
-//                    .build();
-//        }
-//        // 이미 팔로우 중
-//        else {
-//            return FollowResponseDTO.builder()
-//                    .followId(existing.getId())
-//                    .fromUserId(existing.getFromUserId())
-//                    .toUserId(existing.getToUserId())
-//                    .build();
-//        }
+                        .and(qFollows.toUserId.in(toUserIds))
+                        .and(qFollows.deletedAt.isNull()))
+                .fetch();
+    }
 
+    // targets 중 사용자를 팔로우 중인 사람 (그래프 워밍 전 맞팔 확인용, IN 조회 한 번)
+    private List<String> findFollowerIdsIn(String toUserId, Collection<String> fromUserIds) {
+        if (fromUserIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(qFollows.fromUserId)
+                .from(qFollows)
+                .where(qFollows.toUserId.eq(toUserId)
+                        .and(qFollows.fromUserId.in(fromUserIds))
+                        .and(qFollows.deletedAt.isNull()))
+                .fetch();
+    }
+
+    private List<String> userIds(List<FollowSearchListResponseDTO> rows) {
+        return rows.stream().map(FollowSearchListResponseDTO::getUserId).toList();
+    }
+
+    @Transactional
+    @Override
+    public List<String> findFollowingIds(String fromUserId) {
+        return followMetrics.recordQuery("following_ids", FollowMetrics.PATH_DB, () -> jpaQueryFactory
+                .select(qFollows.toUserId)
+                .from(qFollows)
+                .where(qFollows.fromUserId.eq(fromUserId)
+                        .and(qFollows.deletedAt.isNull()))
+                .fetch());
+    }
+
+    @Override
+    public List<FollowStatusResponseDTO> findFollowStatuses(String userId, List<String> targetIds) {
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        if (followGraph.isReady()) {
+            return followMetrics.recordQuery("follow_status", FollowMetrics.PATH_GRAPH, () -> targetIds.stream()
+                    .map(targetId -> FollowStatusResponseDTO.builder()
+                            .userId(targetId)
+                            .following(followGraph.isFollowing(userId, targetId))
+                            .followedBy(followGraph.isFollowing(targetId, userId))
+                            .build())
+                    .toList());
+        }
+        return followMetrics.recordQuery("follow_status", FollowMetrics.PATH_DB, () -> followStatuses(userId, targetIds));
+    }
+
+    private List<FollowStatusResponseDTO> followStatuses(String userId, List<String> targetIds) {
+        Set<String> following = new HashSet<>();
+        Set<String> followedBy = new HashSet<>();
+        for (int from = 0; from < targetIds.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = targetIds.subList(from, Math.min(from + IN_CHUNK_SIZE, targetIds.size()));
+            // 양방향 모두 (from_user_id, to_user_id) 유니크 인덱스 점 조회
+            // (me, t1..tn) ∪ (t1..tn, me) → 한 번의 range scan 으로 최대 2n 행 (단건 확인 n 번과 같은 접근)
+            List<Tuple> rows = jpaQueryFactory
+                    .select(qFollows.fromUserId, qFollows.toUserId)
+                    .from(qFollows)
+                    .where(qFollows.fromUserId.eq(userId).and(qFollows.toUserId.in(chunk))
+                            .or(qFollows.fromUserId.in(chunk).and(qFollows.toUserId.eq(userId)))
+                            .and(qFollows.deletedAt.isNull()))
+                    .fetch();
+            for (Tuple row : rows) {
+                String fromUserId = row.get(qFollows.fromUserId);
+                String toUserId = row.get(qFollows.toUserId);
+                if (userId.equals(fromUserId)) {
+                    following.add(toUserId);
+                }
+                if (userId.equals(toUserId)) {
+                    followedBy.add(fromUserId);
+                }
+            }
+        }
+        List<FollowStatusResponseDTO> result = new ArrayList<>(targetIds.size());
+        for (String targetId : targetIds) {
+            result.add(FollowStatusResponseDTO.builder()
+                    .userId(targetId)
+                    .following(following.contains(targetId))
+                    .followedBy(followedBy.contains(targetId))
+                    .build());
+        }
+        return result;
+    }
+
+    @Override
+    public List<Follows> findEdges(String fromUserId, Collection<String> toUserIds) {
+        // IN 파라미터가 너무 길어지지 않도록 나눠서 조회
+        List<String> targets = List.copyOf(toUserIds);
+        return followMetrics.recordQuery("edges", FollowMetrics.PATH_DB, () -> {
+            List<Follows> result = new ArrayList<>(targets.size());
+            for (int from = 0; from < targets.size(); from += IN_CHUNK_SIZE) {
+                List<String> chunk = targets.subList(from, Math.min(from + IN_CHUNK_SIZE, targets.size()));
+                result.addAll(jpaQueryFactory
+                        .selectFrom(qFollows)
+                        .where(qFollows.fromUserId.eq(fromUserId)
+                                .and(qFollows.toUserId.in(chunk)))
+                        .fetch());
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public FollowUpsertResult upsertFollow(String fromUserId, String toUserId, LocalDateTime createdAt) {
+        return followMetrics.recordQuery("upsert", FollowMetrics.PATH_DB, () -> {
+            Timestamp timestamp = Timestamp.valueOf(createdAt);
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            try {
+                jdbcTemplate.update(con -> {
+                    PreparedStatement ps = con.prepareStatement(INSERT_SQL, new String[]{"id"});
+                    userIdCodec.set(ps, 1, fromUserId);
+                    userIdCodec.set(ps, 2, toUserId);
+                    ps.setTimestamp(3, timestamp);
+                    return ps;
+                }, keyHolder);
+                return new FollowUpsertResult(keyHolder.getKeyAs(Long.class), FollowUpsertResult.Status.CREATED);
+            } catch (DuplicateKeyException e) {
+                // 이미 행이 있음 (충돌한 문장만 롤백되고 트랜잭션은 계속, InnoDB 는 해당 행에 공유 락을 잡음)
+            }
+
+            Object from = userIdCodec.bind(fromUserId);
+            Object to = userIdCodec.bind(toUserId);
+            // WHERE 에 deleted_at 조건이 있어 found rows / affected rows 어느 쪽이든 복원한 행 수와 같음
+            int restored = jdbcTemplate.update(RESTORE_EDGE_SQL, timestamp, from, to);
+            // 복원/무변경은 generated key 가 없어서 unique 인덱스로 id 만 조회 (재시도 등 드문 경로)
+            Long followId = jdbcTemplate.queryForObject(EDGE_ID_SQL, Long.class, from, to);
+            return new FollowUpsertResult(followId,
+                    restored > 0 ? FollowUpsertResult.Status.RESTORED : FollowUpsertResult.Status.UNCHANGED);
+        });
+    }
+
+    @Override
+    public List<String> insertAll(String fromUserId, List<String> toUserIds, LocalDateTime createdAt) {
+        // 묶음마다 multi-row INSERT 한 문장 → 문장 단위로 원자적이라 uk_follows_from_to 충돌 시 그 묶음만 통째로 롤백
+        // (조회 이후 같은 쌍을 단건 팔로우가 먼저 넣은 경우, 요청 전체를 실패시키지 않고 호출부가 대상별 upsert 로 다시 처리)
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        List<String> inserted = new ArrayList<>(toUserIds.size());
+        for (int from = 0; from < toUserIds.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = toUserIds.subList(from, Math.min(from + IN_CHUNK_SIZE, toUserIds.size()));
+            String sql = INSERT_SQL + ", (?, ?, ?)".repeat(chunk.size() - 1);
+            try {
+                int affected = jdbcTemplate.update(sql, ps -> {
+                    int index = 1;
+                    for (String toUserId : chunk) {
+                        userIdCodec.set(ps, index++, fromUserId);
+                        userIdCodec.set(ps, index++, toUserId);
+                        ps.setTimestamp(index++, timestamp);
+                    }
+                });
+                if (affected == chunk.size()) {
+                    inserted.addAll(chunk);
+                }
+            } catch (DuplicateKeyException e) {
+                log.debug("bulk insert conflict : from={}, chunk={}", fromUserId, chunk.size());
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<Long> restoreAll(List<Long> followIds, LocalDateTime createdAt) {
+        if (followIds.isEmpty()) {
+            return List.of();
+        }
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(RESTORE_SQL, followIds, IN_CHUNK_SIZE, (ps, followId) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setLong(2, followId);
+        });
 
+        // 배치 update count 는 드라이버 설정(rewriteBatchedStatements)에 따라 행 단위로 안 올 수 있어서
+        // 복원된 행을 다시 확인 (같은 트랜잭션이라 방금 복원한 행이 보임, 영속성 컨텍스트를 거치지 않는 id 조회)
+        Set<Long> restored = new HashSet<>(followIds.size());
+        for (int from = 0; from < followIds.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = followIds.subList(from, Math.min(from + IN_CHUNK_SIZE, followIds.size()));
+            restored.addAll(jpaQueryFactory
+                    .select(qFollows.id)
+                    .from(qFollows)
+                    .where(qFollows.id.in(chunk)
+                            .and(qFollows.deletedAt.isNull()))
+                    .fetch());
+        }
+        return followIds.stream().filter(followId -> !restored.contains(followId)).toList();
+    }
+
+    @Override
+    public long cancelAll(List<Long> followIds) {
+        LocalDateTime now = LocalDateTime.now();
+        long canceled = 0;
+        for (int from = 0; from < followIds.size(); from += IN_CHUNK_SIZE) {
+            canceled += jpaQueryFactory
+                    .update(qFollows)
+                    .set(qFollows.deletedAt, now)
+                    .where(qFollows.id.in(followIds.subList(from, Math.min(from + IN_CHUNK_SIZE, followIds.size())))
+                            .and(qFollows.deletedAt.isNull()))
+                    .execute();
+        }
+        return canceled;
     }
 
     @Transactional
     @Override
-    public void cancelFollow(String fromUserId, String toUserId) {
+    public long cancelFollow(String fromUserId, String toUserId) {
         // 언팔 시 deletedAt 컬럼에 현재 시각 세팅
-        jpaQueryFactory
+        return followMetrics.recordQuery("cancel", FollowMetrics.PATH_DB, () -> jpaQueryFactory
             .update(qFollows)
             .set(qFollows.deletedAt, LocalDateTime.now())
             .where(qFollows.fromUserId.eq(fromUserId)
                     .and(qFollows.toUserId.eq(toUserId))
                     .and(qFollows.deletedAt.isNull()))
-            .execute();
+            .execute());
+    }
+
+    // 간선 → 응답 DTO 한 페이지 (프로필은 UserProfileCache 에서 일괄 조회)
+    // user 와 inner join 하던 기존 쿼리와 동일하게 프로필 없는 행은 제외하되, 그만큼 마지막으로 읽은 간선 다음부터 더 읽어서 채움
+    // (서비스는 결과가 size 개보다 적으면 마지막 페이지로 판단)
+    private List<FollowSearchListResponseDTO> toResponsePage(@Nullable ScrollCursor cursor, int size,
+                                                             EdgePageReader<List<FollowEdge>> reader,
+                                                             Predicate<String> isFollowingBack) {
+        List<FollowSearchListResponseDTO> result = new ArrayList<>(size);
+        ScrollCursor next = cursor;
+        while (true) {
+            int limit = size - result.size();
+            List<FollowEdge> edges = reader.read(next, limit);
+            if (edges.isEmpty()) {
+                return result;
+            }
+            Map<String, UserProfile> profiles = userProfileCache.getAll(
+                    edges.stream().map(FollowEdge::getUserId).toList());
+            for (FollowEdge edge : edges) {
+                UserProfile profile = profiles.get(edge.getUserId());
+                if (profile == null) {
+                    continue;
+                }
+                result.add(FollowSearchListResponseDTO.builder()
+                        .id(edge.getFollowId())
+                        .userId(edge.getUserId())
+                        .createdAt(edge.getCreatedAt())
+                        .email(profile.getEmail())
+                        .nickname(profile.getNickname())
+                        .isFollowingBack(isFollowingBack.test(edge.getUserId()))
+                        .build());
+            }
+            if (edges.size() < limit || result.size() >= size) {
+                return result;
+            }
+            FollowEdge last = edges.get(edges.size() - 1);
+            next = new ScrollCursor(last.getCreatedAt(), last.getFollowId());
+        }
+    }
+
+    // JDBC 경로용 (FollowEdge 대신 열 단위 버퍼, 동작은 위 List 버전과 동일 / 맞팔 여부는 호출부에서 채움)
+    private List<FollowSearchListResponseDTO> toResponsePage(@Nullable ScrollCursor cursor, int size,
+                                                             EdgePageReader<FollowListJdbcReader.EdgeBuffer> reader) {
+        List<FollowSearchListResponseDTO> result = new ArrayList<>(size);
+        ScrollCursor next = cursor;
+        while (true) {
+            int limit = size - result.size();
+            FollowListJdbcReader.EdgeBuffer edges = reader.read(next, limit);
+            int fetched = edges.size();
+            if (fetched == 0) {
+                return result;
+            }
+            Map<String, UserProfile> profiles = userProfileCache.getAll(edges.userIds());
+            for (int i = 0; i < fetched; i++) {
+                UserProfile profile = profiles.get(edges.userId(i));
+                if (profile == null) {
+                    continue;
+                }
+                result.add(new FollowSearchListResponseDTO(edges.followId(i), edges.createdAt(i), edges.userId(i),
+                        profile.getEmail(), profile.getNickname(), false));
+            }
+            if (fetched < limit || result.size() >= size) {
+                return result;
+            }
+            next = new ScrollCursor(edges.createdAt(fetched - 1), edges.followId(fetched - 1));
+        }
+    }
+
+    // (커서, 최대 개수) → 정렬 순서대로의 간선 한 묶음
+    @FunctionalInterface
+    private interface EdgePageReader<T> {
+        T read(@Nullable ScrollCursor cursor, int limit);
+    }
+
+    // 지표 태그용 조회 경로 (followerList / followingList 의 분기와 같은 순서)
+    private String listPath(String keyword) {
+        if (followGraph.isReady() && !hasKeyword(keyword)) {
+            return FollowMetrics.PATH_GRAPH;
+        }
+        if (followGraph.isReady() && useNicknameIndex(keyword)) {
+            return FollowMetrics.PATH_INDEX;
+        }
+        return FollowMetrics.PATH_DB;
+    }
+
+    private boolean useNicknameIndex(String keyword) {
+        return nicknameIndex.isReady() && nicknameIndex.supports(keyword);
+    }
+
+    private boolean useJdbcReader() {
+        return "jdbc".equalsIgnoreCase(listReadPath);
+    }
+
+    private boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.isBlank();
     }
 
     // keyword null 체크
     private BooleanExpression keywordCondition(String keyword) {
-        return (keyword == null || keyword.isBlank())
-                ? null : qUser.nickname.containsIgnoreCase(keyword);
+        return hasKeyword(keyword) ? qUser.nickname.containsIgnoreCase(keyword) : null;
     }
 
-    private BooleanExpression cursorCondition(Long lastId) {
-        // lt - 왼쪽 필드가 "값"보다 작은 것에 대한 쿼리 (id > lastId)
-        return lastId != null ? qFollows.id.lt(lastId) : null;
+    private BooleanExpression cursorCondition(ScrollCursor cursor) {
+        // 정렬 기준과 동일한 (createdAt, id) 복합 조건
+        // → (user_id, deleted_at, created_at, id) 인덱스를 역순으로 range scan, filesort 없음
+        if (cursor == null) {
+            return null;
+        }
+        return qFollows.createdAt.lt(cursor.getCreatedAt())
+                .or(qFollows.createdAt.eq(cursor.getCreatedAt())
+                        .and(qFollows.id.lt(cursor.getId())));
     }
 }
@@ -0,0 +1,41 @@
+package com.ssafy.clonenova.follows.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FollowHistoryCustomRepository {
+
+    /**
+     * 보관 기간이 지난 취소 팔로우를 follows → follows_history 로 이동 (호출부 트랜잭션 안에서 실행)
+     * 대상 행을 FOR UPDATE 로 잠근 뒤 복사/삭제 → 동시에 들어온 복원(upsert)은 이동이 끝난 뒤 새 행으로 생성됨
+     *
+     * @param deletedBefore 이 시각 이전에 취소된 행만
+     * @param size 한 번에 옮길 최대 행 수
+     * @param archivedAt 보관 시각
+     * @return 옮긴 행 수
+     */
+    int archiveTombstones(LocalDateTime deletedBefore, int size, LocalDateTime archivedAt);
+
+    /**
+     * 가장 오래된 취소 팔로우의 취소 시각 (없으면 null)
+     */
+    LocalDateTime findOldestTombstone();
+
+    /**
+     * follows_history 파티션 상한 목록 (VALUES LESS THAN 값 오름차순, pmax 제외)
+     */
+    List<LocalDate> findPartitionBounds();
+
+    /**
+     * pmax 를 나눠서 상한이 bounds 인 파티션들을 추가 (bounds 는 기존 상한보다 커야 함)
+     */
+    void addPartitions(List<LocalDate> bounds);
+
+    /**
+     * 상한이 bound 이하인 파티션 삭제 (보관 데이터 영구 삭제)
+     *
+     * @return 삭제한 파티션 수
+     */
+    int dropPartitionsUpTo(LocalDate bound);
+}
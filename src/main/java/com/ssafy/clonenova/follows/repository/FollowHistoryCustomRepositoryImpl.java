@@ -0,0 +1,97 @@
+package com.ssafy.clonenova.follows.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FollowHistoryCustomRepositoryImpl implements FollowHistoryCustomRepository {
+
+    // 테이블 간 이동 / 파티션 DDL 은 JPQL 로 표현이 안 돼서 JDBC 로 처리
+    // 사용자 id 는 컬럼끼리 그대로 복사하므로 UserIdCodec 바인딩이 필요 없음
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    // idx_follows_deleted_at range scan, 오래된 취소 행부터
+    private static final String LOCK_TOMBSTONES_SQL =
+            "SELECT id FROM follows WHERE deleted_at < ? ORDER BY deleted_at, id LIMIT ? FOR UPDATE";
+    private static final String COPY_SQL =
+            "INSERT INTO follows_history (id, from_user_id, to_user_id, created_at, deleted_at, archived_at) "
+                    + "SELECT id, from_user_id, to_user_id, created_at, deleted_at, ? FROM follows WHERE id IN (%s)";
+    private static final String DELETE_SQL =
+            "DELETE FROM follows WHERE id IN (%s)";
+    private static final String OLDEST_TOMBSTONE_SQL =
+            "SELECT MIN(deleted_at) FROM follows WHERE deleted_at IS NOT NULL";
+    // MySQL 전용 (follows.compaction.partitioning.enabled=true 일 때만 사용)
+    private static final String PARTITIONS_SQL =
+            "SELECT partition_description FROM information_schema.partitions "
+                    + "WHERE table_schema = DATABASE() AND table_name = 'follows_history' "
+                    + "AND partition_name IS NOT NULL AND partition_name <> 'pmax' "
+                    + "ORDER BY partition_ordinal_position";
+
+    @Override
+    public int archiveTombstones(LocalDateTime deletedBefore, int size, LocalDateTime archivedAt) {
+        List<Long> ids = jdbcTemplate.queryForList(LOCK_TOMBSTONES_SQL, Long.class, Timestamp.valueOf(deletedBefore), size);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] copyArgs = new Object[ids.size() + 1];
+        copyArgs[0] = Timestamp.valueOf(archivedAt);
+        for (int i = 0; i < ids.size(); i++) {
+            copyArgs[i + 1] = ids.get(i);
+        }
+        jdbcTemplate.update(String.format(COPY_SQL, placeholders), copyArgs);
+        return jdbcTemplate.update(String.format(DELETE_SQL, placeholders), ids.toArray());
+    }
+
+    @Override
+    public LocalDateTime findOldestTombstone() {
+        Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_TOMBSTONE_SQL, Timestamp.class);
+        return oldest == null ? null : oldest.toLocalDateTime();
+    }
+
+    @Override
+    public List<LocalDate> findPartitionBounds() {
+        // RANGE COLUMNS 의 partition_description 은 '2025-11-01 00:00:00' 처럼 따옴표 포함 문자열
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, String.class).stream()
+                .map(description -> LocalDate.parse(description.replace("'", "").substring(0, 10)))
+                .toList();
+    }
+
+    @Override
+    public void addPartitions(List<LocalDate> bounds) {
+        if (bounds.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder("ALTER TABLE follows_history REORGANIZE PARTITION pmax INTO (");
+        for (LocalDate bound : bounds) {
+            // 상한 직전 달 이름 (p202510 = 2025-10 에 취소된 행, 상한 2025-11-01)
+            sql.append("PARTITION ").append(bound.minusMonths(1).format(PARTITION_NAME))
+                    .append(" VALUES LESS THAN ('").append(bound).append("'), ");
+        }
+        sql.append("PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(sql.toString());
+    }
+
+    @Override
+    public int dropPartitionsUpTo(LocalDate bound) {
+        List<String> names = findPartitionBounds().stream()
+                .filter(upper -> !upper.isAfter(bound))
+                .map(upper -> upper.minusMonths(1).format(PARTITION_NAME))
+                .toList();
+        if (!names.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE follows_history DROP PARTITION " + String.join(", ", names));
+        }
+        return names.size();
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy.clonenova.follows.repository;
+
+import com.ssafy.clonenova.follows.entity.FollowHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FollowHistoryRepository extends JpaRepository<FollowHistory, Long>, FollowHistoryCustomRepository {
+}
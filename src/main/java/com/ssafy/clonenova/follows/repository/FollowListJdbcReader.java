@@ -0,0 +1,203 @@
+package com.ssafy.clonenova.follows.repository;
+
+import com.ssafy.clonenova.common.ScrollCursor;
+import com.ssafy.clonenova.common.uuid.UserIdCodec;
+import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 팔로워/팔로잉 목록 DB 조회의 JDBC 경로 (follows.list.read-path=jdbc)
+ * - QueryDSL 경로는 호출마다 JPQL 생성 → HQL 파싱(캐시 조회) → SQL 변환 → 리플렉션 생성자 호출을 거침
+ * - 여기서는 (팔로워/팔로잉 × 키워드 × 커서) 8개 SQL 을 클래스 로딩 시 한 번만 만들고 파라미터만 바인딩
+ *   (MySQL 은 URL 에 cachePrepStmts=true&useServerPrepStmts=true 가 있으면 서버 prepare 까지 재사용)
+ * - row mapper 는 컬럼 위치로 직접 읽음 → SELECT 절 순서를 바꾸면 mapper 람다도 같이 바꿀 것
+ * - 조건/정렬은 QueryDSL 경로와 동일 ((user_id, deleted_at, created_at, id) 인덱스 역순 range scan)
+ */
+@Component
+@RequiredArgsConstructor
+class FollowListJdbcReader {
+
+    private static final String EDGE_SELECT = "SELECT f.id, f.%s, f.created_at FROM follows f ";
+    private static final String SEARCH_SELECT = "SELECT f.id, f.created_at, f.%1$s, u.email, u.nickname "
+            + "FROM follows f JOIN user u ON u.id = f.%1$s ";
+    private static final String OWNER_CONDITION = "WHERE f.%s = ? AND f.deleted_at IS NULL ";
+    // QueryDSL containsIgnoreCase 와 같은 escape 문자
+    private static final String KEYWORD_CONDITION = "AND LOWER(u.nickname) LIKE ? ESCAPE '!' ";
+    private static final String CURSOR_CONDITION = "AND (f.created_at < ? OR (f.created_at = ? AND f.id < ?)) ";
+    private static final String ORDER_LIMIT = "ORDER BY f.created_at DESC, f.id DESC LIMIT ?";
+
+    // [followers][keyword][cursor] - followers 면 상대방 = from_user_id, 조건 = to_user_id
+    private static final String[][][] SQL = new String[2][2][2];
+
+    static {
+        for (int followers = 0; followers < 2; followers++) {
+            String peer = followers == 1 ? "from_user_id" : "to_user_id";
+            String owner = followers == 1 ? "to_user_id" : "from_user_id";
+            for (int keyword = 0; keyword < 2; keyword++) {
+                for (int cursor = 0; cursor < 2; cursor++) {
+                    SQL[followers][keyword][cursor] = String.format(keyword == 1 ? SEARCH_SELECT : EDGE_SELECT, peer)
+                            + String.format(OWNER_CONDITION, owner)
+                            + (keyword == 1 ? KEYWORD_CONDITION : "")
+                            + (cursor == 1 ? CURSOR_CONDITION : "")
+                            + ORDER_LIMIT;
+                }
+            }
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserIdCodec userIdCodec;
+
+    /**
+     * 키워드 없는 목록 : follows 만 조회해서 (id, 상대방 id, created_at) 를 호출마다 새 버퍼에 채움
+     * - 버퍼는 LIMIT 과 같은 크기로 한 번에 잡음 (ThreadLocal 재사용은 요청마다 새 스레드인 가상 스레드 모드에선 효과가 없고,
+     *   플랫폼 스레드에선 가장 컸던 페이지 크기의 배열을 스레드가 계속 쥐고 있게 됨)
+     */
+    EdgeBuffer findEdges(boolean followers, String userId, @Nullable ScrollCursor cursor, int size) {
+        EdgeBuffer buffer = new EdgeBuffer(size);
+        jdbcTemplate.query(
+                SQL[index(followers)][0][index(cursor != null)],
+                ps -> bind(ps, userId, null, cursor, size),
+                rs -> {
+                    buffer.add(rs.getLong(1), userIdCodec.get(rs, 2), readDateTime(rs, 3));
+                });
+        return buffer;
+    }
+
+    /**
+     * 닉네임 LIKE 검색 목록 : user 조인 (맞팔 여부는 호출부에서 채움)
+     */
+    List<FollowSearchListResponseDTO> search(boolean followers, String userId, String keyword, @Nullable ScrollCursor cursor, int size) {
+        List<FollowSearchListResponseDTO> rows = new ArrayList<>(size);
+        jdbcTemplate.query(
+                SQL[index(followers)][1][index(cursor != null)],
+                ps -> bind(ps, userId, likePattern(keyword), cursor, size),
+                rs -> {
+                    rows.add(new FollowSearchListResponseDTO(
+                            rs.getLong(1),
+                            readDateTime(rs, 2),
+                            userIdCodec.get(rs, 3),
+                            rs.getString(4),
+                            rs.getString(5)));
+                });
+        return rows;
+    }
+
+    private void bind(PreparedStatement ps, String userId, @Nullable String pattern, @Nullable ScrollCursor cursor, int size) throws SQLException {
+        int i = 1;
+        userIdCodec.set(ps, i++, userId);
+        if (pattern != null) {
+            ps.setString(i++, pattern);
+        }
+        if (cursor != null) {
+            Timestamp createdAt = Timestamp.valueOf(cursor.getCreatedAt());
+            ps.setTimestamp(i++, createdAt);
+            ps.setTimestamp(i++, createdAt);
+            ps.setLong(i++, cursor.getId());
+        }
+        ps.setInt(i, size);
+    }
+
+    private static LocalDateTime readDateTime(ResultSet rs, int column) throws SQLException {
+        // JDBC 4.2 변환 → Timestamp 중간 객체 없음
+        return rs.getObject(column, LocalDateTime.class);
+    }
+
+    private static int index(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    static String likePattern(String keyword) {
+        String lower = keyword.toLowerCase(Locale.ROOT);
+        StringBuilder pattern = new StringBuilder(lower.length() + 2).append('%');
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '%' || c == '_' || c == '!') {
+                pattern.append('!');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * 목록 한 페이지 분량의 간선 (열 단위 배열)
+     * - 행마다 FollowEdge 를 만들지 않고, 페이지 크기만큼의 배열 3개에 바로 채움
+     */
+    static final class EdgeBuffer {
+
+        private long[] followIds;
+        private String[] userIds;
+        private LocalDateTime[] createdAts;
+        private int size;
+
+        private final List<String> userIdView = new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return userIds[index];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+
+        private EdgeBuffer(int capacity) {
+            followIds = new long[capacity];
+            userIds = new String[capacity];
+            createdAts = new LocalDateTime[capacity];
+        }
+
+        private void add(long followId, String userId, LocalDateTime createdAt) {
+            if (size == followIds.length) {
+                // LIMIT 으로 size 를 넘지 않지만 방어적으로 확장
+                int capacity = Math.max(8, size << 1);
+                followIds = Arrays.copyOf(followIds, capacity);
+                userIds = Arrays.copyOf(userIds, capacity);
+                createdAts = Arrays.copyOf(createdAts, capacity);
+            }
+            followIds[size] = followId;
+            userIds[size] = userId;
+            createdAts[size] = createdAt;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long followId(int index) {
+            return followIds[index];
+        }
+
+        String userId(int index) {
+            return userIds[index];
+        }
+
+        LocalDateTime createdAt(int index) {
+            return createdAts[index];
+        }
+
+        /**
+         * 상대방 id 목록 (복사 없는 읽기 전용 뷰)
+         */
+        List<String> userIds() {
+            return userIdView;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ssafy.clonenova.follows.repository;
+
+import com.ssafy.clonenova.follows.stats.FollowCountDelta;
+
+import java.util.List;
+
+public interface FollowStatsCustomRepository {
+
+    /**
+     * 증감량 일괄 반영 (행이 없으면 생성)
+     *
+     * @param deltas 사용자별 팔로워/팔로잉 증감량
+     */
+    void addDeltas(List<FollowCountDelta> deltas);
+
+    /**
+     * 통계 행이 없을 때만 생성
+     *
+     * @param userId 사용자 ID
+     * @param followerCount 팔로워 수
+     * @param followingCount 팔로잉 수
+     */
+    void insertIfAbsent(String userId, long followerCount, long followingCount);
+
+    /**
+     * follows 테이블 기준으로 팔로워/팔로잉 수 재계산
+     *
+     * @param userIds 재계산할 사용자 ID 목록
+     * @return 반영된 행 수
+     */
+    int reconcile(List<String> userIds);
+}
@@ -0,0 +1,67 @@
+package com.ssafy.clonenova.follows.repository;
+
+import com.ssafy.clonenova.common.uuid.UserIdCodec;
+import com.ssafy.clonenova.follows.stats.FollowCountDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FollowStatsCustomRepositoryImpl implements FollowStatsCustomRepository {
+
+    // 누적 upsert / 집합 기반 재계산은 JPQL 로 표현이 안 돼서 JDBC 로 처리
+    private final JdbcTemplate jdbcTemplate;
+    private final UserIdCodec userIdCodec;
+
+    // 행이 없으면 delta 를 절대값으로 넣음 → 기존 사용자 행은 V1 마이그레이션이 follows 로 미리 채워 둠
+    private static final String ADD_DELTA_SQL =
+            "INSERT INTO follow_stats (user_id, follower_count, following_count, updated_at) " +
+            "VALUES (?, ?, ?, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "follower_count = follower_count + VALUES(follower_count), " +
+            "following_count = following_count + VALUES(following_count), " +
+            "updated_at = CURRENT_TIMESTAMP";
+
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT IGNORE INTO follow_stats (user_id, follower_count, following_count, updated_at) " +
+            "VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private static final String RECONCILE_SQL =
+            "INSERT INTO follow_stats (user_id, follower_count, following_count, updated_at) " +
+            "SELECT u.id, " +
+            "(SELECT COUNT(*) FROM follows f WHERE f.to_user_id = u.id AND f.deleted_at IS NULL), " +
+            "(SELECT COUNT(*) FROM follows f WHERE f.from_user_id = u.id AND f.deleted_at IS NULL), " +
+            "CURRENT_TIMESTAMP " +
+            "FROM user u WHERE u.id IN (%s) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "follower_count = VALUES(follower_count), " +
+            "following_count = VALUES(following_count), " +
+            "updated_at = CURRENT_TIMESTAMP";
+
+    @Override
+    public void addDeltas(List<FollowCountDelta> deltas) {
+        jdbcTemplate.batchUpdate(ADD_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            userIdCodec.set(ps, 1, delta.getUserId());
+            ps.setLong(2, delta.getFollowerDelta());
+            ps.setLong(3, delta.getFollowingDelta());
+        });
+    }
+
+    @Override
+    public void insertIfAbsent(String userId, long followerCount, long followingCount) {
+        jdbcTemplate.update(INSERT_IF_ABSENT_SQL, userIdCodec.bind(userId), followerCount, followingCount);
+    }
+
+    @Override
+    public int reconcile(List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        return jdbcTemplate.update(String.format(RECONCILE_SQL, placeholders), userIds.stream().map(userIdCodec::bind).toArray());
+    }
+}
@@ -0,0 +1,25 @@
+package com.ssafy.clonenova.follows.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팔로우 upsert 결과 (신규 / 복원 / 이미 팔로우 중)
+ */
+@Getter
+@AllArgsConstructor
+public class FollowUpsertResult {
+
+    public enum Status {
+        CREATED,
+        RESTORED,
+        UNCHANGED
+    }
+
+    private final Long followId;
+    private final Status status;
+
+    public boolean isChanged() {
+        return status != Status.UNCHANGED;
+    }
+}
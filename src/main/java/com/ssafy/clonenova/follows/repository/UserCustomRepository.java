@@ -0,0 +1,28 @@
+package com.ssafy.clonenova.follows.repository;
+
+import com.ssafy.clonenova.follows.dto.UserSearchResponseDTO;
+import com.ssafy.clonenova.follows.profile.UserProfile;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserCustomRepository {
+
+    /**
+     * 전체 회원 닉네임 검색 (userId 오름차순)
+     *
+     * @param keyword 닉네임 검색어
+     * @param afterUserId 이전 페이지 마지막 userId (null 이면 첫 페이지)
+     * @param size 가져올 개수
+     * @return 닉네임에 검색어가 포함된 회원 리스트 (isFollowing 은 false 로 채워짐)
+     * */
+    List<UserSearchResponseDTO> searchByNickname(String keyword, @Nullable String afterUserId, int size);
+
+    /**
+     * 목록 응답용 프로필 일괄 조회 (UserProfileCache 미스 시)
+     *
+     * @return 존재하는 회원만 (순서 보장 없음)
+     */
+    List<UserProfile> findProfiles(Collection<String> userIds);
+}
@@ -0,0 +1,77 @@
+package com.ssafy.clonenova.follows.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.clonenova.follows.dto.UserSearchResponseDTO;
+import com.ssafy.clonenova.follows.entity.QUser;
+import com.ssafy.clonenova.follows.profile.UserProfile;
+import com.ssafy.clonenova.follows.search.NicknameIndex;
+import com.ssafy.clonenova.follows.search.NicknameMatch;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserCustomRepositoryImpl implements UserCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final NicknameIndex nicknameIndex;
+
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final QUser qUser = QUser.user;
+
+    @Override
+    public List<UserSearchResponseDTO> searchByNickname(String keyword, @Nullable String afterUserId, int size) {
+        // 2글자 이상이면 n-gram 색인에서 처리 (워밍 전이면 DB 조회)
+        if (nicknameIndex.isReady() && nicknameIndex.supports(keyword)) {
+            List<NicknameMatch> matches = nicknameIndex.searchUsers(keyword, afterUserId, size);
+            return matches.stream()
+                    .map(match -> UserSearchResponseDTO.builder()
+                            .userId(match.getUserId())
+                            .nickname(match.getNickname())
+                            .build())
+                    .toList();
+        }
+
+        return jpaQueryFactory
+                .select(qUser.id, qUser.nickname)
+                .from(qUser)
+                .where(qUser.nickname.containsIgnoreCase(keyword)
+                        .and(qUser.deletedAt.isNull())
+                        .and(cursorCondition(afterUserId)))
+                .orderBy(qUser.id.asc())
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(row -> UserSearchResponseDTO.builder()
+                        .userId(row.get(qUser.id))
+                        .nickname(row.get(qUser.nickname))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<UserProfile> findProfiles(Collection<String> userIds) {
+        List<String> ids = List.copyOf(userIds);
+        List<UserProfile> result = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            result.addAll(jpaQueryFactory
+                    .select(Projections.constructor(UserProfile.class, qUser.id, qUser.email, qUser.nickname))
+                    .from(qUser)
+                    .where(qUser.id.in(ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()))))
+                    .fetch());
+        }
+        return result;
+    }
+
+    private BooleanExpression cursorCondition(String afterUserId) {
+        return afterUserId != null ? qUser.id.gt(afterUserId) : null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy.clonenova.follows.repository;
+
+import com.ssafy.clonenova.follows.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, String>, UserCustomRepository {
+}
@@ -0,0 +1,316 @@
+package com.ssafy.clonenova.follows.search;
+
+import com.ssafy.clonenova.follows.event.UserProfileChangedEvent;
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 닉네임 n-gram 역색인
+ * - 닉네임(소문자)의 2-gram / 3-gram 마다 사용자 int id 정렬 배열(posting)을 보관
+ * - 2글자 검색어는 2-gram posting 그대로, 3글자 이상은 3-gram posting 교집합 후 실제 포함 여부 확인
+ * - 1글자 검색어는 후보가 너무 많아서 지원하지 않음 (DB LIKE 로 fallback)
+ * - posting 은 copy-on-write 로 교체 → 조회는 락 없이 처리 (닉네임 변경은 드묾)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameIndex {
+
+    private static final int[] EMPTY = new int[0];
+    public static final int MIN_KEYWORD_LENGTH = 2;
+
+    private final UserIdInterner interner;
+
+    private final ConcurrentHashMap<String, int[]> postings = new ConcurrentHashMap<>();
+
+    // int id → 닉네임 (원본 / 소문자)
+    private volatile String[] nicknames = new String[1024];
+    private volatile String[] normalized = new String[1024];
+
+    private volatile boolean ready;
+
+    // 워밍 중 들어온 변경은 로딩 후 재적용
+    private final Queue<UserProfileChangedEvent> pending = new ArrayDeque<>();
+    private boolean loading;
+    private Map<String, IntList> builder;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean supports(String keyword) {
+        return keyword != null && normalize(keyword).length() >= MIN_KEYWORD_LENGTH;
+    }
+
+    /**
+     * 닉네임에 keyword 가 포함된 사용자 int id (오름차순)
+     */
+    public int[] search(String keyword) {
+        String needle = normalize(keyword);
+        if (needle.length() < MIN_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("keyword too short : " + keyword);
+        }
+        if (needle.length() == MIN_KEYWORD_LENGTH) {
+            return postings.getOrDefault(needle, EMPTY);
+        }
+
+        // 작은 posting 부터 교집합 → 중간 결과가 빨리 줄어듦
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : grams(needle, 3)) {
+            int[] posting = postings.get(gram);
+            if (posting == null) {
+                return EMPTY;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+
+        // n-gram 교집합은 후보일 뿐이므로 실제 포함 여부 확인 (예: "abcab" 검색 시 "abcxbcab")
+        String[] names = normalized;
+        int[] verified = new int[result.length];
+        int count = 0;
+        for (int id : result) {
+            String name = id < names.length ? names[id] : null;
+            if (name != null && name.contains(needle)) {
+                verified[count++] = id;
+            }
+        }
+        return Arrays.copyOf(verified, count);
+    }
+
+    /**
+     * 전체 회원 닉네임 검색 (userId 오름차순 키셋 페이지)
+     *
+     * @param afterUserId 이전 페이지 마지막 userId (null 이면 첫 페이지)
+     */
+    public List<NicknameMatch> searchUsers(String keyword, String afterUserId, int size) {
+        // userId 기준 상위 size 개만 max-heap 으로 유지 → 전체 정렬 없음
+        PriorityQueue<NicknameMatch> top = new PriorityQueue<>(size + 1,
+                Comparator.comparing(NicknameMatch::getUserId).reversed());
+        String[] names = nicknames;
+        for (int id : search(keyword)) {
+            String userId = interner.userId(id);
+            if (afterUserId != null && userId.compareTo(afterUserId) <= 0) {
+                continue;
+            }
+            if (top.size() < size) {
+                top.add(new NicknameMatch(userId, names[id]));
+            } else if (userId.compareTo(top.peek().getUserId()) < 0) {
+                top.poll();
+                top.add(new NicknameMatch(userId, names[id]));
+            }
+        }
+        List<NicknameMatch> result = new ArrayList<>(top);
+        result.sort(Comparator.comparing(NicknameMatch::getUserId));
+        return result;
+    }
+
+    /**
+     * 커밋된 닉네임 변경/탈퇴 반영 (워밍 중이면 큐잉)
+     */
+    public void apply(UserProfileChangedEvent event) {
+        synchronized (pending) {
+            if (loading) {
+                pending.add(event);
+                return;
+            }
+        }
+        applyNow(event);
+    }
+
+    // ===== 워밍 (NicknameIndexLoader 전용) =====
+
+    void beginLoad() {
+        synchronized (pending) {
+            loading = true;
+            ready = false;
+            builder = new HashMap<>();
+        }
+    }
+
+    void load(String userId, String nickname) {
+        int id = interner.intern(userId);
+        String name = normalize(nickname);
+        setNickname(id, nickname, name);
+        for (String gram : indexGrams(name)) {
+            builder.computeIfAbsent(gram, g -> new IntList()).add(id);
+        }
+    }
+
+    void finishLoad() {
+        builder.forEach((gram, ids) -> postings.put(gram, ids.toSortedDistinctArray()));
+        int grams = builder.size();
+        builder = null;
+
+        while (true) {
+            List<UserProfileChangedEvent> drained;
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    loading = false;
+                    ready = true;
+                    break;
+                }
+                drained = new ArrayList<>(pending);
+                pending.clear();
+            }
+            drained.forEach(this::applyNow);
+        }
+        log.info("nickname index loaded : grams={}", grams);
+    }
+
+    void abortLoad() {
+        synchronized (pending) {
+            pending.clear();
+            loading = false;
+            ready = false;
+            builder = null;
+        }
+    }
+
+    // ===== 내부 =====
+
+    private void applyNow(UserProfileChangedEvent event) {
+        int id = interner.intern(event.getUserId());
+        String[] names = normalized;
+        String before = id < names.length ? names[id] : null;
+        String after = event.isActive() && event.getNickname() != null ? normalize(event.getNickname()) : null;
+
+        Set<String> oldGrams = before == null ? Collections.emptySet() : indexGrams(before);
+        Set<String> newGrams = after == null ? Collections.emptySet() : indexGrams(after);
+
+        for (String gram : oldGrams) {
+            if (!newGrams.contains(gram)) {
+                postings.computeIfPresent(gram, (g, posting) -> {
+                    int[] removed = remove(posting, id);
+                    return removed.length == 0 ? null : removed;
+                });
+            }
+        }
+        for (String gram : newGrams) {
+            if (!oldGrams.contains(gram)) {
+                postings.compute(gram, (g, posting) -> insert(posting == null ? EMPTY : posting, id));
+            }
+        }
+        setNickname(id, after == null ? null : event.getNickname(), after);
+    }
+
+    private synchronized void setNickname(int id, String nickname, String name) {
+        if (id >= nicknames.length) {
+            int capacity = Math.max(nicknames.length << 1, id + 1);
+            nicknames = Arrays.copyOf(nicknames, capacity);
+            normalized = Arrays.copyOf(normalized, capacity);
+        }
+        nicknames[id] = nickname;
+        normalized[id] = name;
+    }
+
+    private static Set<String> indexGrams(String name) {
+        Set<String> grams = new LinkedHashSet<>(grams(name, 2));
+        grams.addAll(grams(name, 3));
+        return grams;
+    }
+
+    private static List<String> grams(String text, int n) {
+        if (text.length() < n) {
+            return List.of();
+        }
+        List<String> grams = new ArrayList<>(text.length() - n + 1);
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] insert(int[] posting, int id) {
+        int pos = Arrays.binarySearch(posting, id);
+        if (pos >= 0) {
+            return posting;
+        }
+        pos = -pos - 1;
+        int[] copy = new int[posting.length + 1];
+        System.arraycopy(posting, 0, copy, 0, pos);
+        copy[pos] = id;
+        System.arraycopy(posting, pos, copy, pos + 1, posting.length - pos);
+        return copy;
+    }
+
+    private static int[] remove(int[] posting, int id) {
+        int pos = Arrays.binarySearch(posting, id);
+        if (pos < 0) {
+            return posting;
+        }
+        int[] copy = new int[posting.length - 1];
+        System.arraycopy(posting, 0, copy, 0, pos);
+        System.arraycopy(posting, pos + 1, copy, pos, posting.length - pos - 1);
+        return copy;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toSortedDistinctArray() {
+            int[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
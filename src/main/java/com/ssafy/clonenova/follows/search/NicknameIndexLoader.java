@@ -0,0 +1,90 @@
+package com.ssafy.clonenova.follows.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.clonenova.follows.entity.QUser;
+import com.ssafy.clonenova.follows.event.UserProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * NicknameIndex 워밍 + 변경 반영
+ * - 기동 후 user 테이블(탈퇴 제외)을 id 순 배치로 읽어 색인 구성
+ * - 닉네임 변경/탈퇴는 커밋 이후 UserProfileChangedEvent 로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameIndexLoader {
+
+    private final NicknameIndex nicknameIndex;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final QUser qUser = QUser.user;
+
+    @Value("${follows.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${follows.search.load-batch-size:10000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            log.info("nickname index disabled : 닉네임 검색은 DB LIKE 로 처리");
+            return;
+        }
+        Thread loader = new Thread(this::load, "nickname-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        if (enabled) {
+            nicknameIndex.apply(event);
+        }
+    }
+
+    void load() {
+        long start = System.currentTimeMillis();
+        nicknameIndex.beginLoad();
+        try {
+            // 첫 배치는 커서 조건 없음 ("" 는 binary-uuid 모드에서 UUID 로 변환할 수 없음)
+            String lastId = null;
+            long loaded = 0L;
+            while (true) {
+                List<Tuple> rows = jpaQueryFactory
+                        .select(qUser.id, qUser.nickname)
+                        .from(qUser)
+                        .where(lastId == null ? null : qUser.id.gt(lastId),
+                                qUser.deletedAt.isNull())
+                        .orderBy(qUser.id.asc())
+                        .limit(batchSize)
+                        .fetch();
+
+                for (Tuple row : rows) {
+                    nicknameIndex.load(row.get(qUser.id), row.get(qUser.nickname));
+                }
+                loaded += rows.size();
+
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).get(qUser.id);
+            }
+            nicknameIndex.finishLoad();
+            log.info("nickname index warm-up 완료 : users={}, {}ms", loaded, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            nicknameIndex.abortLoad();
+            log.error("nickname index warm-up 실패", e);
+        }
+    }
+}
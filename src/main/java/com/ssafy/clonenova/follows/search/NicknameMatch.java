@@ -0,0 +1,15 @@
+package com.ssafy.clonenova.follows.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 닉네임 색인 검색 결과
+ */
+@Getter
+@AllArgsConstructor
+public class NicknameMatch {
+
+    private final String userId;
+    private final String nickname;
+}
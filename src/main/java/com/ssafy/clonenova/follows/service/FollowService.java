@@ -1,17 +1,43 @@
 package com.ssafy.clonenova.follows.service;
 
 import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowBulkRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowBulkResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowCountResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowRecommendResponseDTO;
 import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
 import com.ssafy.clonenova.follows.dto.FollowResponseDTO;
 import com.ssafy.clonenova.follows.dto.FollowSearchListRequestDTO;
 import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusResponseDTO;
+import com.ssafy.clonenova.follows.dto.UserSearchRequestDTO;
+import com.ssafy.clonenova.follows.dto.UserSearchResponseDTO;
+import com.ssafy.clonenova.follows.export.ExportFormat;
+
+import java.io.OutputStream;
+import java.util.List;
 
 public interface FollowService {
 
     ScrollResponseDTO<FollowSearchListResponseDTO> getFollowList(FollowSearchListRequestDTO requestDTO) throws Exception;
 
+    long exportFollowList(String userId, String type, ExportFormat format, OutputStream outputStream);
+
     FollowResponseDTO follow(FollowRequestDTO requestDTO) throws Exception;
 
     void unfollow(FollowRequestDTO requestDTO);
 
+    FollowBulkResponseDTO followAll(FollowBulkRequestDTO requestDTO);
+
+    FollowBulkResponseDTO unfollowAll(FollowBulkRequestDTO requestDTO);
+
+    FollowCountResponseDTO getFollowCount(String userId);
+
+    List<FollowStatusResponseDTO> getFollowStatuses(FollowStatusRequestDTO requestDTO);
+
+    ScrollResponseDTO<UserSearchResponseDTO> searchUsers(UserSearchRequestDTO requestDTO);
+
+    List<FollowRecommendResponseDTO> getRecommendations(String userId, Integer size);
+
 }
@@ -0,0 +1,170 @@
+package com.ssafy.clonenova.follows.service.Impl;
+
+import com.ssafy.clonenova.follows.dto.FollowBulkResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowResponseDTO;
+import com.ssafy.clonenova.follows.entity.Follows;
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import com.ssafy.clonenova.follows.repository.FollowRepository;
+import com.ssafy.clonenova.follows.repository.FollowUpsertResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * follows 테이블 직접 반영 + 변경 이벤트 발행 (FollowServiceImpl 동기 경로 / FollowJournalApplier 전용)
+ * - 요청 검증과 journal 분기는 호출부 책임 → API 쪽에서는 FollowService 를 통해서만 씀 (FollowService 인터페이스에 두지 않음)
+ * - 호출부 트랜잭션 안에서만 실행 (이벤트는 커밋 후 리스너에서 반영)
+ * - 이미 팔로우 중 / 이미 취소됨은 무시하므로 같은 요청을 다시 반영해도 결과가 같음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class FollowEdgeWriter {
+
+    private final FollowRepository followRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FollowResponseDTO follow(String fromUserId, String toUserId, LocalDateTime createdAt) {
+        // 신규 / 복원 / 이미 팔로우 중을 upsert 로 처리 (uk_follows_from_to 가 동시 요청 중복 insert 를 막음)
+        // 이미 팔로우 중이어도 에러 대신 changed=false 로 응답 → 재시도해도 결과가 같음
+        FollowUpsertResult result = followRepository.upsertFollow(fromUserId, toUserId, createdAt);
+        switch (result.getStatus()) {
+            case CREATED -> publish(FollowChangeType.FOLLOW, result.getFollowId(), fromUserId, toUserId, createdAt);
+            case RESTORED -> publish(FollowChangeType.RESTORE, result.getFollowId(), fromUserId, toUserId, createdAt);
+            case UNCHANGED -> log.debug("already following : from={}, to={}", fromUserId, toUserId);
+        }
+
+        return FollowResponseDTO.builder()
+                .followId(result.getFollowId())
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .changed(result.isChanged())
+                .build();
+    }
+
+    public void unfollow(String fromUserId, String toUserId) {
+        long canceled = followRepository.cancelFollow(fromUserId, toUserId);
+        if (canceled == 0) {
+            // 이미 취소된 관계 → 카운터 등에 반영할 변경 없음
+            return;
+        }
+        eventPublisher.publishEvent(FollowChangedEvent.builder()
+                .type(FollowChangeType.UNFOLLOW)
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .build());
+    }
+
+    public FollowBulkResponseDTO followAll(String fromUserId, List<String> targets, LocalDateTime createdAt) {
+        // 기존 관계(활성 + 취소)를 한 번에 조회해서 신규 / 복원 / 이미 팔로우 중으로 분류
+        Map<String, Follows> edges = new HashMap<>();
+        for (Follows edge : followRepository.findEdges(fromUserId, targets)) {
+            edges.merge(edge.getToUserId(), edge, (a, b) -> a.getDeletedAt() == null ? a : b);
+        }
+
+        List<String> toInsert = new ArrayList<>();
+        List<Long> toRestore = new ArrayList<>();
+        for (String toUserId : targets) {
+            Follows edge = edges.get(toUserId);
+            if (edge == null) {
+                toInsert.add(toUserId);
+            } else if (edge.getDeletedAt() != null) {
+                toRestore.add(edge.getId());
+            }
+        }
+
+        // 조회 이후 tombstone 정리로 follows_history 에 옮겨진 행은 복원 대신 새로 생성
+        Set<Long> archived = new HashSet<>(followRepository.restoreAll(toRestore, createdAt));
+        if (!archived.isEmpty()) {
+            for (String toUserId : targets) {
+                Follows edge = edges.get(toUserId);
+                if (edge != null && archived.contains(edge.getId())) {
+                    toInsert.add(toUserId);
+                }
+            }
+        }
+        List<String> inserted = followRepository.insertAll(fromUserId, toInsert, createdAt);
+        int changed = inserted.size() + toRestore.size() - archived.size();
+
+        // 조회 이후 동시 요청이 같은 쌍을 먼저 넣어 충돌한 묶음은 대상별 upsert 로 다시 처리 (결과 / 이벤트도 upsert 기준)
+        if (inserted.size() < toInsert.size()) {
+            Set<String> insertedIds = new HashSet<>(inserted);
+            for (String toUserId : toInsert) {
+                if (!insertedIds.contains(toUserId) && follow(fromUserId, toUserId, createdAt).isChanged()) {
+                    changed++;
+                }
+            }
+        }
+
+        // 신규 행은 IDENTITY 로 발급된 id 를 한 번 더 조회해서 이벤트 발행
+        if (!inserted.isEmpty()) {
+            for (Follows edge : followRepository.findEdges(fromUserId, inserted)) {
+                if (edge.getDeletedAt() == null) {
+                    publish(FollowChangeType.FOLLOW, edge.getId(), fromUserId, edge.getToUserId(), createdAt);
+                }
+            }
+        }
+        for (String toUserId : targets) {
+            Follows edge = edges.get(toUserId);
+            if (edge != null && edge.getDeletedAt() != null && !archived.contains(edge.getId())) {
+                publish(FollowChangeType.RESTORE, edge.getId(), fromUserId, toUserId, createdAt);
+            }
+        }
+
+        return FollowBulkResponseDTO.builder()
+                .fromUserId(fromUserId)
+                .requested(targets.size())
+                .changed(changed)
+                .unchanged(targets.size() - changed)
+                .build();
+    }
+
+    public FollowBulkResponseDTO unfollowAll(String fromUserId, List<String> targets) {
+        List<Follows> active = followRepository.findEdges(fromUserId, targets).stream()
+                .filter(edge -> edge.getDeletedAt() == null)
+                .toList();
+        long canceled = followRepository.cancelAll(active.stream().map(Follows::getId).toList());
+
+        // 같은 쌍의 중복 행이 있어도 대상 단위로 한 번만 반영
+        Set<String> unfollowed = new LinkedHashSet<>();
+        active.forEach(edge -> unfollowed.add(edge.getToUserId()));
+        unfollowed.forEach(toUserId -> eventPublisher.publishEvent(FollowChangedEvent.builder()
+                .type(FollowChangeType.UNFOLLOW)
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .build()));
+
+        log.debug("bulk unfollow : from={}, targets={}, canceledRows={}", fromUserId, targets.size(), canceled);
+        return FollowBulkResponseDTO.builder()
+                .fromUserId(fromUserId)
+                .requested(targets.size())
+                .changed(unfollowed.size())
+                .unchanged(targets.size() - unfollowed.size())
+                .build();
+    }
+
+    // 커밋 이후 인메모리 인덱스(FollowGraph 등)에 반영되도록 이벤트 발행
+    private void publish(FollowChangeType type, Long followId, String fromUserId, String toUserId, LocalDateTime createdAt) {
+        eventPublisher.publishEvent(FollowChangedEvent.builder()
+                .type(type)
+                .followId(followId)
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .createdAt(createdAt)
+                .build());
+    }
+}
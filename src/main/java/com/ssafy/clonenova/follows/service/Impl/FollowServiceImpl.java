@@ -1,24 +1,55 @@
 package com.ssafy.clonenova.follows.service.Impl;
 
 import com.ssafy.clonenova.exception.CustomException;
+import com.ssafy.clonenova.common.ScrollCursor;
 import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.common.uuid.UserIdCodec;
+import com.ssafy.clonenova.follows.consistency.ReadYourWrites;
+import com.ssafy.clonenova.follows.dto.FollowBulkRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowBulkResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowCountResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowRecommendResponseDTO;
 import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
 import com.ssafy.clonenova.follows.dto.FollowResponseDTO;
 import com.ssafy.clonenova.follows.dto.FollowSearchListRequestDTO;
 import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusResponseDTO;
+import com.ssafy.clonenova.follows.dto.UserSearchRequestDTO;
+import com.ssafy.clonenova.follows.dto.UserSearchResponseDTO;
+import com.ssafy.clonenova.follows.entity.FollowStats;
 import com.ssafy.clonenova.follows.entity.Follows;
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import com.ssafy.clonenova.follows.export.ExportFormat;
+import com.ssafy.clonenova.follows.export.FollowExportWriter;
+import com.ssafy.clonenova.follows.journal.FollowJournal;
+import com.ssafy.clonenova.follows.metrics.FollowMetrics;
+import com.ssafy.clonenova.follows.recommend.RecommendationCache;
 import com.ssafy.clonenova.follows.repository.FollowRepository;
+import com.ssafy.clonenova.follows.repository.FollowStatsRepository;
+import com.ssafy.clonenova.follows.repository.UserRepository;
 import com.ssafy.clonenova.follows.service.FollowService;
-import jakarta.persistence.EntityManager;
+import com.ssafy.clonenova.follows.stats.FollowCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -27,7 +58,33 @@ import java.util.List;
 public class FollowServiceImpl implements FollowService {
 
     private final FollowRepository followRepository;
-    private final EntityManager entityManager;
+    private final FollowStatsRepository followStatsRepository;
+    private final UserRepository userRepository;
+    private final FollowCounter followCounter;
+    // follows.journal.enabled=true 일 때만 존재 (write-behind 모드)
+    private final ObjectProvider<FollowJournal> followJournal;
+    private final RecommendationCache recommendationCache;
+    private final FollowMetrics followMetrics;
+    private final ReadYourWrites readYourWrites;
+    private final TransactionTemplate transactionTemplate;
+    // 동기 경로의 실제 DB 반영 (journal 모드에서는 FollowJournalApplier 가 사용)
+    private final FollowEdgeWriter followEdgeWriter;
+    private final UserIdCodec userIdCodec;
+
+    @Value("${follows.bulk.max-size:5000}")
+    private int bulkMaxSize;
+
+    @Value("${follows.status.max-size:200}")
+    private int statusMaxSize;
+
+    @Value("${follows.recommend.max-size:50}")
+    private int recommendMaxSize;
+
+    @Value("${follows.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    @Value("${follows.export.clear-interval:10000}")
+    private int exportClearInterval;
 
     @Transactional(readOnly = true) // 불필요한 flush/더티체킹이 사라져서 조회 성능이 개선됨
     @Override
@@ -42,76 +99,288 @@ public class FollowServiceImpl implements FollowService {
         String keyword = requestDTO.getKeyword();
         String type = requestDTO.getType();
 
+        // 방금 팔로우/언팔한 사용자는 replica 대신 primary 에서 조회
+        readYourWrites.routeReads(userId);
+        ScrollCursor cursor = resolveCursor(requestDTO);
         List<FollowSearchListResponseDTO> resultList;
 
+        // 지표 태그 : 목록 종류 / 키워드 유무 / 첫 페이지 여부
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
         if("follower".equalsIgnoreCase(type)) {
-            resultList =  followRepository.findFollowerList(userId, keyword, requestDTO.getLastId(), size);
+            resultList = followMetrics.recordList(FollowMetrics.listTags("follower", hasKeyword, cursor == null),
+                    () -> followRepository.findFollowerList(userId, keyword, cursor, size));
         } else if("following".equalsIgnoreCase(type)){
-            resultList =  followRepository.findFollowingList(userId, keyword, requestDTO.getLastId(), size);
+            resultList = followMetrics.recordList(FollowMetrics.listTags("following", hasKeyword, cursor == null),
+                    () -> followRepository.findFollowingList(userId, keyword, cursor, size));
         } else {
             throw new CustomException(HttpStatus.BAD_REQUEST, "잘못된 타입 값입니다. (follower/following만 허용)");
         }
 
         boolean hasNext = resultList.size() == size;
-        Long nextCursor = hasNext ? resultList.get(resultList.size() - 1).getId() : null;
+        FollowSearchListResponseDTO last = hasNext ? resultList.get(resultList.size() - 1) : null;
+        Long nextCursor = last != null ? last.getId() : null;
+        String nextToken = last != null ? new ScrollCursor(last.getCreatedAt(), last.getId()).encode() : null;
 
-        return new ScrollResponseDTO<>(resultList, nextCursor, hasNext);
+        return new ScrollResponseDTO<>(resultList, nextCursor, nextToken, hasNext);
 
     }
 
+    // 목록 전체를 행 단위로 outputStream 에 기록 (페이지 조회와 달리 결과를 모으지 않음)
+    @Transactional(readOnly = true)
+    @Override
+    public long exportFollowList(String userId, String type, ExportFormat format, OutputStream outputStream) {
+        boolean followers;
+        if ("follower".equalsIgnoreCase(type)) {
+            followers = true;
+        } else if ("following".equalsIgnoreCase(type)) {
+            followers = false;
+        } else {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "잘못된 타입 값입니다. (follower/following만 허용)");
+        }
+
+        readYourWrites.routeReads(userId);
+        try (FollowExportWriter writer = FollowExportWriter.open(format, outputStream)) {
+            return followRepository.streamFollowList(userId, followers, exportFetchSize, exportClearInterval, writer::write);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // cursor 우선, 없으면 lastId 로 (createdAt, id) 복원 (PK 단건 조회)
+    private ScrollCursor resolveCursor(FollowSearchListRequestDTO requestDTO) {
+        if (requestDTO.getCursor() != null && !requestDTO.getCursor().isBlank()) {
+            return ScrollCursor.decode(requestDTO.getCursor());
+        }
+        if (requestDTO.getLastId() == null) {
+            return null;
+        }
+        Follows last = followRepository.findById(requestDTO.getLastId())
+                .orElseThrow(() -> new CustomException(HttpStatus.BAD_REQUEST, "존재하지 않는 lastId 입니다."));
+        return new ScrollCursor(last.getCreatedAt(), last.getId());
+    }
+
+    // 쓰기 API 는 트랜잭션 없이 시작 → journal 모드는 DB 커넥션 없이 fsync 만 기다림, 동기 모드만 transactionTemplate 으로 감쌈
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public FollowResponseDTO follow(FollowRequestDTO requestDTO) {
         // TODO : currentUser 구현체 통해서 로그인한 사용자 id(pk) 가져올 예정
         String fromUserId = requestDTO.getFromUserId();
-        // TODO : toUserId null 체크 필요, 진짜 존재하는 유저인지 확인필요
+        // TODO : 진짜 존재하는 유저인지 확인필요
         String toUserId = requestDTO.getToUserId();
+        userIdCodec.validate(fromUserId);
+        userIdCodec.validate(toUserId);
 
-        Follows existing = followRepository.findIsFollowCheck(fromUserId, toUserId);
-
-        // 첫 팔로우
-        if(ObjectUtils.isEmpty(existing)) {
-            Follows newFollow = Follows.builder()
+        // write-behind 모드 : 로그에 fsync 후 바로 응답, DB 반영은 FollowJournalApplier 가 배치로 처리
+        FollowJournal journal = followJournal.getIfAvailable();
+        if (journal != null) {
+            boolean changed = appendToJournal(journal, FollowChangeType.FOLLOW, fromUserId, List.of(toUserId)) == 1;
+            return FollowResponseDTO.builder()
                     .fromUserId(fromUserId)
                     .toUserId(toUserId)
-                    .createdAt(LocalDateTime.now())
+                    .changed(changed)
                     .build();
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        return transactionTemplate.execute(status -> followEdgeWriter.follow(fromUserId, toUserId, now));
+    }
 
-            // 영속성 컨텍스트에 등록 (insert 예약)
-            // 커밋 시점에 실제 insert 쿼리 실행
-            entityManager.persist(newFollow);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void unfollow(FollowRequestDTO requestDTO) {
+        // TODO : currentUser 구현체 통해서 로그인한 사용자 id(pk) 가져올 예정
+        String fromUserId = requestDTO.getFromUserId();
+        // TODO : 진짜 존재하는 유저인지 확인 필요
+        String toUserId = requestDTO.getToUserId();
+        userIdCodec.validate(fromUserId);
+        userIdCodec.validate(toUserId);
 
-            return FollowResponseDTO.builder()
-                    .followId(newFollow.getId())
-                    .fromUserId(newFollow.getFromUserId())
-                    .toUserId(newFollow.getToUserId())
-                    .build();
+        FollowJournal journal = followJournal.getIfAvailable();
+        if (journal != null) {
+            appendToJournal(journal, FollowChangeType.UNFOLLOW, fromUserId, List.of(toUserId));
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> followEdgeWriter.unfollow(fromUserId, toUserId));
+    }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public FollowBulkResponseDTO followAll(FollowBulkRequestDTO requestDTO) {
+        String fromUserId = requestDTO.getFromUserId();
+        List<String> targets = bulkTargets(requestDTO);
+
+        // write-behind 모드 : 단건과 같은 로그에 기록 → 같은 쌍의 단건/일괄 요청이 로그 순서대로 반영됨
+        FollowJournal journal = followJournal.getIfAvailable();
+        if (journal != null) {
+            int changed = appendToJournal(journal, FollowChangeType.FOLLOW, fromUserId, targets);
+            return FollowBulkResponseDTO.builder()
+                    .fromUserId(fromUserId)
+                    .requested(targets.size())
+                    .changed(changed)
+                    .unchanged(targets.size() - changed)
+                    .build();
         }
-        // 과거에 언팔 -> 다시 팔로우 복원
-        else if(existing.getDeletedAt() != null) {
-            // 비어있지않다면 한번 언팔한 사이로 세팅값 변경
-            // -> JPA 필드 변경 감지하여 자동 쿼리 호출됨
-            existing.restore();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        return transactionTemplate.execute(status -> followEdgeWriter.followAll(fromUserId, targets, now));
+    }
 
-            return FollowResponseDTO.builder()
-                    .followId(existing.getId())
-                    .fromUserId(existing.getFromUserId())
-                    .toUserId(existing.getToUserId())
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public FollowBulkResponseDTO unfollowAll(FollowBulkRequestDTO requestDTO) {
+        String fromUserId = requestDTO.getFromUserId();
+        List<String> targets = bulkTargets(requestDTO);
+
+        FollowJournal journal = followJournal.getIfAvailable();
+        if (journal != null) {
+            int changed = appendToJournal(journal, FollowChangeType.UNFOLLOW, fromUserId, targets);
+            return FollowBulkResponseDTO.builder()
+                    .fromUserId(fromUserId)
+                    .requested(targets.size())
+                    .changed(changed)
+                    .unchanged(targets.size() - changed)
                     .build();
         }
-        // 이미 팔로우 중 (or errorCode 로 반환하거나)
-        else {
-            throw new CustomException(HttpStatus.BAD_REQUEST, "이미 팔로우 중인 상태입니다.");
+        return transactionTemplate.execute(status -> followEdgeWriter.unfollowAll(fromUserId, targets));
+    }
+
+    /**
+     * journal 에 기록하고, 그중 상태가 바뀌는 요청 수를 돌려줌 (이미 팔로우 중인데 팔로우 → 무변경, 응답 코드용)
+     * - 직전 상태 = 아직 DB 에 반영 안 된 같은 쌍의 마지막 요청, 없으면 그래프(워밍 전이면 DB) 기준
+     * - 그래프/DB 는 기록 전에 조회 (기록 후에 보면 applier 가 방금 반영한 이 요청 자신이 보일 수 있음)
+     * - 기록은 직전 상태와 상관없이 항상 함 → 최종 상태는 로그 순서로만 정해지고, 판단이 어긋나도 응답 코드만 틀림
+     * - 기록 실패 / journal 이 멈춘 상태면 503 (동기 경로로 우회하면 아직 반영 안 된 로그가 나중에 덮어쓰므로 우회하지 않음)
+     */
+    private int appendToJournal(FollowJournal journal, FollowChangeType type, String fromUserId, List<String> targets) {
+        Set<String> following = new HashSet<>(followRepository.findFollowingIdsIn(fromUserId, targets));
+        List<FollowChangeType> previous;
+        try {
+            previous = journal.appendAll(type, fromUserId, targets);
+        } catch (IllegalStateException | UncheckedIOException e) {
+            log.error("follow journal 기록 실패 : from={}, targets={}", fromUserId, targets.size(), e);
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "팔로우 요청을 기록하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        int changed = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            boolean wasFollowing = previous.get(i) != null
+                    ? previous.get(i) == FollowChangeType.FOLLOW
+                    : following.contains(targets.get(i));
+            if (wasFollowing != (type == FollowChangeType.FOLLOW)) {
+                changed++;
+            }
         }
+        return changed;
+    }
+
+    // 중복/본인/빈 값 제거 + 형식/최대 개수 검증
+    private List<String> bulkTargets(FollowBulkRequestDTO requestDTO) {
+        if (requestDTO.getFromUserId() == null || requestDTO.getToUserIds() == null) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "fromUserId, toUserIds 는 필수 값입니다.");
+        }
+        userIdCodec.validate(requestDTO.getFromUserId());
+        Set<String> targets = new LinkedHashSet<>();
+        for (String toUserId : requestDTO.getToUserIds()) {
+            if (toUserId != null && !toUserId.isBlank() && !toUserId.equals(requestDTO.getFromUserId())) {
+                userIdCodec.validate(toUserId);
+                targets.add(toUserId);
+            }
+        }
+        if (targets.size() > bulkMaxSize) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + bulkMaxSize + "명까지 요청할 수 있습니다.");
+        }
+        return new ArrayList<>(targets);
     }
 
     @Override
-    public void unfollow(FollowRequestDTO requestDTO) {
-        // TODO : currentUser 구현체 통해서 로그인한 사용자 id(pk) 가져올 예정
-        String fromUserId = requestDTO.getFromUserId();
-        // TODO : toUserId null 체크 필요, 진짜 존재하는 유저인지 확인 필요
-        String toUserId = requestDTO.getToUserId();
+    public FollowCountResponseDTO getFollowCount(String userId) {
+        long followerCount = followCounter.pendingFollowers(userId);
+        long followingCount = followCounter.pendingFollowings(userId);
 
-        followRepository.cancelFollow(fromUserId, toUserId);
+        FollowStats stats = followStatsRepository.findById(userId).orElse(null);
+        if (stats == null) {
+            // 통계 행이 없는 사용자는 한 번만 COUNT 로 채움
+            // (COUNT 에는 미반영 delta 가 이미 포함돼 있으므로 빼고 저장해야 flush 시 이중 반영이 안 됨)
+            long followers = followRepository.countByToUserIdAndDeletedAtIsNull(userId);
+            long followings = followRepository.countByFromUserIdAndDeletedAtIsNull(userId);
+            followStatsRepository.insertIfAbsent(userId, followers - followerCount, followings - followingCount);
+            followerCount = followers;
+            followingCount = followings;
+        } else {
+            followerCount += stats.getFollowerCount();
+            followingCount += stats.getFollowingCount();
+        }
+
+        return FollowCountResponseDTO.builder()
+                .userId(userId)
+                .followerCount(followerCount)
+                .followingCount(followingCount)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ScrollResponseDTO<UserSearchResponseDTO> searchUsers(UserSearchRequestDTO requestDTO) {
+        String keyword = requestDTO.getKeyword();
+        if (keyword == null || keyword.isBlank()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요.");
+        }
+        int size = (requestDTO.getSize() == null || requestDTO.getSize() <= 0)
+                ? 10 : requestDTO.getSize();
+
+        List<UserSearchResponseDTO> resultList = userRepository.searchByNickname(keyword, requestDTO.getCursor(), size);
+
+        // 로그인한 사용자 기준 팔로우 여부는 페이지 단위로 한 번에 확인
+        String userId = requestDTO.getUserId();
+        if (userId != null && !resultList.isEmpty()) {
+            Set<String> followings = new HashSet<>(followRepository.findFollowingIdsIn(userId,
+                    resultList.stream().map(UserSearchResponseDTO::getUserId).toList()));
+            resultList = resultList.stream()
+                    .map(user -> UserSearchResponseDTO.builder()
+                            .userId(user.getUserId())
+                            .nickname(user.getNickname())
+                            .isFollowing(followings.contains(user.getUserId()))
+                            .build())
+                    .toList();
+        }
+
+        boolean hasNext = resultList.size() == size;
+        String nextCursor = hasNext ? resultList.get(resultList.size() - 1).getUserId() : null;
+
+        return new ScrollResponseDTO<>(resultList, null, nextCursor, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<FollowStatusResponseDTO> getFollowStatuses(FollowStatusRequestDTO requestDTO) {
+        String userId = requestDTO.getUserId();
+        if (userId == null || requestDTO.getTargetIds() == null) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "userId, targetIds 는 필수 값입니다.");
+        }
+        // 중복/빈 값 제거 (요청 순서 유지)
+        Set<String> targets = new LinkedHashSet<>();
+        for (String targetId : requestDTO.getTargetIds()) {
+            if (targetId != null && !targetId.isBlank()) {
+                targets.add(targetId);
+            }
+        }
+        if (targets.size() > statusMaxSize) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + statusMaxSize + "명까지 요청할 수 있습니다.");
+        }
+
+        readYourWrites.routeReads(userId);
+        return followRepository.findFollowStatuses(userId, new ArrayList<>(targets));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<FollowRecommendResponseDTO> getRecommendations(String userId, Integer size) {
+        int limit = (size == null || size <= 0) ? 10 : Math.min(size, recommendMaxSize);
+        readYourWrites.routeReads(userId);
+
+        List<FollowRecommendResponseDTO> cached = recommendationCache.get(userId, limit);
+        if (cached != null) {
+            return cached;
+        }
+        List<FollowRecommendResponseDTO> result = followRepository.findRecommendations(userId, limit);
+        recommendationCache.put(userId, limit, result);
+        return result;
     }
 }
@@ -0,0 +1,84 @@
+package com.ssafy.clonenova.follows.snapshot;
+
+import com.ssafy.clonenova.common.uuid.UserIdCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+
+/**
+ * follows 활성 팔로우 → 스냅샷 파일
+ * - PK 순 forward-only 커서로 한 번만 읽음 (filesort 없음, 보조 인덱스 → PK 랜덤 조회 없음)
+ *   MySQL 은 URL 에 useCursorFetch=true 가 있어야 fetch-size 단위로 받아옴 (없으면 결과 전체를 메모리에 적재)
+ * - 단일 SELECT 라 InnoDB MVCC 로 시작 시점 기준의 일관된 스냅샷
+ * - 임시 파일에 다 쓴 뒤 이름을 바꿔서, 실패해도 이전 스냅샷이 반쯤 덮어써지지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowSnapshotExporter {
+
+    private static final String EXPORT_SQL =
+            "SELECT id, from_user_id, to_user_id, created_at FROM follows WHERE deleted_at IS NULL ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserIdCodec userIdCodec;
+
+    @Value("${follows.snapshot.block-edges:65536}")
+    private int blockEdges;
+
+    @Value("${follows.snapshot.fetch-size:10000}")
+    private int fetchSize;
+
+    /**
+     * @return 내보낸 간선 수
+     */
+    public long exportTo(Path path) throws IOException {
+        long start = System.nanoTime();
+        Path absolute = path.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+
+        long edges;
+        int users;
+        try (FollowSnapshotWriter writer = FollowSnapshotWriter.create(temp, blockEdges)) {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, rs -> {
+                try {
+                    writer.add(rs.getLong(1), userIdCodec.get(rs, 2), userIdCodec.get(rs, 3),
+                            rs.getObject(4, LocalDateTime.class));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            edges = writer.edgeCount();
+            users = writer.userCount();
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        log.info("follows snapshot exported : path={}, edges={}, users={}, bytes={}, elapsedMs={}",
+                absolute, edges, users, Files.size(absolute), (System.nanoTime() - start) / 1_000_000);
+        return edges;
+    }
+}
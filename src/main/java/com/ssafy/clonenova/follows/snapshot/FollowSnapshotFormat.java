@@ -0,0 +1,61 @@
+package com.ssafy.clonenova.follows.snapshot;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * follows 스냅샷 파일 포맷 (활성 팔로우만, 취소된 행은 제외)
+ *
+ * 파일 : [header 48B][block]...[dictionary]
+ *   header     = [int magic][short version][short flags][int blockEdges][int blockCount]
+ *                [long edgeCount][int userCount][long dictOffset][long dictLength][int crc32(dictionary)]
+ *   block      = [int edgeCount][int payloadLength][long minId][long minCreatedAtSeconds][int crc32(payload)][payload]
+ *   dictionary = userCount × [varint length][UTF-8 userId]  (사전 번호 = 등장 순서)
+ *
+ * 블록 payload : 블록 안 간선을 (from, to) 사전 번호 순으로 정렬한 뒤 간선마다
+ *   [varint fromDelta][varint to 또는 toDelta][varint id - minId][varint createdAt]
+ *   - from 이 이전 간선과 같으면(fromDelta=0) to 는 이전 to 와의 차이, 다르면 절대값
+ *   - createdAt = 0 이면 null, 아니면 (초 - minCreatedAtSeconds + 1) 뒤에 [varint 마이크로초]
+ *   - 델타 기준값이 블록마다 초기화되므로 블록끼리 독립적으로 디코딩 가능 (병렬 적재)
+ */
+final class FollowSnapshotFormat {
+
+    static final int MAGIC = 0x464E5350;     // "FNSP"
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 48;
+    static final int BLOCK_HEADER_BYTES = 28;
+    // 간선 하나의 최대 인코딩 크기 (varint int 5B × 2 + varint long 10B × 2 + 마이크로초 3B)
+    static final int MAX_EDGE_BYTES = 33;
+
+    private FollowSnapshotFormat() {
+    }
+
+    static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("malformed varint");
+    }
+
+    static long epochSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime toDateTime(long epochSeconds, int micros) {
+        return LocalDateTime.ofEpochSecond(epochSeconds, micros * 1000, ZoneOffset.UTC);
+    }
+}
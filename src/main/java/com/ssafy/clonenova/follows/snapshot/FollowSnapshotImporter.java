@@ -0,0 +1,205 @@
+package com.ssafy.clonenova.follows.snapshot;
+
+import com.ssafy.clonenova.common.uuid.UserIdCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 스냅샷 파일 → follows 대량 적재 (FollowRepository.save 반복 대비 수십 배 이상)
+ * - 블록마다 독립 트랜잭션 + 스레드 풀로 병렬 적재 (블록 디코딩은 mmap 영역에서 바로)
+ * - 블록 안은 (from, to) 순으로 저장돼 있지만 적재는 id 순 → PK(clustered index) 에 순서대로 붙음
+ * - batch : multi-row INSERT (rows-per-statement 행을 한 문장으로, DB 무관)
+ * - load-data : 블록을 임시 TSV 로 풀어서 LOAD DATA LOCAL INFILE (MySQL 전용, 가장 빠름)
+ *   URL 에 allowLoadLocalInfile=true 필요 + 서버 local_infile=ON
+ * - 비어 있는 follows 에 적재하는 용도 (중복 행은 유니크 키 위반으로 실패)
+ *   실패 시 이미 커밋된 블록은 남으므로 follows 를 비우고 다시 실행
+ * - follow_stats 와 인메모리 그래프/색인은 갱신하지 않음 → FollowSnapshotRunner 가 재계산, 그래프는 재기동 시 워밍
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowSnapshotImporter {
+
+    public static final String MODE_BATCH = "batch";
+    public static final String MODE_LOAD_DATA = "load-data";
+
+    private static final DateTimeFormatter TSV_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final UserIdCodec userIdCodec;
+
+    @Value("${follows.snapshot.import-mode:batch}")
+    private String mode;
+
+    @Value("${follows.snapshot.rows-per-statement:1000}")
+    private int rowsPerStatement;
+
+    @Value("${follows.snapshot.threads:4}")
+    private int threads;
+
+    @Value("${follows.snapshot.preserve-ids:true}")
+    private boolean preserveIds;
+
+    /**
+     * @return 적재한 간선 수
+     */
+    public long importFrom(Path path) throws IOException {
+        if (!MODE_BATCH.equals(mode) && !MODE_LOAD_DATA.equals(mode)) {
+            throw new IllegalArgumentException("unknown follows.snapshot.import-mode : " + mode);
+        }
+        long start = System.nanoTime();
+        try (FollowSnapshotReader reader = FollowSnapshotReader.open(path)) {
+            log.info("follows snapshot import started : path={}, edges={}, users={}, blocks={}, mode={}, threads={}",
+                    path, reader.edgeCount(), reader.userCount(), reader.blockCount(), mode, threads);
+
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+                Thread thread = new Thread(runnable, "follow-snapshot-import");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Future<Integer>> results = new ArrayList<>(reader.blockCount());
+                for (int i = 0; i < reader.blockCount(); i++) {
+                    int index = i;
+                    results.add(executor.submit(() -> loadBlock(reader.readBlock(index))));
+                }
+                long loaded = 0;
+                for (Future<Integer> result : results) {
+                    loaded += result.get();
+                }
+                log.info("follows snapshot imported : edges={}, elapsedMs={}", loaded, (System.nanoTime() - start) / 1_000_000);
+                return loaded;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("follows snapshot import interrupted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException io) {
+                    throw io;
+                }
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IOException(cause);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private int loadBlock(FollowSnapshotReader.EdgeBlock block) throws IOException {
+        if (MODE_LOAD_DATA.equals(mode)) {
+            loadData(block);
+        } else {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> insertRows(block));
+        }
+        return block.size();
+    }
+
+    // ===== batch : multi-row INSERT =====
+
+    private void insertRows(FollowSnapshotReader.EdgeBlock block) {
+        String fullSql = insertSql(rowsPerStatement);
+        int[] order = block.orderById();
+        for (int from = 0; from < block.size(); from += rowsPerStatement) {
+            int rows = Math.min(rowsPerStatement, block.size() - from);
+            int offset = from;
+            jdbcTemplate.update(rows == rowsPerStatement ? fullSql : insertSql(rows), ps -> {
+                int i = 1;
+                for (int k = offset; k < offset + rows; k++) {
+                    i = bindRow(ps, i, block, order[k]);
+                }
+            });
+        }
+    }
+
+    private int bindRow(PreparedStatement ps, int i, FollowSnapshotReader.EdgeBlock block, int k) throws SQLException {
+        if (preserveIds) {
+            ps.setLong(i++, block.id(k));
+        }
+        userIdCodec.set(ps, i++, block.fromUserId(k));
+        userIdCodec.set(ps, i++, block.toUserId(k));
+        LocalDateTime createdAt = block.createdAt(k);
+        ps.setTimestamp(i++, createdAt == null ? null : Timestamp.valueOf(createdAt));
+        return i;
+    }
+
+    private String insertSql(int rows) {
+        String columns = preserveIds ? "(id, from_user_id, to_user_id, created_at)" : "(from_user_id, to_user_id, created_at)";
+        String values = preserveIds ? "(?, ?, ?, ?)" : "(?, ?, ?)";
+        StringBuilder sql = new StringBuilder(40 + rows * (values.length() + 2))
+                .append("INSERT INTO follows ").append(columns).append(" VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(values);
+        }
+        return sql.toString();
+    }
+
+    // ===== load-data : LOAD DATA LOCAL INFILE (MySQL) =====
+
+    private void loadData(FollowSnapshotReader.EdgeBlock block) throws IOException {
+        Path tsv = Files.createTempFile("follows-snapshot-", ".tsv");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(tsv, StandardCharsets.UTF_8)) {
+                for (int k : block.orderById()) {
+                    out.write(Long.toString(block.id(k)));
+                    out.write('\t');
+                    out.write(escapeTsv(block.fromUserId(k)));
+                    out.write('\t');
+                    out.write(escapeTsv(block.toUserId(k)));
+                    out.write('\t');
+                    LocalDateTime createdAt = block.createdAt(k);
+                    out.write(createdAt == null ? "\\N" : TSV_DATE_TIME.format(createdAt));
+                    out.write('\n');
+                }
+            }
+            jdbcTemplate.execute(loadDataSql(tsv));
+        } finally {
+            Files.deleteIfExists(tsv);
+        }
+    }
+
+    private String loadDataSql(Path tsv) {
+        // binary-uuid 모드는 문자열 UUID 를 BinaryUuids 와 같은 시간순 배치(swap flag 1)로 변환
+        String userIdExpression = userIdCodec.isBinary() ? "UUID_TO_BIN(%s, 1)" : "%s";
+        String path = tsv.toAbsolutePath().toString().replace("\\", "\\\\").replace("'", "\\'");
+        return "LOAD DATA LOCAL INFILE '" + path + "' INTO TABLE follows CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' "
+                + "(" + (preserveIds ? "id" : "@id") + ", @from_user_id, @to_user_id, created_at) "
+                + "SET from_user_id = " + String.format(userIdExpression, "@from_user_id")
+                + ", to_user_id = " + String.format(userIdExpression, "@to_user_id");
+    }
+
+    private static String escapeTsv(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf('\t') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+    }
+}
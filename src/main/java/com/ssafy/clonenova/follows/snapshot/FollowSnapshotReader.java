@@ -0,0 +1,250 @@
+package com.ssafy.clonenova.follows.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import static com.ssafy.clonenova.follows.snapshot.FollowSnapshotFormat.BLOCK_HEADER_BYTES;
+import static com.ssafy.clonenova.follows.snapshot.FollowSnapshotFormat.HEADER_BYTES;
+import static com.ssafy.clonenova.follows.snapshot.FollowSnapshotFormat.getVarint;
+
+/**
+ * 스냅샷 파일 읽기 (memory-mapped)
+ * - 사전과 블록을 영역별로 mmap → 페이지 캐시에서 바로 디코딩, 힙 복사/read 시스템콜 없음
+ *   (MappedByteBuffer 하나는 2GB 까지라 파일 전체가 아니라 블록 단위로 매핑)
+ * - 블록은 서로 독립이라 readBlock 은 여러 스레드에서 동시에 호출해도 됨
+ */
+public final class FollowSnapshotReader implements Closeable {
+
+    private final FileChannel channel;
+    private final long edgeCount;
+    private final String[] users;
+    private final long[] blockOffsets;
+    private final long dictOffset;
+
+    private FollowSnapshotReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        if (channel.size() < HEADER_BYTES) {
+            throw new IOException("not a follows snapshot (too short)");
+        }
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getInt() != FollowSnapshotFormat.MAGIC) {
+            throw new IOException("not a follows snapshot (bad magic, unfinished export?)");
+        }
+        short version = header.getShort();
+        if (version != FollowSnapshotFormat.VERSION) {
+            throw new IOException("unsupported follows snapshot version : " + version);
+        }
+        header.getShort();                  // flags (예약)
+        header.getInt();                    // blockEdges
+        int blockCount = header.getInt();
+        this.edgeCount = header.getLong();
+        int userCount = header.getInt();
+        this.dictOffset = header.getLong();
+        long dictLength = header.getLong();
+        int dictCrc = header.getInt();
+
+        this.users = readDictionary(dictOffset, dictLength, userCount, dictCrc);
+        this.blockOffsets = scanBlocks(blockCount, dictOffset);
+    }
+
+    public static FollowSnapshotReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new FollowSnapshotReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long edgeCount() {
+        return edgeCount;
+    }
+
+    public int userCount() {
+        return users.length;
+    }
+
+    public int blockCount() {
+        return blockOffsets.length;
+    }
+
+    public EdgeBlock readBlock(int index) throws IOException {
+        long offset = blockOffsets[index];
+        long length = (index + 1 < blockOffsets.length ? blockOffsets[index + 1] : dictOffset) - offset;
+        MappedByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        int size = payload.getInt();
+        payload.getInt();                   // payloadLength (블록 위치 색인에서 사용)
+        long minId = payload.getLong();
+        long minCreatedAt = payload.getLong();
+        int expectedCrc = payload.getInt();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("corrupted follows snapshot block : " + index);
+        }
+
+        EdgeBlock block = new EdgeBlock(size);
+        int prevFrom = 0;
+        int prevTo = 0;
+        for (int k = 0; k < size; k++) {
+            int fromDelta = (int) getVarint(payload);
+            int toValue = (int) getVarint(payload);
+            int from = prevFrom + fromDelta;
+            int to = fromDelta == 0 && k > 0 ? prevTo + toValue : toValue;
+            block.ids[k] = minId + getVarint(payload);
+            block.fromUserIds[k] = users[from];
+            block.toUserIds[k] = users[to];
+            long seconds = getVarint(payload);
+            if (seconds != 0) {
+                block.createdAts[k] = FollowSnapshotFormat.toDateTime(minCreatedAt + seconds - 1, (int) getVarint(payload));
+            }
+            prevFrom = from;
+            prevTo = to;
+        }
+        return block;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private String[] readDictionary(long offset, long length, int userCount, int expectedCrc) throws IOException {
+        String[] result = new String[userCount];
+        // 사전도 2GB 를 넘을 수 있으므로 나눠서 매핑 (항목이 경계에 걸리면 다음 창에서 다시 읽음)
+        CRC32 crc = new CRC32();
+        long position = offset;
+        long end = offset + length;
+        int count = 0;
+        byte[] bytes = new byte[64];
+        while (position < end) {
+            int window = (int) Math.min(end - position, Integer.MAX_VALUE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, window);
+            int consumed = 0;
+            while (count < userCount && buffer.remaining() > 0) {
+                int start = buffer.position();
+                if (!hasVarint(buffer)) {
+                    break;
+                }
+                int len = (int) getVarint(buffer);
+                if (buffer.remaining() < len) {
+                    buffer.position(start);
+                    break;
+                }
+                if (bytes.length < len) {
+                    bytes = new byte[len];
+                }
+                buffer.get(bytes, 0, len);
+                result[count++] = new String(bytes, 0, len, StandardCharsets.UTF_8);
+                consumed = buffer.position();
+            }
+            if (consumed == 0) {
+                throw new IOException("corrupted follows snapshot dictionary");
+            }
+            crc.update(buffer.duplicate().position(0).limit(consumed));
+            position += consumed;
+        }
+        if (count != userCount || (int) crc.getValue() != expectedCrc) {
+            throw new IOException("corrupted follows snapshot dictionary");
+        }
+        return result;
+    }
+
+    private long[] scanBlocks(int blockCount, long dictOffset) throws IOException {
+        // 블록 헤더만 순서대로 읽어서 위치 색인 (payload 는 적재할 때 매핑)
+        long[] offsets = new long[blockCount];
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        long position = HEADER_BYTES;
+        for (int i = 0; i < blockCount; i++) {
+            if (position + BLOCK_HEADER_BYTES > dictOffset) {
+                throw new IOException("truncated follows snapshot : block " + i);
+            }
+            offsets[i] = position;
+            header.clear();
+            while (header.hasRemaining()) {
+                if (channel.read(header, position + header.position()) < 0) {
+                    throw new IOException("truncated follows snapshot : block " + i);
+                }
+            }
+            header.flip();
+            header.getInt();
+            position += BLOCK_HEADER_BYTES + header.getInt();
+        }
+        if (position != dictOffset) {
+            throw new IOException("corrupted follows snapshot block index");
+        }
+        return offsets;
+    }
+
+    private static boolean hasVarint(ByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            if (buffer.get(i) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 디코딩된 블록 (적재 순서 = (from, to) 사전 번호 순)
+     */
+    public static final class EdgeBlock {
+
+        private final long[] ids;
+        private final String[] fromUserIds;
+        private final String[] toUserIds;
+        private final LocalDateTime[] createdAts;
+
+        private EdgeBlock(int size) {
+            this.ids = new long[size];
+            this.fromUserIds = new String[size];
+            this.toUserIds = new String[size];
+            this.createdAts = new LocalDateTime[size];
+        }
+
+        public int size() {
+            return ids.length;
+        }
+
+        public long id(int index) {
+            return ids[index];
+        }
+
+        public String fromUserId(int index) {
+            return fromUserIds[index];
+        }
+
+        public String toUserId(int index) {
+            return toUserIds[index];
+        }
+
+        public LocalDateTime createdAt(int index) {
+            return createdAts[index];
+        }
+
+        /**
+         * id 오름차순 위치 (적재 시 PK 순으로 넣으면 clustered index 끝에 붙어서 페이지 분할이 없음)
+         */
+        public int[] orderById() {
+            long[] sorted = ids.clone();
+            Arrays.sort(sorted);
+            int[] order = new int[ids.length];
+            for (int k = 0; k < ids.length; k++) {
+                // 팔로우 id 는 유일
+                order[Arrays.binarySearch(sorted, ids[k])] = k;
+            }
+            return order;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ssafy.clonenova.follows.snapshot;
+
+import com.ssafy.clonenova.follows.stats.FollowStatsReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 스냅샷 내보내기/적재를 일회성 작업으로 실행 (follows.snapshot.action 이 있을 때만 등록)
+ *
+ * 예) 스테이징 복원
+ *   java -jar app.jar --spring.main.web-application-type=none --follows.graph.enabled=false --follows.search.enabled=false \
+ *        --follows.snapshot.action=import --follows.snapshot.path=/data/follows.snapshot
+ * - import 후에는 follows 기준으로 follow_stats 를 다시 계산
+ * - exit-after-run=true 면 끝난 뒤 프로세스 종료 (스케줄러 스레드 때문에 저절로 끝나지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "follows.snapshot.action")
+public class FollowSnapshotRunner implements ApplicationRunner {
+
+    private final FollowSnapshotExporter exporter;
+    private final FollowSnapshotImporter importer;
+    private final FollowStatsReconciler followStatsReconciler;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${follows.snapshot.action}")
+    private String action;
+
+    @Value("${follows.snapshot.path:./data/follows.snapshot}")
+    private String path;
+
+    @Value("${follows.snapshot.exit-after-run:true}")
+    private boolean exitAfterRun;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        switch (action) {
+            case "export" -> exporter.exportTo(Path.of(path));
+            case "import" -> {
+                importer.importFrom(Path.of(path));
+                followStatsReconciler.reconcileAll();
+            }
+            default -> throw new IllegalArgumentException("unknown follows.snapshot.action : " + action + " (export / import)");
+        }
+        if (exitAfterRun) {
+            log.info("follows snapshot {} finished, shutting down", action);
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
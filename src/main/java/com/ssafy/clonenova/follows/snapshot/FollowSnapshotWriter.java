@@ -0,0 +1,233 @@
+package com.ssafy.clonenova.follows.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static com.ssafy.clonenova.follows.snapshot.FollowSnapshotFormat.BLOCK_HEADER_BYTES;
+import static com.ssafy.clonenova.follows.snapshot.FollowSnapshotFormat.HEADER_BYTES;
+import static com.ssafy.clonenova.follows.snapshot.FollowSnapshotFormat.MAX_EDGE_BYTES;
+import static com.ssafy.clonenova.follows.snapshot.FollowSnapshotFormat.putVarint;
+
+/**
+ * 스냅샷 파일 쓰기 (포맷은 FollowSnapshotFormat)
+ * - 간선을 입력 순서대로 받아서 blockEdges 개마다 정렬/인코딩 후 기록 → 메모리는 블록 하나 + 사용자 사전
+ * - 사전은 간선을 다 받아야 확정되므로 파일 끝에 쓰고, 헤더는 close 시점에 채움
+ * - close 전에 실패한 파일은 헤더 magic 이 비어 있어서 읽기 단계에서 거부됨
+ */
+public final class FollowSnapshotWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final int blockEdges;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> users = new ArrayList<>();
+
+    // 현재 블록 (입력 순서)
+    private final long[] ids;
+    private final int[] froms;
+    private final int[] tos;
+    private final long[] createdAts;     // epoch 초 (null 이면 Long.MIN_VALUE)
+    private final int[] micros;
+    private int size;
+
+    private final long[] sortKeys;
+    private final int[] order;
+    private final ByteBuffer payload;
+    private final ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+
+    private long position = HEADER_BYTES;
+    private long edgeCount;
+    private int blockCount;
+    private boolean closed;
+
+    private FollowSnapshotWriter(FileChannel channel, int blockEdges) {
+        this.channel = channel;
+        this.blockEdges = blockEdges;
+        this.ids = new long[blockEdges];
+        this.froms = new int[blockEdges];
+        this.tos = new int[blockEdges];
+        this.createdAts = new long[blockEdges];
+        this.micros = new int[blockEdges];
+        this.sortKeys = new long[blockEdges];
+        this.order = new int[blockEdges];
+        this.payload = ByteBuffer.allocate(blockEdges * MAX_EDGE_BYTES);
+    }
+
+    public static FollowSnapshotWriter create(Path path, int blockEdges) throws IOException {
+        if (blockEdges <= 0) {
+            throw new IllegalArgumentException("blockEdges must be positive : " + blockEdges);
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new FollowSnapshotWriter(channel, blockEdges);
+    }
+
+    public void add(long id, String fromUserId, String toUserId, LocalDateTime createdAt) throws IOException {
+        ids[size] = id;
+        froms[size] = userNumber(fromUserId);
+        tos[size] = userNumber(toUserId);
+        if (createdAt == null) {
+            createdAts[size] = Long.MIN_VALUE;
+        } else {
+            createdAts[size] = FollowSnapshotFormat.epochSeconds(createdAt);
+            micros[size] = createdAt.getNano() / 1000;
+        }
+        size++;
+        edgeCount++;
+        if (size == blockEdges) {
+            flushBlock();
+        }
+    }
+
+    public long edgeCount() {
+        return edgeCount;
+    }
+
+    public int userCount() {
+        return users.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (size > 0) {
+                flushBlock();
+            }
+            long dictOffset = position;
+            CRC32 crc = new CRC32();
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            for (String userId : users) {
+                byte[] bytes = userId.getBytes(StandardCharsets.UTF_8);
+                if (buffer.remaining() < bytes.length + 5) {
+                    writeDictionary(buffer, crc);
+                    if (buffer.capacity() < bytes.length + 5) {
+                        buffer = ByteBuffer.allocate(bytes.length + 5);
+                    }
+                }
+                putVarint(buffer, bytes.length);
+                buffer.put(bytes);
+            }
+            writeDictionary(buffer, crc);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(FollowSnapshotFormat.MAGIC)
+                    .putShort(FollowSnapshotFormat.VERSION)
+                    .putShort((short) 0)
+                    .putInt(blockEdges)
+                    .putInt(blockCount)
+                    .putLong(edgeCount)
+                    .putInt(users.size())
+                    .putLong(dictOffset)
+                    .putLong(position - dictOffset)
+                    .putInt((int) crc.getValue());
+            header.flip();
+            writeFully(header, 0);
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private int userNumber(String userId) {
+        Integer number = dictionary.get(userId);
+        if (number == null) {
+            number = users.size();
+            dictionary.put(userId, number);
+            users.add(userId);
+        }
+        return number;
+    }
+
+    private void flushBlock() throws IOException {
+        // (from, to) 순 정렬 : 64bit 키 정렬 후 이진탐색으로 원래 위치 복원 (박싱 없음)
+        // 활성 간선은 (from, to) 가 유일 (uk_follows_from_to) 이라 키가 겹치지 않음
+        long minId = Long.MAX_VALUE;
+        long minCreatedAt = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            sortKeys[i] = ((long) froms[i] << 32) | tos[i];
+            minId = Math.min(minId, ids[i]);
+            if (createdAts[i] != Long.MIN_VALUE) {
+                minCreatedAt = Math.min(minCreatedAt, createdAts[i]);
+            }
+        }
+        long[] sorted = Arrays.copyOf(sortKeys, size);
+        Arrays.sort(sorted);
+        for (int i = 0; i < size; i++) {
+            int pos = Arrays.binarySearch(sorted, sortKeys[i]);
+            if (pos > 0 && sorted[pos - 1] == sortKeys[i] || pos + 1 < size && sorted[pos + 1] == sortKeys[i]) {
+                throw new IllegalStateException("duplicate edge in snapshot block : from=" + users.get(froms[i]) + ", to=" + users.get(tos[i]));
+            }
+            order[pos] = i;
+        }
+        if (minCreatedAt == Long.MAX_VALUE) {
+            minCreatedAt = 0;
+        }
+
+        payload.clear();
+        int prevFrom = 0;
+        int prevTo = 0;
+        for (int k = 0; k < size; k++) {
+            int i = order[k];
+            int from = froms[i];
+            int to = tos[i];
+            putVarint(payload, from - prevFrom);
+            putVarint(payload, from == prevFrom && k > 0 ? to - prevTo : to);
+            putVarint(payload, ids[i] - minId);
+            if (createdAts[i] == Long.MIN_VALUE) {
+                putVarint(payload, 0);
+            } else {
+                putVarint(payload, createdAts[i] - minCreatedAt + 1);
+                putVarint(payload, micros[i]);
+            }
+            prevFrom = from;
+            prevTo = to;
+        }
+        payload.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        blockHeader.clear();
+        blockHeader.putInt(size)
+                .putInt(payload.remaining())
+                .putLong(minId)
+                .putLong(minCreatedAt)
+                .putInt((int) crc.getValue())
+                .flip();
+        position += writeFully(blockHeader, position);
+        position += writeFully(payload, position);
+
+        blockCount++;
+        size = 0;
+    }
+
+    private void writeDictionary(ByteBuffer buffer, CRC32 crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        position += writeFully(buffer, position);
+        buffer.clear();
+    }
+
+    private int writeFully(ByteBuffer buffer, long at) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            total += channel.write(buffer, at + total);
+        }
+        return total;
+    }
+}
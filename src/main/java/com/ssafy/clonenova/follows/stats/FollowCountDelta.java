@@ -0,0 +1,16 @@
+package com.ssafy.clonenova.follows.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * follow_stats 에 누적 반영할 사용자별 증감량
+ */
+@Getter
+@AllArgsConstructor
+public class FollowCountDelta {
+
+    private final String userId;
+    private final long followerDelta;
+    private final long followingDelta;
+}
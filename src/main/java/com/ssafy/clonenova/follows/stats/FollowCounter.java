@@ -0,0 +1,116 @@
+package com.ssafy.clonenova.follows.stats;
+
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import com.ssafy.clonenova.follows.repository.FollowStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 팔로워/팔로잉 수 인메모리 누적기
+ * - 커밋된 팔로우 변경을 사용자별 LongAdder(스트라이프 카운터)에 누적 → 경합 없이 증감
+ * - 주기적으로 변경분만 모아서 follow_stats 에 배치 upsert
+ * - 조회는 follow_stats 값 + 아직 flush 안 된 delta
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowCounter {
+
+    private final FollowStatsRepository followStatsRepository;
+
+    private final ConcurrentHashMap<String, Delta> deltas = new ConcurrentHashMap<>();
+
+    @Value("${follows.stats.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @TransactionalEventListener
+    public void onFollowChanged(FollowChangedEvent event) {
+        long diff = event.isActive() ? 1 : -1;
+        add(event.getFromUserId(), 0, diff);
+        add(event.getToUserId(), diff, 0);
+    }
+
+    /**
+     * 아직 flush 되지 않은 팔로워 증감량
+     */
+    public long pendingFollowers(String userId) {
+        Delta delta = deltas.get(userId);
+        return delta == null ? 0 : delta.followers.sum();
+    }
+
+    /**
+     * 아직 flush 되지 않은 팔로잉 증감량
+     */
+    public long pendingFollowings(String userId) {
+        Delta delta = deltas.get(userId);
+        return delta == null ? 0 : delta.followings.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${follows.stats.flush-interval-ms:1000}")
+    public void flush() {
+        List<FollowCountDelta> batch = new ArrayList<>(flushBatchSize);
+        for (String userId : deltas.keySet()) {
+            // 변화가 없는 항목은 map 에서 제거 (제거 후 들어온 증감은 add() 에서 다시 옮겨짐)
+            Delta delta = deltas.computeIfPresent(userId, (k, d) -> d.isZero() ? null : d);
+            if (delta == null) {
+                continue;
+            }
+            long followers = delta.followers.sumThenReset();
+            long followings = delta.followings.sumThenReset();
+            if (followers == 0 && followings == 0) {
+                continue;
+            }
+            batch.add(new FollowCountDelta(userId, followers, followings));
+            if (batch.size() >= flushBatchSize) {
+                write(batch);
+                batch = new ArrayList<>(flushBatchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<FollowCountDelta> batch) {
+        try {
+            followStatsRepository.addDeltas(batch);
+        } catch (RuntimeException e) {
+            // 실패한 배치는 다시 누적해서 다음 flush 때 재시도
+            log.warn("follow_stats flush 실패 : {} 건 재시도 예약", batch.size(), e);
+            batch.forEach(d -> add(d.getUserId(), d.getFollowerDelta(), d.getFollowingDelta()));
+        }
+    }
+
+    private void add(String userId, long followers, long followings) {
+        Delta delta = deltas.computeIfAbsent(userId, k -> new Delta());
+        delta.followers.add(followers);
+        delta.followings.add(followings);
+
+        // flush 가 그 사이 map 에서 제거했다면 (고아 delta) 현재 항목으로 옮김
+        if (deltas.get(userId) != delta) {
+            long orphanFollowers = delta.followers.sumThenReset();
+            long orphanFollowings = delta.followings.sumThenReset();
+            if (orphanFollowers != 0 || orphanFollowings != 0) {
+                add(userId, orphanFollowers, orphanFollowings);
+            }
+        }
+    }
+
+    private static final class Delta {
+        private final LongAdder followers = new LongAdder();
+        private final LongAdder followings = new LongAdder();
+
+        private boolean isZero() {
+            return followers.sum() == 0 && followings.sum() == 0;
+        }
+    }
+}
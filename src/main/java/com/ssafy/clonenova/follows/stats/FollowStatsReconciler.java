@@ -0,0 +1,59 @@
+package com.ssafy.clonenova.follows.stats;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.clonenova.follows.entity.QUser;
+import com.ssafy.clonenova.follows.repository.FollowStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * follow_stats 재계산 작업
+ * - 누적 delta 가 어긋난 경우(배포 중 유실, 수동 데이터 수정 등)를 follows 테이블 기준으로 바로잡음
+ * - 사용자 id 순으로 배치를 나눠서 한 번에 긴 락을 잡지 않도록 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowStatsReconciler {
+
+    private final FollowStatsRepository followStatsRepository;
+    private final FollowCounter followCounter;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final QUser qUser = QUser.user;
+
+    @Value("${follows.stats.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${follows.stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcileAll() {
+        long start = System.currentTimeMillis();
+        // 재계산 전에 대기 중인 delta 를 먼저 반영해야 이중 반영 구간이 최소화됨
+        followCounter.flush();
+
+        // 첫 배치는 커서 조건 없음 ("" 는 binary-uuid 모드에서 UUID 로 변환할 수 없음)
+        String lastId = null;
+        long reconciled = 0;
+        while (true) {
+            List<String> userIds = jpaQueryFactory
+                    .select(qUser.id)
+                    .from(qUser)
+                    .where(lastId == null ? null : qUser.id.gt(lastId))
+                    .orderBy(qUser.id.asc())
+                    .limit(batchSize)
+                    .fetch();
+            if (userIds.isEmpty()) {
+                break;
+            }
+            followStatsRepository.reconcile(userIds);
+            reconciled += userIds.size();
+            lastId = userIds.get(userIds.size() - 1);
+        }
+        log.info("follow_stats 재계산 완료 : users={}, {}ms", reconciled, System.currentTimeMillis() - start);
+    }
+}
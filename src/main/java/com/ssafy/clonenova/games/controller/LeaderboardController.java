@@ -0,0 +1,97 @@
+package com.ssafy.clonenova.games.controller;
+
+import com.ssafy.clonenova.games.dto.GameScoreRequestDTO;
+import com.ssafy.clonenova.games.dto.GameScoreResponseDTO;
+import com.ssafy.clonenova.games.dto.LeaderboardEntryDTO;
+import com.ssafy.clonenova.games.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "게임 랭킹", description = "게임 점수 저장 및 랭킹 조회 API")
+@RestController
+@RequestMapping("/api/v1/games/{gameId}")
+@Slf4j
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @Operation(summary = "게임 결과 저장 API", description = "게임 점수 저장 (최고 점수보다 높을 때만 랭킹 반영) (GF01)")
+    @Parameters({
+            @Parameter(name = "gameId", description = "게임 id", required = true),
+            @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "score", description = "이번 게임 점수", required = true),
+    })
+    @PostMapping("/scores")
+    public ResponseEntity<GameScoreResponseDTO> submitScore(@PathVariable String gameId,
+                                                            @RequestBody GameScoreRequestDTO requestDTO) {
+        GameScoreResponseDTO result = leaderboardService.submitScore(gameId, requestDTO);
+        return ResponseEntity.ok(result);
+    }
+
+
+    @Operation(summary = "게임별 랭킹 조회 API", description = "전체 회원 대상 상위 랭킹 (GF02)")
+    @Parameters({
+            @Parameter(name = "gameId", description = "게임 id", required = true),
+            @Parameter(name = "size", description = "가져올 데이터 개수 (최대 games.leaderboard.max-size)", example = "10"),
+    })
+    @GetMapping("/ranking")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getTop(@PathVariable String gameId,
+                                                            @RequestParam(required = false) Integer size) {
+        List<LeaderboardEntryDTO> result = leaderboardService.getTop(gameId, size);
+        return ResponseEntity.ok(result);
+    }
+
+
+    @Operation(summary = "내 주변 랭킹 조회 API", description = "본인 순위 기준 앞뒤 radius 명 (GF03)")
+    @Parameters({
+            @Parameter(name = "gameId", description = "게임 id", required = true),
+            @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "radius", description = "앞뒤 인원 (최대 games.leaderboard.max-radius)", example = "5"),
+    })
+    @GetMapping("/ranking/me")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getAroundMe(@PathVariable String gameId,
+                                                                 @RequestParam String userId,
+                                                                 @RequestParam(required = false) Integer radius) {
+        List<LeaderboardEntryDTO> result = leaderboardService.getAroundMe(gameId, userId, radius);
+        return ResponseEntity.ok(result);
+    }
+
+
+    @Operation(summary = "친구 랭킹 조회 API", description = "내 팔로잉 + 나 중 상위 랭킹")
+    @Parameters({
+            @Parameter(name = "gameId", description = "게임 id", required = true),
+            @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "size", description = "가져올 데이터 개수 (최대 games.leaderboard.max-size)", example = "10"),
+    })
+    @GetMapping("/ranking/friends")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getFriendsTop(@PathVariable String gameId,
+                                                                   @RequestParam String userId,
+                                                                   @RequestParam(required = false) Integer size) {
+        List<LeaderboardEntryDTO> result = leaderboardService.getFriendsTop(gameId, userId, size);
+        return ResponseEntity.ok(result);
+    }
+
+
+    @Operation(summary = "친구 중 내 주변 랭킹 조회 API", description = "내 팔로잉 + 나 중 본인 순위 기준 앞뒤 radius 명")
+    @Parameters({
+            @Parameter(name = "gameId", description = "게임 id", required = true),
+            @Parameter(name = "userId", description = "로그인한 사용자 id(pk) -> 추후 JWT 로 얻을 예정!", required = true),
+            @Parameter(name = "radius", description = "앞뒤 인원 (최대 games.leaderboard.max-radius)", example = "5"),
+    })
+    @GetMapping("/ranking/friends/me")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getFriendsAroundMe(@PathVariable String gameId,
+                                                                        @RequestParam String userId,
+                                                                        @RequestParam(required = false) Integer radius) {
+        List<LeaderboardEntryDTO> result = leaderboardService.getFriendsAroundMe(gameId, userId, radius);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssafy.clonenova.games.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class GameScoreRequestDTO {
+
+    // TODO : currentUser 구현체 통해서 로그인한 사용자 id(pk) 가져올 예정
+    private String userId;
+    private Long score;
+
+    @Builder
+    public GameScoreRequestDTO(String userId, Long score) {
+        this.userId = userId;
+        this.score = score;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.clonenova.games.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class GameScoreResponseDTO {
+
+    private String gameId;
+    private String userId;
+    private long score;
+    private boolean improved;   // 최고 점수가 새로 생기거나 올라갔는지
+
+    @Builder
+    public GameScoreResponseDTO(String gameId, String userId, long score, boolean improved) {
+        this.gameId = gameId;
+        this.userId = userId;
+        this.score = score;
+        this.improved = improved;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.clonenova.games.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LeaderboardEntryDTO {
+
+    private int rank;           // 전체 랭킹이면 전체 순위, 친구 랭킹이면 친구(+나) 중 순위
+    private String userId;
+    private String nickname;
+    private long score;
+
+    @Builder
+    public LeaderboardEntryDTO(int rank, String userId, String nickname, long score) {
+        this.rank = rank;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.score = score;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.clonenova.games.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게임별 회원 최고 점수 (랭킹 원본, V4 마이그레이션)
+ */
+@Entity
+@Table(name = "game_scores", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_game_scores_game_user", columnNames = {"game_id", "user_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GameScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false, columnDefinition = "VARCHAR(50)")
+    private String gameId;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "VARCHAR(36)")
+    private String userId;
+
+    @Column(name = "best_score", nullable = false)
+    private long bestScore;
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public GameScore(String gameId, String userId, long bestScore, LocalDateTime updatedAt) {
+        this.gameId = gameId;
+        this.userId = userId;
+        this.bestScore = bestScore;
+        this.updatedAt = updatedAt;
+    }
+}
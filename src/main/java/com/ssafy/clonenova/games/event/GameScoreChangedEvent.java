@@ -0,0 +1,23 @@
+package com.ssafy.clonenova.games.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 회원의 게임 최고 점수 갱신 이벤트
+ * - LeaderboardServiceImpl 에서 발행하고, 커밋 이후(AFTER_COMMIT) LeaderboardLoader 가 인메모리 랭킹에 반영
+ */
+@Getter
+public class GameScoreChangedEvent {
+
+    private final String gameId;
+    private final String userId;
+    private final long bestScore;
+
+    @Builder
+    public GameScoreChangedEvent(String gameId, String userId, long bestScore) {
+        this.gameId = gameId;
+        this.userId = userId;
+        this.bestScore = bestScore;
+    }
+}
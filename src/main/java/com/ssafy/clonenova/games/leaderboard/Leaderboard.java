@@ -0,0 +1,251 @@
+package com.ssafy.clonenova.games.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 게임 하나의 랭킹 (사용자별 최고 점수)
+ * - RankSkipList 로 점수 갱신 / 순위 / 상위 K / 내 주변 순위를 O(log n) 에 처리
+ * - 점수는 int id 로 바로 접근하는 배열에도 보관 → 친구 랭킹은 친구 id 로 점수만 꺼내서 계산
+ * - 최고 점수만 반영하므로 같은 갱신이 여러 번 / 순서가 바뀌어 와도 결과가 같음 (워밍과 실시간 반영이 겹쳐도 안전)
+ */
+public class Leaderboard {
+
+    private static final long NO_SCORE = Long.MIN_VALUE;
+
+    // 점수 내림차순, 같은 점수는 member 오름차순 (RankSkipList 와 같은 순서)
+    private static final Comparator<long[]> ORDER = Comparator.<long[]>comparingLong(entry -> entry[0]).reversed()
+            .thenComparingLong(entry -> entry[1]);
+
+    private final RankSkipList ranks = new RankSkipList();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] scores = newScores(1024);
+
+    /**
+     * 기존 최고 점수보다 높을 때만 반영
+     *
+     * @return 반영 여부
+     */
+    public boolean offer(int member, long score) {
+        if (score == NO_SCORE) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            if (member >= scores.length) {
+                int capacity = Math.max(scores.length << 1, member + 1);
+                long[] grown = Arrays.copyOf(scores, capacity);
+                Arrays.fill(grown, scores.length, capacity, NO_SCORE);
+                scores = grown;
+            }
+            long current = scores[member];
+            if (current != NO_SCORE && current >= score) {
+                return false;
+            }
+            if (current != NO_SCORE) {
+                ranks.delete(member, current);
+            }
+            ranks.insert(member, score);
+            scores[member] = score;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 1부터 시작하는 전체 순위 (기록 없으면 0)
+     */
+    public int rank(int member) {
+        lock.readLock().lock();
+        try {
+            long score = score(member);
+            return score == NO_SCORE ? 0 : ranks.rank(member, score);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 상위 k 명
+     */
+    public List<RankedMember> top(int k) {
+        lock.readLock().lock();
+        try {
+            List<RankedMember> result = new ArrayList<>(Math.min(k, ranks.size()));
+            RankSkipList.Node node = ranks.first();
+            for (int rank = 1; node != null && rank <= k; rank++, node = node.next()) {
+                result.add(new RankedMember(rank, node.member, node.score));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 내 순위 앞뒤 radius 명 (나 포함, 기록 없으면 빈 목록)
+     */
+    public List<RankedMember> around(int member, int radius) {
+        lock.readLock().lock();
+        try {
+            long score = score(member);
+            if (score == NO_SCORE) {
+                return List.of();
+            }
+            int myRank = ranks.rank(member, score);
+            int from = Math.max(1, myRank - radius);
+            int to = Math.min(ranks.size(), myRank + radius);
+            List<RankedMember> result = new ArrayList<>(to - from + 1);
+            RankSkipList.Node node = ranks.byRank(from);
+            for (int rank = from; node != null && rank <= to; rank++, node = node.next()) {
+                result.add(new RankedMember(rank, node.member, node.score));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * members(친구) 안에서의 상위 k 명 (순위는 members 안에서의 순위)
+     * - 친구가 많으면(친구 비율이 높으면) 전체 랭킹을 위에서부터 훑으며 친구만 골라냄 : 약 k * n / f 칸
+     * - 적으면 친구 점수를 크기 k 힙으로 선택 : O(f log k), 친구 전체를 정렬하지 않음
+     *
+     * @param members 친구 int id (중복 없음, 순서 무관)
+     * @param isMember members 포함 여부 (O(1) 에 가까운 판정)
+     */
+    public List<RankedMember> topAmong(int[] members, IntPredicate isMember, int k) {
+        lock.readLock().lock();
+        try {
+            int n = ranks.size();
+            if (k <= 0 || n == 0 || members.length == 0) {
+                return List.of();
+            }
+            if ((long) members.length * members.length > (long) k * n) {
+                List<RankedMember> result = new ArrayList<>(k);
+                for (RankSkipList.Node node = ranks.first(); node != null && result.size() < k; node = node.next()) {
+                    if (isMember.test(node.member)) {
+                        result.add(new RankedMember(result.size() + 1, node.member, node.score));
+                    }
+                }
+                return result;
+            }
+
+            // 힙 head = 남은 후보 중 가장 낮은 순위 → 더 높은 점수가 오면 교체
+            PriorityQueue<long[]> heap = new PriorityQueue<>(k + 1, ORDER.reversed());
+            for (int member : members) {
+                long score = score(member);
+                if (score == NO_SCORE) {
+                    continue;
+                }
+                long[] entry = {score, member};
+                if (heap.size() < k) {
+                    heap.add(entry);
+                } else if (ORDER.compare(entry, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(entry);
+                }
+            }
+            return ranked(heap, 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * members(친구) 안에서 내 순위 앞뒤 radius 명 (나 포함, 순위는 members 안에서의 순위)
+     * - 내 친구 순위 = 나보다 앞선 친구 수 + 1 (친구 점수를 한 번씩만 확인)
+     * - 앞/뒤 후보는 각각 크기 radius 힙으로 선택 : O(f log radius)
+     *
+     * @param members 친구 int id (중복 없음, 나는 빼도/넣어도 됨)
+     */
+    public List<RankedMember> aroundAmong(int member, int[] members, int radius) {
+        lock.readLock().lock();
+        try {
+            long myScore = score(member);
+            if (myScore == NO_SCORE) {
+                return List.of();
+            }
+            long[] me = {myScore, member};
+
+            // above : 나보다 앞선 친구 중 나와 가장 가까운 radius 명 (head = 그중 가장 앞선 친구)
+            // below : 나보다 뒤인 친구 중 나와 가장 가까운 radius 명 (head = 그중 가장 뒤인 친구)
+            PriorityQueue<long[]> above = new PriorityQueue<>(radius + 1, ORDER);
+            PriorityQueue<long[]> below = new PriorityQueue<>(radius + 1, ORDER.reversed());
+            int ahead = 0;
+            for (int friend : members) {
+                long score = score(friend);
+                if (friend == member || score == NO_SCORE) {
+                    continue;
+                }
+                long[] entry = {score, friend};
+                if (ORDER.compare(entry, me) < 0) {
+                    ahead++;
+                    keepClosest(above, entry, radius);
+                } else {
+                    keepClosest(below, entry, radius);
+                }
+            }
+
+            int myRank = ahead + 1;
+            List<RankedMember> result = new ArrayList<>(ranked(above, myRank - above.size()));
+            result.add(new RankedMember(myRank, member, myScore));
+            result.addAll(ranked(below, myRank + 1));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void keepClosest(PriorityQueue<long[]> heap, long[] entry, int limit) {
+        if (limit <= 0) {
+            return;
+        }
+        heap.add(entry);
+        if (heap.size() > limit) {
+            heap.poll();
+        }
+    }
+
+    // 힙에 남은 후보(최대 k 개)만 정렬해서 firstRank 부터 순위 부여
+    private static List<RankedMember> ranked(PriorityQueue<long[]> heap, int firstRank) {
+        if (heap.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<long[]> entries = new ArrayList<>(heap);
+        entries.sort(ORDER);
+        List<RankedMember> result = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            long[] entry = entries.get(i);
+            result.add(new RankedMember(firstRank + i, (int) entry[1], entry[0]));
+        }
+        return result;
+    }
+
+    private long score(int member) {
+        long[] current = scores;
+        return member >= 0 && member < current.length ? current[member] : NO_SCORE;
+    }
+
+    private static long[] newScores(int capacity) {
+        long[] scores = new long[capacity];
+        Arrays.fill(scores, NO_SCORE);
+        return scores;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.clonenova.games.leaderboard;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.clonenova.games.entity.QGameScore;
+import com.ssafy.clonenova.games.event.GameScoreChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * LeaderboardRegistry 워밍 + 변경 반영
+ * - 애플리케이션 기동 후 game_scores 를 id 순 배치로 읽어 게임별 랭킹을 채움
+ * - 최고 점수 갱신은 커밋 이후 이벤트로 write-through
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardLoader {
+
+    private final LeaderboardRegistry registry;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final QGameScore qGameScore = QGameScore.gameScore;
+
+    @Value("${games.leaderboard.load-batch-size:10000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        // 기동을 막지 않도록 백그라운드에서 로딩 (로딩 중 랭킹 조회는 503)
+        Thread loader = new Thread(this::load, "leaderboard-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    @TransactionalEventListener
+    public void onGameScoreChanged(GameScoreChangedEvent event) {
+        registry.offer(event.getGameId(), event.getUserId(), event.getBestScore());
+    }
+
+    void load() {
+        long start = System.currentTimeMillis();
+        try {
+            long lastId = 0L;
+            long loaded = 0L;
+            while (true) {
+                List<Tuple> rows = jpaQueryFactory
+                        .select(qGameScore.id, qGameScore.gameId, qGameScore.userId, qGameScore.bestScore)
+                        .from(qGameScore)
+                        .where(qGameScore.id.gt(lastId))
+                        .orderBy(qGameScore.id.asc())
+                        .limit(batchSize)
+                        .fetch();
+
+                for (Tuple row : rows) {
+                    registry.offer(row.get(qGameScore.gameId), row.get(qGameScore.userId), row.get(qGameScore.bestScore));
+                }
+                loaded += rows.size();
+
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).get(qGameScore.id);
+            }
+            registry.markReady();
+            log.info("leaderboard warm-up 완료 : scores={}, {}ms", loaded, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 실패 시 계속 not-ready → 랭킹 조회는 503
+            log.error("leaderboard warm-up 실패", e);
+        }
+    }
+}
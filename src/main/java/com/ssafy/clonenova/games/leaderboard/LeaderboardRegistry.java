@@ -0,0 +1,44 @@
+package com.ssafy.clonenova.games.leaderboard;
+
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임별 인메모리 랭킹 모음
+ * - 회원 id 는 팔로우 그래프와 같은 UserIdInterner 공간을 사용 → 친구 랭킹을 int id 로 바로 교차
+ * - 워밍(LeaderboardLoader)이 끝나기 전까지는 ready=false (기록 일부만 있어서 순위가 틀릴 수 있음)
+ * - 최고 점수만 반영(Leaderboard.offer)이라 워밍 중 들어온 갱신을 큐잉하지 않고 바로 반영해도 결과가 같음
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderboardRegistry {
+
+    private final UserIdInterner interner;
+
+    private final ConcurrentHashMap<String, Leaderboard> boards = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return 기록이 하나도 없는 게임이면 null
+     */
+    public Leaderboard find(String gameId) {
+        return boards.get(gameId);
+    }
+
+    public boolean offer(String gameId, String userId, long score) {
+        return boards.computeIfAbsent(gameId, id -> new Leaderboard())
+                .offer(interner.intern(userId), score);
+    }
+
+    void markReady() {
+        ready = true;
+    }
+}
@@ -0,0 +1,188 @@
+package com.ssafy.clonenova.games.leaderboard;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 skip list (Redis sorted set 과 같은 구조)
+ * - 정렬 : 점수 내림차순, 같은 점수는 member(int id) 오름차순
+ * - 레벨마다 span(건너뛰는 노드 수)을 보관 → 삽입/삭제/순위/순위로 찾기 모두 O(log n)
+ * - level 0 은 backward 포인터로 양방향 연결 → 주변 순위는 노드에서 바로 이동
+ * 동기화는 호출부(Leaderboard 락)에서 처리
+ */
+final class RankSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double P = 0.25;
+
+    private final Node head = new Node(Long.MAX_VALUE, -1, MAX_LEVEL);
+    private Node tail;
+    private int level = 1;
+    private int length;
+
+    int size() {
+        return length;
+    }
+
+    void insert(int member, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.forward[i] != null && precedes(x.forward[i], score, member)) {
+                rank[i] += x.span[i];
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = length;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(score, member, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.forward[i] = update[i].forward[i];
+            update[i].forward[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        node.backward = update[0] == head ? null : update[0];
+        if (node.forward[0] != null) {
+            node.forward[0].backward = node;
+        } else {
+            tail = node;
+        }
+        length++;
+    }
+
+    boolean delete(int member, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && precedes(x.forward[i], score, member)) {
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+        x = x.forward[0];
+        if (x == null || x.score != score || x.member != member) {
+            return false;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].forward[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].forward[i] = x.forward[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        if (x.forward[0] != null) {
+            x.forward[0].backward = x.backward;
+        } else {
+            tail = x.backward;
+        }
+        while (level > 1 && head.forward[level - 1] == null) {
+            level--;
+        }
+        length--;
+        return true;
+    }
+
+    /**
+     * @return 1부터 시작하는 순위 (없으면 0)
+     */
+    int rank(int member, long score) {
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null
+                    && (precedes(x.forward[i], score, member) || (x.forward[i].score == score && x.forward[i].member == member))) {
+                rank += x.span[i];
+                x = x.forward[i];
+            }
+            if (x != head && x.score == score && x.member == member) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param rank 1부터 시작하는 순위
+     * @return 해당 순위 노드 (범위 밖이면 null)
+     */
+    Node byRank(int rank) {
+        if (rank < 1 || rank > length) {
+            return null;
+        }
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.forward[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    Node first() {
+        return head.forward[0];
+    }
+
+    Node last() {
+        return tail;
+    }
+
+    // node 가 (score, member) 보다 앞 순위인지
+    private static boolean precedes(Node node, long score, int member) {
+        return node.score > score || (node.score == score && node.member < member);
+    }
+
+    private static int randomLevel() {
+        int level = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (level < MAX_LEVEL && random.nextDouble() < P) {
+            level++;
+        }
+        return level;
+    }
+
+    static final class Node {
+        final long score;
+        final int member;
+        final Node[] forward;
+        final int[] span;
+        Node backward;
+
+        private Node(long score, int member, int level) {
+            this.score = score;
+            this.member = member;
+            this.forward = new Node[level];
+            this.span = new int[level];
+        }
+
+        Node next() {
+            return forward[0];
+        }
+
+        Node previous() {
+            return backward;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssafy.clonenova.games.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 랭킹 한 칸 (member 는 UserIdInterner int id)
+ */
+@Getter
+@AllArgsConstructor
+public class RankedMember {
+
+    private final int rank;
+    private final int member;
+    private final long score;
+}
@@ -0,0 +1,17 @@
+package com.ssafy.clonenova.games.repository;
+
+import java.time.LocalDateTime;
+
+public interface GameScoreCustomRepository {
+
+    /**
+     * 최고 점수 갱신 (기존 기록보다 높을 때만, 한 문장 upsert)
+     *
+     * @param gameId 게임 ID
+     * @param userId 사용자 ID
+     * @param score 이번 점수
+     * @param playedAt 기록 시각
+     * @return 최고 점수가 새로 생기거나 올라갔으면 true
+     * */
+    boolean saveBestScore(String gameId, String userId, long score, LocalDateTime playedAt);
+}
@@ -0,0 +1,31 @@
+package com.ssafy.clonenova.games.repository;
+
+import com.ssafy.clonenova.common.uuid.UserIdCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class GameScoreCustomRepositoryImpl implements GameScoreCustomRepository {
+
+    // 신규(1) / 최고 점수 갱신(2) / 기존 기록 이하라 무변경(0) - uk_game_scores_game_user 기준
+    // updated_at 을 먼저 갱신해야 CASE 가 변경 전 best_score 를 봄 (SET 은 왼쪽부터 적용)
+    // MySQL 은 URL 에 useAffectedRows=true 가 있어야 무변경이 0 으로 옴
+    private static final String UPSERT_SQL =
+            "INSERT INTO game_scores (game_id, user_id, best_score, updated_at) VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE "
+                    + "updated_at = CASE WHEN VALUES(best_score) > best_score THEN VALUES(updated_at) ELSE updated_at END, "
+                    + "best_score = GREATEST(best_score, VALUES(best_score))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserIdCodec userIdCodec;
+
+    @Override
+    public boolean saveBestScore(String gameId, String userId, long score, LocalDateTime playedAt) {
+        return jdbcTemplate.update(UPSERT_SQL, gameId, userIdCodec.bind(userId), score, Timestamp.valueOf(playedAt)) > 0;
+    }
+}
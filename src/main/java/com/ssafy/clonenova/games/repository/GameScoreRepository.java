@@ -0,0 +1,9 @@
+package com.ssafy.clonenova.games.repository;
+
+import com.ssafy.clonenova.games.entity.GameScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GameScoreRepository extends JpaRepository<GameScore, Long>, GameScoreCustomRepository {
+}
@@ -0,0 +1,185 @@
+package com.ssafy.clonenova.games.service.Impl;
+
+import com.ssafy.clonenova.exception.CustomException;
+import com.ssafy.clonenova.follows.graph.FollowGraph;
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import com.ssafy.clonenova.follows.profile.UserProfile;
+import com.ssafy.clonenova.follows.profile.UserProfileCache;
+import com.ssafy.clonenova.follows.repository.FollowRepository;
+import com.ssafy.clonenova.games.dto.GameScoreRequestDTO;
+import com.ssafy.clonenova.games.dto.GameScoreResponseDTO;
+import com.ssafy.clonenova.games.dto.LeaderboardEntryDTO;
+import com.ssafy.clonenova.games.event.GameScoreChangedEvent;
+import com.ssafy.clonenova.games.leaderboard.Leaderboard;
+import com.ssafy.clonenova.games.leaderboard.LeaderboardRegistry;
+import com.ssafy.clonenova.games.leaderboard.RankedMember;
+import com.ssafy.clonenova.games.repository.GameScoreRepository;
+import com.ssafy.clonenova.games.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private static final int GAME_ID_MAX_LENGTH = 50;
+
+    private final GameScoreRepository gameScoreRepository;
+    private final LeaderboardRegistry leaderboardRegistry;
+    private final FollowGraph followGraph;
+    private final FollowRepository followRepository;
+    private final UserIdInterner interner;
+    private final UserProfileCache userProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${games.leaderboard.max-size:100}")
+    private int maxSize;
+
+    @Value("${games.leaderboard.max-radius:50}")
+    private int maxRadius;
+
+    @Transactional
+    @Override
+    public GameScoreResponseDTO submitScore(String gameId, GameScoreRequestDTO requestDTO) {
+        validateGameId(gameId);
+        if (requestDTO.getUserId() == null || requestDTO.getScore() == null) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "userId, score 는 필수 값입니다.");
+        }
+        String userId = requestDTO.getUserId();
+        long score = requestDTO.getScore();
+
+        // 최고 점수보다 높을 때만 DB/랭킹 반영 (랭킹은 커밋 이후 이벤트로)
+        boolean improved = gameScoreRepository.saveBestScore(gameId, userId, score,
+                LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        if (improved) {
+            eventPublisher.publishEvent(GameScoreChangedEvent.builder()
+                    .gameId(gameId)
+                    .userId(userId)
+                    .bestScore(score)
+                    .build());
+        }
+
+        return GameScoreResponseDTO.builder()
+                .gameId(gameId)
+                .userId(userId)
+                .score(score)
+                .improved(improved)
+                .build();
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getTop(String gameId, Integer size) {
+        Leaderboard board = board(gameId);
+        return board == null ? List.of() : toResponseList(board.top(limit(size)));
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getAroundMe(String gameId, String userId, Integer radius) {
+        Leaderboard board = board(gameId);
+        int me = interner.find(userId);
+        if (board == null || me == UserIdInterner.NOT_FOUND) {
+            return List.of();
+        }
+        return toResponseList(board.around(me, radius(radius)));
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getFriendsTop(String gameId, String userId, Integer size) {
+        Leaderboard board = board(gameId);
+        int me = interner.find(userId);
+        if (board == null || me == UserIdInterner.NOT_FOUND) {
+            return List.of();
+        }
+        Friends friends = friends(userId, me);
+        return toResponseList(board.topAmong(friends.ids(), friends.contains(), limit(size)));
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getFriendsAroundMe(String gameId, String userId, Integer radius) {
+        Leaderboard board = board(gameId);
+        int me = interner.find(userId);
+        if (board == null || me == UserIdInterner.NOT_FOUND) {
+            return List.of();
+        }
+        Friends friends = friends(userId, me);
+        return toResponseList(board.aroundAmong(me, friends.ids(), radius(radius)));
+    }
+
+    private Leaderboard board(String gameId) {
+        validateGameId(gameId);
+        if (!leaderboardRegistry.isReady()) {
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "랭킹을 불러오는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return leaderboardRegistry.find(gameId);
+    }
+
+    // 친구 = 내 팔로잉 + 나 (그래프가 준비됐으면 인메모리 간선, 아니면 DB)
+    private Friends friends(String userId, int me) {
+        if (followGraph.isReady()) {
+            int[] followings = followGraph.recentFollowingIds(me, Integer.MAX_VALUE);
+            int[] ids = Arrays.copyOf(followings, followings.length + 1);
+            ids[followings.length] = me;
+            return new Friends(ids, id -> id == me || followGraph.isFollowing(me, id));
+        }
+        // 점수 기록이 있는 회원은 모두 intern 되어 있으므로 find 로 충분 (NOT_FOUND = 기록 없음)
+        int[] ids = followRepository.findFollowingIds(userId).stream()
+                .mapToInt(interner::find)
+                .filter(id -> id != UserIdInterner.NOT_FOUND)
+                .toArray();
+        ids = Arrays.copyOf(ids, ids.length + 1);
+        ids[ids.length - 1] = me;
+        Arrays.sort(ids);
+        int[] sorted = ids;
+        return new Friends(sorted, id -> Arrays.binarySearch(sorted, id) >= 0);
+    }
+
+    private List<LeaderboardEntryDTO> toResponseList(List<RankedMember> ranked) {
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        List<String> userIds = ranked.stream().map(member -> interner.userId(member.getMember())).toList();
+        Map<String, UserProfile> profiles = userProfileCache.getAll(userIds);
+        return ranked.stream()
+                .map(member -> {
+                    String userId = interner.userId(member.getMember());
+                    UserProfile profile = profiles.get(userId);
+                    return LeaderboardEntryDTO.builder()
+                            .rank(member.getRank())
+                            .userId(userId)
+                            .nickname(profile != null ? profile.getNickname() : null)
+                            .score(member.getScore())
+                            .build();
+                })
+                .toList();
+    }
+
+    private int limit(Integer size) {
+        return (size == null || size <= 0) ? 10 : Math.min(size, maxSize);
+    }
+
+    private int radius(Integer radius) {
+        return (radius == null || radius < 0) ? 5 : Math.min(radius, maxRadius);
+    }
+
+    private void validateGameId(String gameId) {
+        if (gameId == null || gameId.isBlank() || gameId.length() > GAME_ID_MAX_LENGTH) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "잘못된 gameId 입니다.");
+        }
+    }
+
+    private record Friends(int[] ids, IntPredicate contains) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.clonenova.games.service;
+
+import com.ssafy.clonenova.games.dto.GameScoreRequestDTO;
+import com.ssafy.clonenova.games.dto.GameScoreResponseDTO;
+import com.ssafy.clonenova.games.dto.LeaderboardEntryDTO;
+
+import java.util.List;
+
+public interface LeaderboardService {
+
+    GameScoreResponseDTO submitScore(String gameId, GameScoreRequestDTO requestDTO);
+
+    List<LeaderboardEntryDTO> getTop(String gameId, Integer size);
+
+    List<LeaderboardEntryDTO> getAroundMe(String gameId, String userId, Integer radius);
+
+    List<LeaderboardEntryDTO> getFriendsTop(String gameId, String userId, Integer size);
+
+    List<LeaderboardEntryDTO> getFriendsAroundMe(String gameId, String userId, Integer radius);
+
+}
@@ -0,0 +1,45 @@
+-- binary-uuid 프로필 전용 : 사용자 id 컬럼 VARCHAR(36) → 시간순 BINARY(16) (UUID_TO_BIN(id, 1), MySQL 8.0+)
+-- 컬럼을 새로 만들어 채운 뒤 교체하고, 인덱스/제약은 같은 이름으로 다시 생성
+-- UUID 형식이 아닌 id 가 있으면 UUID_TO_BIN 이 실패해서 마이그레이션 전체가 멈춤 → 먼저 아래로 확인
+--   SELECT id FROM user WHERE IS_UUID(id) = 0;
+-- 대형 테이블은 ALTER 마다 테이블 복사가 일어나므로 점검 시간에 실행하거나 gh-ost / pt-osc 로 나눠서 적용
+
+-- user
+ALTER TABLE user ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE user SET id_bin = UUID_TO_BIN(id, 1);
+ALTER TABLE user DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE user CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+-- follows
+ALTER TABLE follows
+    ADD COLUMN from_user_bin BINARY(16) NULL,
+    ADD COLUMN to_user_bin   BINARY(16) NULL;
+UPDATE follows
+SET from_user_bin = UUID_TO_BIN(from_user_id, 1),
+    to_user_bin   = UUID_TO_BIN(to_user_id, 1);
+ALTER TABLE follows
+    DROP INDEX uk_follows_from_to,
+    DROP INDEX idx_follows_to_user_page,
+    DROP INDEX idx_follows_from_user_page,
+    DROP COLUMN from_user_id,
+    DROP COLUMN to_user_id;
+ALTER TABLE follows
+    CHANGE COLUMN from_user_bin from_user_id BINARY(16) NULL AFTER id,
+    CHANGE COLUMN to_user_bin to_user_id BINARY(16) NULL AFTER from_user_id,
+    ADD CONSTRAINT uk_follows_from_to UNIQUE (from_user_id, to_user_id),
+    ADD INDEX idx_follows_to_user_page (to_user_id, deleted_at, created_at, id),
+    ADD INDEX idx_follows_from_user_page (from_user_id, deleted_at, created_at, id);
+
+-- follow_stats
+ALTER TABLE follow_stats ADD COLUMN user_bin BINARY(16) NULL;
+UPDATE follow_stats SET user_bin = UUID_TO_BIN(user_id, 1);
+ALTER TABLE follow_stats DROP PRIMARY KEY, DROP COLUMN user_id;
+ALTER TABLE follow_stats CHANGE COLUMN user_bin user_id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (user_id);
+
+-- game_scores
+ALTER TABLE game_scores ADD COLUMN user_bin BINARY(16) NULL;
+UPDATE game_scores SET user_bin = UUID_TO_BIN(user_id, 1);
+ALTER TABLE game_scores DROP INDEX uk_game_scores_game_user, DROP COLUMN user_id;
+ALTER TABLE game_scores
+    CHANGE COLUMN user_bin user_id BINARY(16) NOT NULL AFTER game_id,
+    ADD CONSTRAINT uk_game_scores_game_user UNIQUE (game_id, user_id);
@@ -0,0 +1,16 @@
+-- binary-uuid 프로필 전용 : follows_history 사용자 id 컬럼 VARCHAR(36) → BINARY(16) (V6 이후 실행)
+-- follows 에서 INSERT ... SELECT 로 그대로 복사하므로 follows 와 컬럼 타입이 같아야 함
+ALTER TABLE follows_history
+    ADD COLUMN from_user_bin BINARY(16) NULL,
+    ADD COLUMN to_user_bin   BINARY(16) NULL;
+UPDATE follows_history
+SET from_user_bin = UUID_TO_BIN(from_user_id, 1),
+    to_user_bin   = UUID_TO_BIN(to_user_id, 1);
+ALTER TABLE follows_history
+    DROP INDEX idx_follows_history_pair,
+    DROP COLUMN from_user_id,
+    DROP COLUMN to_user_id;
+ALTER TABLE follows_history
+    CHANGE COLUMN from_user_bin from_user_id BINARY(16) NULL AFTER id,
+    CHANGE COLUMN to_user_bin to_user_id BINARY(16) NULL AFTER from_user_id,
+    ADD INDEX idx_follows_history_pair (from_user_id, to_user_id);
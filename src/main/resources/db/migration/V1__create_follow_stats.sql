@@ -0,0 +1,30 @@
+-- 팔로워/팔로잉 수 비정규화 테이블
+-- FollowCounter 가 인메모리 delta 를 배치로 누적 반영, FollowStatsReconciler 가 follows 기준으로 재계산
+CREATE TABLE IF NOT EXISTS follow_stats
+(
+    user_id         VARCHAR(36) NOT NULL,
+    follower_count  BIGINT      NOT NULL DEFAULT 0,
+    following_count BIGINT      NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id)
+);
+
+-- 기존 follows 로 채워 둠 (FollowCounter 의 delta upsert 는 행이 없으면 delta 를 그대로 넣으므로
+-- 행이 없는 사용자 = 활성 팔로우 0 에서 시작해야 맞음, 여기서 빠진 사용자는 팔로우가 한 건도 없는 사용자)
+-- follows 전체를 한 번 읽어 GROUP BY (점검 시간 또는 배포 직후 FollowStatsReconciler 재계산 전에 한 번)
+INSERT INTO follow_stats (user_id, follower_count, following_count, updated_at)
+SELECT c.user_id, SUM(c.follower_count), SUM(c.following_count), CURRENT_TIMESTAMP
+FROM (SELECT to_user_id AS user_id, COUNT(*) AS follower_count, 0 AS following_count
+      FROM follows
+      WHERE deleted_at IS NULL
+      GROUP BY to_user_id
+      UNION ALL
+      SELECT from_user_id AS user_id, 0 AS follower_count, COUNT(*) AS following_count
+      FROM follows
+      WHERE deleted_at IS NULL
+      GROUP BY from_user_id) c
+GROUP BY c.user_id
+ON DUPLICATE KEY UPDATE
+    follower_count  = VALUES(follower_count),
+    following_count = VALUES(following_count),
+    updated_at      = CURRENT_TIMESTAMP;
@@ -0,0 +1,5 @@
+-- 팔로워/팔로잉 목록 키셋 페이지용 복합 인덱스
+-- WHERE user_id = ? AND deleted_at IS NULL AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+-- 를 인덱스 역순 range scan 만으로 처리 (filesort 없음, 깊은 페이지도 첫 페이지와 동일 비용)
+CREATE INDEX idx_follows_to_user_page ON follows (to_user_id, deleted_at, created_at, id);
+CREATE INDEX idx_follows_from_user_page ON follows (from_user_id, deleted_at, created_at, id);
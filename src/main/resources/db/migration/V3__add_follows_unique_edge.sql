@@ -0,0 +1,14 @@
+-- (from_user_id, to_user_id) 한 쌍당 한 행만 허용 → 동시 팔로우가 중복 행을 만들지 못하게 하고
+-- INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 신규/복원/무변경을 처리 (FollowCustomRepositoryImpl.upsertFollow)
+
+-- 기존 중복 행 정리 : 활성 행 우선, 같은 상태끼리는 id 가 큰 행만 남김 (카운트는 FollowStatsReconciler 가 재계산)
+DELETE f
+FROM follows f
+         JOIN follows keep
+              ON keep.from_user_id = f.from_user_id
+                  AND keep.to_user_id = f.to_user_id
+                  AND keep.id <> f.id
+WHERE (keep.deleted_at IS NULL AND f.deleted_at IS NOT NULL)
+   OR ((keep.deleted_at IS NULL) = (f.deleted_at IS NULL) AND keep.id > f.id);
+
+ALTER TABLE follows ADD CONSTRAINT uk_follows_from_to UNIQUE (from_user_id, to_user_id);
@@ -0,0 +1,12 @@
+-- 게임별 회원 최고 점수 (GF01~GF03)
+-- 랭킹 조회는 인메모리 Leaderboard 가 처리하고, 이 테이블은 기동 시 워밍 + 영속화 용도
+CREATE TABLE IF NOT EXISTS game_scores
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    game_id    VARCHAR(50) NOT NULL,
+    user_id    VARCHAR(36) NOT NULL,
+    best_score BIGINT      NOT NULL,
+    updated_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_game_scores_game_user UNIQUE (game_id, user_id)
+);
@@ -0,0 +1,21 @@
+-- 보관 기간이 지난 취소 팔로우(tombstone) 보관 테이블
+-- FollowTombstoneCompactor 가 follows 에서 배치 단위로 옮김 → follows 와 인덱스는 활성 관계 + 보관 기간 내 취소 행만 유지
+-- deleted_at 월 단위 RANGE 파티션 : 처음엔 pmax 하나, 월별 파티션은 FollowHistoryPartitioner 가 pmax 를 나눠서 추가
+-- (파티션 키가 모든 unique 키에 포함돼야 해서 PK 가 (id, deleted_at))
+CREATE TABLE IF NOT EXISTS follows_history
+(
+    id           BIGINT      NOT NULL,
+    from_user_id VARCHAR(36) NULL,
+    to_user_id   VARCHAR(36) NULL,
+    created_at   DATETIME(6) NULL,
+    deleted_at   DATETIME(6) NOT NULL,
+    archived_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, deleted_at),
+    INDEX idx_follows_history_pair (from_user_id, to_user_id)
+)
+    PARTITION BY RANGE COLUMNS (deleted_at) (
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+        );
+
+-- 보관 대상(deleted_at < 기준 시각)만 찾는 인덱스
+CREATE INDEX idx_follows_deleted_at ON follows (deleted_at);
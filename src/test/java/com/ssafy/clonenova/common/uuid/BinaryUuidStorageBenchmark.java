@@ -0,0 +1,160 @@
+package com.ssafy.clonenova.common.uuid;
+
+import com.ssafy.clonenova.CloneNovaApplication;
+import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.repository.FollowRepository;
+import com.ssafy.clonenova.follows.repository.FollowUpsertResult;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 id VARCHAR(36) vs 시간순 BINARY(16) : follows 테이블+인덱스 크기, 목록 조회 지연 (gradle benchmark 로만 실행)
+ * - 같은 시드(시간순 v1 UUID)로 두 모드를 각각 파일 H2 에 적재해서 비교
+ * - -Dbench.uuid-users / -Dbench.uuid-followings / -Dbench.uuid-queries 로 규모 조절
+ */
+@Tag("benchmark")
+class BinaryUuidStorageBenchmark {
+
+    private static final Path DB_DIR = Path.of("build", "bench-uuid");
+    private static final int BATCH = 5000;
+    private static final int PAGE_SIZE = 20;
+
+    @Test
+    void comparesVarcharAndBinaryStorage() throws IOException {
+        int users = Integer.getInteger("bench.uuid-users", 50_000);
+        int followings = Integer.getInteger("bench.uuid-followings", 10);
+        int queries = Integer.getInteger("bench.uuid-queries", 5_000);
+        String[] userIds = timeOrderedUuids(users);
+
+        Result varchar = run("varchar", false, userIds, followings, queries);
+        Result binary = run("binary", true, userIds, followings, queries);
+
+        assertThat(binary.checksum).isEqualTo(varchar.checksum);
+        System.out.printf("follows %d rows : VARCHAR(36) %dKB / BINARY(16) %dKB (%.0f%%)%n",
+                (long) users * followings, varchar.bytes >> 10, binary.bytes >> 10, 100.0 * binary.bytes / varchar.bytes);
+        System.out.printf("list x%d : VARCHAR(36) p50=%dus p99=%dus / BINARY(16) p50=%dus p99=%dus%n",
+                queries, varchar.p50 / 1000, varchar.p99 / 1000, binary.p50 / 1000, binary.p99 / 1000);
+    }
+
+    private Result run(String name, boolean binary, String[] userIds, int followings, int queries) throws IOException {
+        deleteDatabase(name);
+        List<String> profiles = new ArrayList<>(List.of("bench"));
+        if (binary) {
+            profiles.add("binary-uuid");
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CloneNovaApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profiles.toArray(String[]::new))
+                .run("--spring.datasource.url=jdbc:h2:file:./" + DB_DIR.resolve(name)
+                        + ";MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            UserIdCodec codec = context.getBean(UserIdCodec.class);
+            FollowRepository followRepository = context.getBean(FollowRepository.class);
+            assertThat(codec.isBinary()).isEqualTo(binary);
+
+            seed(jdbcTemplate, codec, userIds, followings);
+            // JDBC upsert(UserIdCodec) 와 JPA 조회(컨버터)가 같은 값을 보는지 확인
+            assertThat(followRepository.upsertFollow(userIds[0], userIds[userIds.length / 2], LocalDateTime.now()).getStatus())
+                    .isEqualTo(FollowUpsertResult.Status.CREATED);
+            assertThat(followRepository.findEdges(userIds[0], List.of(userIds[userIds.length / 2]))).hasSize(1);
+            jdbcTemplate.execute("CHECKPOINT SYNC");
+            Long bytes = jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED('follows')", Long.class);
+
+            // 워밍업 후 같은 순서로 조회 (팔로워/팔로잉 첫 페이지 + 프로필 join)
+            Random random = new Random(42);
+            for (int i = 0; i < Math.min(queries, 1000); i++) {
+                followRepository.findFollowerList(userIds[random.nextInt(userIds.length)], null, null, PAGE_SIZE);
+            }
+            random = new Random(7);
+            long[] latencies = new long[queries];
+            long checksum = 0;
+            for (int i = 0; i < queries; i++) {
+                String userId = userIds[random.nextInt(userIds.length)];
+                long start = System.nanoTime();
+                List<FollowSearchListResponseDTO> page = (i & 1) == 0
+                        ? followRepository.findFollowerList(userId, null, null, PAGE_SIZE)
+                        : followRepository.findFollowingList(userId, null, null, PAGE_SIZE);
+                latencies[i] = System.nanoTime() - start;
+                checksum += page.size();
+            }
+            Arrays.sort(latencies);
+            return new Result(bytes == null ? 0 : bytes, latencies[queries / 2], latencies[queries * 99 / 100], checksum);
+        } finally {
+            deleteDatabase(name);
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate, UserIdCodec codec, String[] userIds, int followings) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<Object[]> users = new ArrayList<>(BATCH);
+        for (int i = 0; i < userIds.length; i++) {
+            users.add(new Object[]{codec.bind(userIds[i]), "u" + i + "@test.com", "닉네임" + i, Timestamp.valueOf(now)});
+            if (users.size() == BATCH || i == userIds.length - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO user (id, avatar_id, email, password, name, nickname, email_verified, created_at) "
+                        + "VALUES (?, 'avatar', ?, 'pw', 'name', ?, TRUE, ?)", users);
+                users.clear();
+            }
+        }
+
+        // 사용자 i 가 i+1, i+1+step, ... 을 팔로우 → 모든 사용자가 팔로워/팔로잉 followings 명씩
+        int step = Math.max(1, userIds.length / followings);
+        List<Object[]> follows = new ArrayList<>(BATCH);
+        for (int i = 0; i < userIds.length; i++) {
+            for (int k = 0; k < followings; k++) {
+                String target = userIds[(i + 1 + k * step) % userIds.length];
+                follows.add(new Object[]{codec.bind(userIds[i]), codec.bind(target), Timestamp.valueOf(now.minusSeconds(k))});
+                if (follows.size() == BATCH) {
+                    jdbcTemplate.batchUpdate("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES (?, ?, ?)", follows);
+                    follows.clear();
+                }
+            }
+        }
+        if (!follows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES (?, ?, ?)", follows);
+        }
+    }
+
+    /**
+     * 가입 순서대로 증가하는 v1 형태 UUID (시간 필드만 증가, node/clock 은 고정)
+     */
+    private static String[] timeOrderedUuids(int count) {
+        long base = 0x1F0_0000_0000_0000L;
+        long lsb = 0x8000_0000_0000_0000L | new Random(1).nextLong() >>> 2;
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            long time = base + i * 10_000L;
+            long msb = (time << 32) | ((time >>> 16) & 0xFFFF0000L) | 0x1000L | ((time >>> 48) & 0x0FFFL);
+            ids[i] = new UUID(msb, lsb).toString();
+        }
+        return ids;
+    }
+
+    private static void deleteDatabase(String name) throws IOException {
+        Files.createDirectories(DB_DIR);
+        try (var files = Files.list(DB_DIR)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().startsWith(name + ".")).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private record Result(long bytes, long p50, long p99, long checksum) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.clonenova.common.uuid;
+
+import com.ssafy.clonenova.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryUuidsTest {
+
+    @Test
+    void matchesMySqlUuidToBinWithSwap() {
+        // MySQL 문서 예시 : UUID_TO_BIN('6ccd780c-baba-1026-9564-5b8c656024db', 1)
+        byte[] bytes = BinaryUuids.toBytes("6ccd780c-baba-1026-9564-5b8c656024db");
+
+        assertThat(HexFormat.of().formatHex(bytes)).isEqualTo("1026baba6ccd780c95645b8c656024db");
+        assertThat(BinaryUuids.toUuid(bytes)).isEqualTo("6ccd780c-baba-1026-9564-5b8c656024db");
+    }
+
+    @Test
+    void roundTripsRandomUuids() {
+        for (int i = 0; i < 1000; i++) {
+            String uuid = UUID.randomUUID().toString();
+            assertThat(BinaryUuids.toUuid(BinaryUuids.toBytes(uuid))).isEqualTo(uuid);
+        }
+    }
+
+    @Test
+    void rejectsNonUuid() {
+        assertThatThrownBy(() -> BinaryUuids.toBytes("fan-1")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsNonUuidUserIdAsBadRequest() {
+        UserIdCodec codec = new UserIdCodec(true);
+
+        // 요청 값 검증 실패는 500 이 아니라 400
+        assertThatThrownBy(() -> codec.bind("fan-1"))
+                .isInstanceOfSatisfying(CustomException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> new BinaryUuidConverter().convertToDatabaseColumn("fan-1"))
+                .isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ssafy.clonenova.feed.activity;
+
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedStoreTest {
+
+    @Test
+    void mergesInboxWithFollowedFanInOutboxes() {
+        FeedStore store = store(3);
+        FeedActivity first = activity(store, "friend", true);
+        FeedActivity star1 = activity(store, "star", false);
+        FeedActivity second = activity(store, "friend", true);
+        FeedActivity star2 = activity(store, "star", false);
+
+        store.publish(star1);
+        store.publish(star2);
+        // 비동기 fan-out 이라 늦게 도착한 항목도 id 순서 자리에 들어가야 함
+        store.deliver(List.of("me"), second);
+        store.deliver(List.of("me"), first);
+
+        assertThat(store.fanInActorIds()).containsExactly("star");
+        List<FeedActivity> page = store.read("me", List.of("star"), null, 3);
+        assertThat(page).containsExactly(star2, second, star1);
+        assertThat(store.read("me", List.of("star"), page.get(2).getId(), 3)).containsExactly(first);
+
+        // fan-in 계정을 팔로우하지 않으면 inbox 만
+        assertThat(store.read("me", List.of(), null, 10)).containsExactly(second, first);
+    }
+
+    @Test
+    void dropsOldestWhenInboxIsFull() {
+        FeedStore store = store(2);
+        FeedActivity a = activity(store, "friend", true);
+        FeedActivity b = activity(store, "friend", true);
+        FeedActivity c = activity(store, "friend", true);
+        store.deliver(List.of("me"), a);
+        store.deliver(List.of("me"), c);
+        store.deliver(List.of("me"), b);
+
+        assertThat(store.read("me", List.of(), null, 10)).containsExactly(c, b);
+    }
+
+    private FeedStore store(int inboxSize) {
+        FeedStore store = new FeedStore(new UserIdInterner());
+        ReflectionTestUtils.setField(store, "inboxSize", inboxSize);
+        ReflectionTestUtils.setField(store, "outboxSize", 10);
+        return store;
+    }
+
+    private FeedActivity activity(FeedStore store, String actor, boolean fannedOut) {
+        return FeedActivity.builder()
+                .id(store.nextId())
+                .type(ActivityType.FOLLOW)
+                .actorUserId(actor)
+                .targetUserId("someone")
+                .createdAt(LocalDateTime.now())
+                .fannedOut(fannedOut)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ssafy.clonenova.follows.coalesce;
+
+import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowSearchListRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.service.FollowService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FollowListCoalescerTest {
+
+    private final FollowService followService = mock(FollowService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentIdenticalRequestsShareOneQuery() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(followService.getFollowList(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return page();
+        });
+        FollowListCoalescer coalescer = coalescer(1000);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<ScrollResponseDTO<FollowSearchListResponseDTO>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            // type 대소문자 / 빈 keyword / size 기본값이 달라도 같은 키
+            FollowSearchListRequestDTO request = i % 2 == 0
+                    ? new FollowSearchListRequestDTO("star", "follower", null, null, null, null)
+                    : new FollowSearchListRequestDTO("star", "FOLLOWER", " ", null, null, 10);
+            results.add(executor.submit(() -> coalescer.getFollowList(request, "v1")));
+        }
+        // 모두 진행 중 조회에 붙을 때까지 대기 후 해제
+        while (meterRegistry.get("follows.list.coalesce").tag("result", "joined").counter().count() < threads - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        ScrollResponseDTO<FollowSearchListResponseDTO> first = results.get(0).get();
+        for (Future<ScrollResponseDTO<FollowSearchListResponseDTO>> result : results) {
+            assertThat(result.get()).isSameAs(first);
+        }
+        verify(followService, times(1)).getFollowList(any());
+        executor.shutdown();
+    }
+
+    @Test
+    void hotKeyIsCachedUntilVersionChanges() throws Exception {
+        when(followService.getFollowList(any())).thenAnswer(invocation -> page());
+        FollowListCoalescer coalescer = coalescer(3);
+        FollowSearchListRequestDTO request = new FollowSearchListRequestDTO("star", "follower", null, null, null, 20);
+
+        for (int i = 0; i < 5; i++) {
+            coalescer.getFollowList(request, "v1");
+        }
+        // 세 번째 요청에서 인기 키로 승격 → 이후 캐시
+        verify(followService, times(3)).getFollowList(any());
+
+        // 팔로우 변경으로 버전이 바뀌면 캐시를 쓰지 않음
+        coalescer.getFollowList(request, "v2");
+        verify(followService, times(4)).getFollowList(any());
+
+        // 다른 키 (커서) 는 따로 집계
+        coalescer.getFollowList(new FollowSearchListRequestDTO("star", "follower", null, "next", null, 20), "v2");
+        verify(followService, times(5)).getFollowList(any());
+    }
+
+    private FollowListCoalescer coalescer(int hotThreshold) {
+        return new FollowListCoalescer(followService, meterRegistry, true, hotThreshold, 60_000, 60_000, 1000, 100, 3000);
+    }
+
+    private ScrollResponseDTO<FollowSearchListResponseDTO> page() {
+        return new ScrollResponseDTO<>(List.of(), null, null, false);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ssafy.clonenova.follows.compaction;
+
+import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowResponseDTO;
+import com.ssafy.clonenova.follows.entity.FollowHistory;
+import com.ssafy.clonenova.follows.repository.FollowHistoryRepository;
+import com.ssafy.clonenova.follows.repository.FollowRepository;
+import com.ssafy.clonenova.follows.service.FollowService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 취소 팔로우 정리 : 보관 기간 지난 행만 이동 / 보관 기간 안은 같은 id 로 복원 / 보관된 쌍은 새 행으로 팔로우
+ */
+@ActiveProfiles("bench")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:compaction;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "follows.compaction.batch-size=2",
+        "follows.compaction.batch-pause-ms=0"
+})
+class FollowTombstoneCompactorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private FollowTombstoneCompactor compactor;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private FollowHistoryRepository followHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archivesOnlyExpiredTombstones() throws Exception {
+        long active = insert("a", "b", null);
+        long expired1 = insert("a", "c", NOW.minusDays(60));
+        long recent = insert("a", "d", NOW.minusDays(1));
+        long expired2 = insert("e", "f", NOW.minusDays(90));
+        long expired3 = insert("e", "g", NOW.minusDays(45));
+
+        long archived = compactor.compactBefore(NOW.minusDays(30));
+
+        assertThat(archived).isEqualTo(3);
+        assertThat(followRepository.findAll()).extracting(follow -> follow.getId()).containsExactlyInAnyOrder(active, recent);
+        List<FollowHistory> history = followHistoryRepository.findAll();
+        assertThat(history).extracting(FollowHistory::getId).containsExactlyInAnyOrder(expired1, expired2, expired3);
+        FollowHistory moved = followHistoryRepository.findById(expired1).orElseThrow();
+        assertThat(moved.getFromUserId()).isEqualTo("a");
+        assertThat(moved.getToUserId()).isEqualTo("c");
+        assertThat(moved.getDeletedAt()).isEqualTo(NOW.minusDays(60));
+
+        // 보관 기간 안의 취소 행은 같은 id 로 복원
+        FollowResponseDTO restored = followService.follow(new FollowRequestDTO("a", "d"));
+        assertThat(restored.isChanged()).isTrue();
+        assertThat(restored.getFollowId()).isEqualTo(recent);
+
+        // 보관된 쌍은 새 행으로 팔로우
+        FollowResponseDTO refollowed = followService.follow(new FollowRequestDTO("a", "c"));
+        assertThat(refollowed.isChanged()).isTrue();
+        assertThat(refollowed.getFollowId()).isNotEqualTo(expired1);
+        assertThat(followRepository.findEdges("a", List.of("c"))).singleElement()
+                .satisfies(edge -> assertThat(edge.getDeletedAt()).isNull());
+    }
+
+    @Test
+    void reportsEdgesArchivedBeforeBulkRestore() {
+        long tombstone = insert("x", "y", NOW.minusDays(100));
+        compactor.compactBefore(NOW.minusDays(30));
+
+        // 일괄 팔로우가 취소 행을 조회한 뒤 정리 작업이 먼저 옮긴 경우 → 복원 실패로 알려줘서 새로 생성하게 함
+        assertThat(followRepository.restoreAll(List.of(tombstone), NOW)).containsExactly(tombstone);
+    }
+
+    private long insert(String from, String to, LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO follows (from_user_id, to_user_id, created_at, deleted_at) VALUES (?, ?, ?, ?)",
+                from, to, Timestamp.valueOf(NOW.minusDays(200)), deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+        return jdbcTemplate.queryForObject("SELECT id FROM follows WHERE from_user_id = ? AND to_user_id = ?", Long.class, from, to);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ssafy.clonenova.follows.concurrency;
+
+import com.ssafy.clonenova.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * permit 은 요청이 아니라 실제 커넥션을 쥔 구간에만 점유되는지
+ */
+class DbConcurrencyLimitedDataSourceTest {
+
+    private final DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(1, 50);
+    private final DataSource dataSource = new LazyConnectionDataSourceProxy(new DbConcurrencyLimitedDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:db-limiter;DB_CLOSE_DELAY=-1"), limiter));
+
+    @Test
+    void holdsPermitOnlyWhileConnectionIsUsed() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            // SQL 을 실행하기 전까지는 커넥션도 permit 도 잡지 않음 (그래프/캐시로 끝나는 요청)
+            connection.setReadOnly(true);
+            assertThat(limiter.available()).isEqualTo(1);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT 1");
+            }
+            assertThat(limiter.available()).isZero();
+        }
+        assertThat(limiter.available()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenAllPermitsAreHeld() throws Exception {
+        try (Connection held = dataSource.getConnection(); Statement statement = held.createStatement()) {
+            statement.execute("SELECT 1");
+
+            try (Connection waiting = dataSource.getConnection()) {
+                assertThatThrownBy(waiting::createStatement)
+                        .isInstanceOfSatisfying(CustomException.class,
+                                e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            }
+        }
+        assertThat(limiter.available()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.clonenova.follows.concurrency;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 느린 DB 흉내 : Hibernate 가 SQL 을 준비할 때마다 지연 (트랜잭션 커넥션을 쥔 상태)
+ * 지연 시간은 -Dbench.db-delay-ms (기본 100ms)
+ */
+public class SlowStatementInspector implements StatementInspector {
+
+    static final long DELAY_MS = Long.getLong("bench.db-delay-ms", 100);
+
+    @Override
+    public String inspect(String sql) {
+        try {
+            Thread.sleep(DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return sql;
+    }
+}
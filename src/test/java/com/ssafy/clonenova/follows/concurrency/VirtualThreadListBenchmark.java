@@ -0,0 +1,228 @@
+package com.ssafy.clonenova.follows.concurrency;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로워 목록 API : 플랫폼 스레드 vs 가상 스레드 처리량 비교 (gradle benchmark 로만 실행)
+ * - 모든 SQL 에 지연을 넣어 느린 DB 를 흉내 (SlowStatementInspector)
+ * - 동시 클라이언트 수 >> Tomcat 스레드 수 인 closed-loop 부하
+ * - 플랫폼 : Tomcat 스레드 수가 상한 / 가상 : DB 동시 실행 제한(= 커넥션 풀 크기)이 상한
+ * - 처리량 비교가 목적이라 permit 대기 시간을 길게 둠 (운영 기본값 1초면 과부하 구간은 503 으로 빠짐)
+ * 조정 : -Dbench.concurrency=500 -Dbench.duration-seconds=10 -Dbench.db-delay-ms=100
+ *       -Dbench.tomcat-threads=20 -Dbench.pool-size=100
+ * CPU 가 먼저 포화되면 두 모드 차이가 드러나지 않으므로 코어 수가 적으면 concurrency 를 낮출 것
+ */
+@Tag("benchmark")
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+class VirtualThreadListBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 500);
+    private static final int DURATION_SECONDS = Integer.getInteger("bench.duration-seconds", 10);
+    private static final int FOLLOWERS = 2000;
+    private static final String STAR = "star";
+
+    private static final Map<String, String> RESULTS = new LinkedHashMap<>();
+
+    @TestConfiguration
+    @EnableWebSecurity
+    static class BenchmarkSecurityConfig {
+
+        // 인증/CSRF 는 측정 대상이 아니므로 전부 허용
+        @Bean
+        SecurityFilterChain benchmarkSecurity(HttpSecurity http) throws Exception {
+            return http.csrf(csrf -> csrf.disable())
+                    .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                    .build();
+        }
+    }
+
+    @Nested
+    @Order(1)
+    @ActiveProfiles("bench")
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+    @Import(BenchmarkSecurityConfig.class)
+    @TestPropertySource(properties = {
+            "spring.threads.virtual.enabled=false",
+            "spring.datasource.url=jdbc:h2:mem:platform;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "server.tomcat.threads.max=${bench.tomcat-threads:20}",
+            "spring.datasource.hikari.maximum-pool-size=${bench.pool-size:100}",
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.ssafy.clonenova.follows.concurrency.SlowStatementInspector"
+    })
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @BeforeEach
+        void seed() {
+            seedFollowers(jdbcTemplate);
+        }
+
+        @Test
+        void followerList() throws Exception {
+            RESULTS.put("platform", drive(port));
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @ActiveProfiles("bench")
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+    @Import(BenchmarkSecurityConfig.class)
+    @TestPropertySource(properties = {
+            "spring.threads.virtual.enabled=true",
+            "follows.db-limiter.enabled=true",
+            "follows.db-limiter.acquire-timeout-ms=${bench.acquire-timeout-ms:30000}",
+            "spring.datasource.url=jdbc:h2:mem:virtual;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "spring.datasource.hikari.maximum-pool-size=${bench.pool-size:100}",
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.ssafy.clonenova.follows.concurrency.SlowStatementInspector"
+    })
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private DbConcurrencyLimiter limiter;
+
+        @BeforeEach
+        void seed() {
+            seedFollowers(jdbcTemplate);
+        }
+
+        @Test
+        void followerList() throws Exception {
+            assertThat(limiter.permits()).isPositive();
+            RESULTS.put("virtual", drive(port));
+        }
+    }
+
+    @AfterAll
+    static void report() {
+        System.out.printf("follower list x%d clients, db delay %dms, %ds%n",
+                CONCURRENCY, SlowStatementInspector.DELAY_MS, DURATION_SECONDS);
+        RESULTS.forEach((mode, result) -> System.out.printf("  %-8s : %s%n", mode, result));
+    }
+
+    private static void seedFollowers(JdbcTemplate jdbcTemplate) {
+        Integer seeded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM follows", Integer.class);
+        if (seeded != null && seeded > 0) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2025, 10, 1, 0, 0));
+        List<String> userIds = new ArrayList<>(IntStream.range(0, FOLLOWERS).mapToObj(i -> "user-" + i).toList());
+        userIds.add(STAR);
+        jdbcTemplate.batchUpdate("INSERT INTO user (id, avatar_id, email, password, name, nickname, email_verified, created_at)"
+                + " VALUES (?, 'avatar', ?, 'pw', 'name', ?, TRUE, ?)", userIds, 1000, (ps, userId) -> {
+            ps.setString(1, userId);
+            ps.setString(2, userId + "@bench.io");
+            ps.setString(3, "nick-" + userId);
+            ps.setTimestamp(4, createdAt);
+        });
+        jdbcTemplate.batchUpdate("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES (?, ?, ?)",
+                userIds.subList(0, FOLLOWERS), 1000, (ps, userId) -> {
+                    ps.setString(1, userId);
+                    ps.setString(2, STAR);
+                    ps.setTimestamp(3, createdAt);
+                });
+    }
+
+    // 클라이언트 CONCURRENCY 개가 응답을 받는 즉시 다음 요청 (클라이언트 쪽은 가상 스레드)
+    private static String drive(int port) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/follows?type=follower&size=20&userId=" + STAR))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        AtomicLong ok = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long[][] latencies = new long[CONCURRENCY][];
+        long deadline = System.nanoTime() + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CONCURRENCY; c++) {
+                int slot = c;
+                clients.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 200) {
+                                ok.incrementAndGet();
+                            } else if (status == 503) {
+                                rejected.incrementAndGet();
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count << 1);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    latencies[slot] = Arrays.copyOf(samples, count);
+                });
+            }
+        }
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double p50 = all.length == 0 ? 0 : all[(int) (all.length * 0.50)] / 1e6;
+        double p99 = all.length == 0 ? 0 : all[Math.min(all.length - 1, (int) (all.length * 0.99))] / 1e6;
+        return String.format("%.1f rps (ok=%d, 503=%d, error=%d), p50=%.1fms, p99=%.1fms",
+                (double) ok.get() / DURATION_SECONDS, ok.get(), rejected.get(), failed.get(), p50, p99);
+    }
+}
@@ -0,0 +1,99 @@
+package com.ssafy.clonenova.follows.consistency;
+
+import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowSearchListRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import com.ssafy.clonenova.follows.service.FollowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary / replica 두 H2 로 라우팅 확인
+ * replica 에는 복제가 없으므로 "replica 에만 있는 행"이 보이면 replica 에서 읽은 것
+ */
+@ActiveProfiles("routing")
+@SpringBootTest
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private FollowService followService;
+
+    // 라우팅 DataSource 를 거치지만 트랜잭션 밖(readOnly 아님)이라 primary
+    @Autowired
+    private JdbcTemplate primary;
+
+    @Value("${follows.datasource.replica-urls}")
+    private String replicaUrl;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        replica = new JdbcTemplate(new DriverManagerDataSource(replicaUrl, "sa", ""));
+        // primary 스키마를 replica 에 복사
+        Path script = Files.createTempFile("schema", ".sql");
+        primary.execute("SCRIPT NODATA TO '" + script + "'");
+        replica.execute("DROP ALL OBJECTS");
+        replica.execute("RUNSCRIPT FROM '" + script + "'");
+        Files.delete(script);
+
+        primary.update("DELETE FROM follows");
+        primary.update("DELETE FROM user");
+        for (String userId : List.of("a", "b", "c")) {
+            insertUser(primary, userId);
+            insertUser(replica, userId);
+        }
+    }
+
+    @Test
+    void readOnlyQueriesGoToReplica() throws Exception {
+        replica.update("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES ('a', 'b', ?)",
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        assertThat(following("a")).extracting(FollowSearchListResponseDTO::getUserId).containsExactly("b");
+    }
+
+    @Test
+    void writerReadsOwnWritesFromPrimary() throws Exception {
+        followService.follow(new FollowRequestDTO("c", "b"));
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM follows WHERE from_user_id = 'c'", Integer.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM follows WHERE from_user_id = 'c'", Integer.class)).isZero();
+
+        // 목록이 바뀐 양쪽 사용자는 primary 에서 조회
+        assertThat(following("c")).extracting(FollowSearchListResponseDTO::getUserId).containsExactly("b");
+        assertThat(followers("b")).extracting(FollowSearchListResponseDTO::getUserId).containsExactly("c");
+        // 관계없는 사용자는 그대로 replica (replica 에만 있는 행이 보임)
+        replica.update("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES ('a', 'b', ?)",
+                Timestamp.valueOf(LocalDateTime.now()));
+        assertThat(following("a")).extracting(FollowSearchListResponseDTO::getUserId).containsExactly("b");
+    }
+
+    private List<FollowSearchListResponseDTO> following(String userId) throws Exception {
+        return followService.getFollowList(new FollowSearchListRequestDTO(userId, "following", null, null, null, 10)).getContent();
+    }
+
+    private List<FollowSearchListResponseDTO> followers(String userId) throws Exception {
+        return followService.getFollowList(new FollowSearchListRequestDTO(userId, "follower", null, null, null, 10)).getContent();
+    }
+
+    private void insertUser(JdbcTemplate jdbcTemplate, String userId) {
+        jdbcTemplate.update("INSERT INTO user (id, avatar_id, email, password, name, nickname, email_verified, created_at)"
+                + " VALUES (?, 'avatar', ?, 'pw', 'name', ?, TRUE, ?)", userId, userId + "@test.io", "nick-" + userId,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.ssafy.clonenova.follows.controller;
+
+import com.ssafy.clonenova.common.ScrollResponseDTO;
+import com.ssafy.clonenova.follows.coalesce.FollowListCoalescer;
+import com.ssafy.clonenova.follows.consistency.GraphVersions;
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import com.ssafy.clonenova.follows.service.FollowService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FollowListEtagTest {
+
+    private final FollowService followService = mock(FollowService.class);
+    private final GraphVersions graphVersions = new GraphVersions(new UserIdInterner());
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(followService.getFollowList(any())).thenReturn(new ScrollResponseDTO<>(List.of(), null, null, false));
+        mockMvc = MockMvcBuilders.standaloneSetup(new FollowController(followService, graphVersions,
+                new FollowListCoalescer(followService, new SimpleMeterRegistry(), true, 50, 1000, 1000, 1000, 100, 3000))).build();
+    }
+
+    @Test
+    void answersNotModifiedWithoutQueryUntilGraphChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/follows").param("userId", "star").param("type", "follower"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/follows").param("userId", "star").param("type", "follower")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(followService, times(1)).getFollowList(any());
+
+        graphVersions.onFollowChanged(FollowChangedEvent.builder()
+                .type(FollowChangeType.FOLLOW).followId(1L).fromUserId("fan").toUserId("star").build());
+
+        mockMvc.perform(get("/api/v1/follows").param("userId", "star").param("type", "follower")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        verify(followService, times(2)).getFollowList(any());
+    }
+}
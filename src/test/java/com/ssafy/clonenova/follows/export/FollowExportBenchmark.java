@@ -0,0 +1,106 @@
+package com.ssafy.clonenova.follows.export;
+
+import com.ssafy.clonenova.follows.service.FollowService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로워 전체 내보내기 처리량 + 내보내는 동안 최대 힙 사용량 (gradle benchmark 로만 실행)
+ * -Dbench.export-rows 로 팔로워 수 조절
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest
+class FollowExportBenchmark {
+
+    private static final String STAR = "export-star";
+    private static final int BATCH = 5000;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void streamsFollowersWithFlatHeap() throws Exception {
+        int rows = Integer.getInteger("bench.export-rows", 300_000);
+        seed(rows);
+
+        for (ExportFormat format : ExportFormat.values()) {
+            System.gc();
+            Runtime runtime = Runtime.getRuntime();
+            long baseline = runtime.totalMemory() - runtime.freeMemory();
+            AtomicLong peak = new AtomicLong(baseline);
+            Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+
+            CountingOutputStream out = new CountingOutputStream();
+            long start = System.nanoTime();
+            long exported = followService.exportFollowList(STAR, "follower", format, out);
+            long elapsed = System.nanoTime() - start;
+            sampler.interrupt();
+            sampler.join();
+
+            assertThat(exported).isEqualTo(rows);
+            System.out.printf("export %s x%d : %dms (%.0f rows/s), %d bytes, heap baseline=%dMB peak=%dMB%n",
+                    format, rows, elapsed / 1_000_000, rows / (elapsed / 1e9), out.bytes,
+                    baseline >> 20, peak.get() >> 20);
+        }
+    }
+
+    private void seed(int rows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> users = new ArrayList<>(BATCH);
+        List<Object[]> follows = new ArrayList<>(BATCH);
+        jdbcTemplate.update("INSERT INTO user (id, avatar_id, email, password, name, nickname, email_verified, created_at) "
+                + "VALUES (?, 'avatar', ?, 'pw', 'name', ?, TRUE, ?)", STAR, STAR + "@test.com", STAR, Timestamp.valueOf(now));
+        for (int i = 0; i < rows; i++) {
+            String userId = "fan-" + i;
+            users.add(new Object[]{userId, userId + "@test.com", "팬,\"" + i + "\"", Timestamp.valueOf(now)});
+            follows.add(new Object[]{userId, STAR, Timestamp.valueOf(now.minusSeconds(i))});
+            if (users.size() == BATCH || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO user (id, avatar_id, email, password, name, nickname, email_verified, created_at) "
+                        + "VALUES (?, 'avatar', ?, 'pw', 'name', ?, TRUE, ?)", users);
+                jdbcTemplate.batchUpdate("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES (?, ?, ?)", follows);
+                users.clear();
+                follows.clear();
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ssafy.clonenova.follows.graph;
+
+import com.ssafy.clonenova.common.ScrollCursor;
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowGraphTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    @Test
+    void pagesFollowersNewestFirst() {
+        FollowGraph graph = new FollowGraph(new UserIdInterner());
+        graph.beginLoad();
+        graph.load("a", "star", 1L, BASE.plusMinutes(1));
+        graph.load("b", "star", 2L, BASE.plusMinutes(3));
+        graph.load("c", "star", 3L, BASE.plusMinutes(2));
+        graph.load("star", "b", 4L, BASE.plusMinutes(4));
+        graph.finishLoad();
+
+        List<FollowEdge> first = graph.findFollowers("star", null, 2);
+        assertThat(first).extracting(FollowEdge::getUserId).containsExactly("b", "c");
+
+        List<FollowEdge> second = graph.findFollowers("star", new ScrollCursor(first.get(1).getCreatedAt(), first.get(1).getFollowId()), 2);
+        assertThat(second).extracting(FollowEdge::getUserId).containsExactly("a");
+
+        assertThat(graph.isFollowing("star", "b")).isTrue();
+        assertThat(graph.isFollowing("star", "a")).isFalse();
+    }
+
+    @Test
+    void appliesChangesCommittedDuringWarmUp() {
+        FollowGraph graph = new FollowGraph(new UserIdInterner());
+        graph.beginLoad();
+        graph.load("a", "star", 1L, BASE);
+        graph.apply(event(FollowChangeType.UNFOLLOW, null, "a", "star", null));
+        graph.apply(event(FollowChangeType.FOLLOW, 2L, "b", "star", BASE.plusMinutes(1)));
+        graph.finishLoad();
+
+        assertThat(graph.findFollowers("star", null, 10)).extracting(FollowEdge::getUserId).containsExactly("b");
+        assertThat(graph.followerCount("star")).isEqualTo(1);
+    }
+
+    @Test
+    void restoreMovesEdgeToFront() {
+        FollowGraph graph = new FollowGraph(new UserIdInterner());
+        graph.beginLoad();
+        graph.finishLoad();
+        graph.apply(event(FollowChangeType.FOLLOW, 1L, "a", "star", BASE));
+        graph.apply(event(FollowChangeType.FOLLOW, 2L, "b", "star", BASE.plusMinutes(1)));
+        graph.apply(event(FollowChangeType.UNFOLLOW, null, "a", "star", null));
+        graph.apply(event(FollowChangeType.RESTORE, 1L, "a", "star", BASE.plusMinutes(2)));
+
+        assertThat(graph.findFollowers("star", null, 10)).extracting(FollowEdge::getUserId).containsExactly("a", "b");
+        assertThat(graph.followingCount("a")).isEqualTo(1);
+    }
+
+    private FollowChangedEvent event(FollowChangeType type, Long followId, String from, String to, LocalDateTime createdAt) {
+        return FollowChangedEvent.builder()
+                .type(type)
+                .followId(followId)
+                .fromUserId(from)
+                .toUserId(to)
+                .createdAt(createdAt)
+                .build();
+    }
+}
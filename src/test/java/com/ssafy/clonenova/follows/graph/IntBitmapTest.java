@@ -0,0 +1,35 @@
+package com.ssafy.clonenova.follows.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntBitmapTest {
+
+    @Test
+    void matchesBitSetAcrossContainerConversions() {
+        IntBitmap bitmap = new IntBitmap();
+        BitSet expected = new BitSet();
+        Random random = new Random(42);
+
+        // 한 컨테이너(하위 16bit)에 몰아서 배열 <-> 비트맵 전환이 일어나도록 함
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(3) == 0 ? random.nextInt(1 << 20) : (5 << 16) + random.nextInt(8000);
+            if (random.nextInt(4) == 0) {
+                assertThat(bitmap.remove(value)).isEqualTo(expected.get(value));
+                expected.clear(value);
+            } else {
+                assertThat(bitmap.add(value)).isEqualTo(!expected.get(value));
+                expected.set(value);
+            }
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.cardinality());
+        for (int value = 0; value < 1 << 20; value++) {
+            assertThat(bitmap.contains(value)).isEqualTo(expected.get(value));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.ssafy.clonenova.follows.journal;
+
+import com.ssafy.clonenova.exception.CustomException;
+import com.ssafy.clonenova.follows.dto.FollowBulkRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import com.ssafy.clonenova.follows.service.FollowService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * write-behind 모드 : 단건/일괄 요청이 모두 로그를 거쳐 요청 순서대로 반영되는지
+ * + 반영 전후 모두 이미 팔로우 중이면 changed=false, created_at 은 요청 시각
+ * + 반영할 수 없는 레코드는 재시도 후 dead-letter 로 빠지고 뒤 레코드는 계속 반영
+ */
+@ActiveProfiles("bench")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:journal-apply;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "follows.journal.enabled=true",
+        // 반영은 테스트에서 직접 호출
+        "follows.journal.apply-interval-ms=3600000",
+        "follows.journal.apply-max-attempts=2"
+})
+class FollowJournalApplyTest {
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private FollowJournalApplier applier;
+
+    @Autowired
+    private FollowJournal journal;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void journalDir(DynamicPropertyRegistry registry) throws IOException {
+        String dir = Files.createTempDirectory("follow-journal").toString();
+        registry.add("follows.journal.dir", () -> dir);
+    }
+
+    @Test
+    void bulkUnfollowAfterJournaledFollowWins() throws Exception {
+        followService.follow(new FollowRequestDTO("a", "b"));
+        followService.unfollowAll(new FollowBulkRequestDTO("a", List.of("b", "c")));
+        applier.apply();
+
+        assertThat(activeRows("a", "b")).isZero();
+
+        followService.followAll(new FollowBulkRequestDTO("a", List.of("b", "c")));
+        followService.unfollow(new FollowRequestDTO("a", "c"));
+        applier.apply();
+
+        assertThat(activeRows("a", "b")).isEqualTo(1);
+        assertThat(activeRows("a", "c")).isZero();
+    }
+
+    @Test
+    void reportsUnchangedForPendingAndAppliedFollow() throws Exception {
+        assertThat(followService.follow(new FollowRequestDTO("x", "y")).isChanged()).isTrue();
+        // 아직 반영 전 (로그에 팔로우가 남아 있음)
+        assertThat(followService.follow(new FollowRequestDTO("x", "y")).isChanged()).isFalse();
+        applier.apply();
+        // 반영 후 (DB 기준)
+        assertThat(followService.follow(new FollowRequestDTO("x", "y")).isChanged()).isFalse();
+        applier.apply();
+
+        assertThat(followService.followAll(new FollowBulkRequestDTO("x", List.of("y", "z"))).getChanged()).isEqualTo(1);
+        followService.unfollow(new FollowRequestDTO("x", "y"));
+        assertThat(followService.follow(new FollowRequestDTO("x", "y")).isChanged()).isTrue();
+    }
+
+    @Test
+    void keepsRequestTimeAsCreatedAt() throws Exception {
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        followService.follow(new FollowRequestDTO("p", "q"));
+        LocalDateTime after = LocalDateTime.now();
+        // 반영이 초 단위로 늦어져도 created_at 은 요청 시각
+        Thread.sleep(1500);
+        applier.apply();
+
+        LocalDateTime createdAt = jdbcTemplate.queryForObject(
+                "SELECT created_at FROM follows WHERE from_user_id = 'p' AND to_user_id = 'q'", LocalDateTime.class);
+        assertThat(createdAt).isBetween(before, after);
+    }
+
+    @Test
+    void rejectsInvalidUserIdBeforeJournaling() {
+        // VARCHAR(36) 을 넘는 id 는 로그에 남기기 전에 400
+        assertThatThrownBy(() -> followService.follow(new FollowRequestDTO("v", "x".repeat(37))))
+                .isInstanceOfSatisfying(CustomException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> followService.followAll(new FollowBulkRequestDTO("v", List.of("w", "x".repeat(37)))))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void movesPoisonRecordToDeadLetterAndKeepsApplying() throws Exception {
+        // 검증 이전에 기록된 레코드처럼 DB 가 거절하는 값 (직접 기록)
+        String tooLong = "y".repeat(40);
+        journal.append(FollowChangeType.FOLLOW, "m", tooLong);
+        followService.follow(new FollowRequestDTO("m", "n"));
+
+        // 1회차 : 쌍 단위로 나눠 n 은 반영, 불량 레코드는 재시도 대기
+        applier.apply();
+        assertThat(activeRows("m", "n")).isEqualTo(1);
+        // 2회차 : 최대 시도 횟수 도달 → dead-letter 로 옮기고 체크포인트 진행
+        applier.apply();
+        followService.follow(new FollowRequestDTO("m", "o"));
+        applier.apply();
+
+        assertThat(activeRows("m", "o")).isEqualTo(1);
+        assertThat(journal.appliedSeq()).isEqualTo(journal.durableSeq());
+        assertThat(Files.readAllLines(journal.deadLetterPath())).anyMatch(line -> line.contains(tooLong));
+        assertThat(meterRegistry.counter("follows.journal.dead.letter", "type", "FOLLOW").count()).isEqualTo(1);
+    }
+
+    private int activeRows(String from, String to) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM follows WHERE from_user_id = ? AND to_user_id = ? AND deleted_at IS NULL",
+                Integer.class, from, to);
+    }
+}
@@ -0,0 +1,98 @@
+package com.ssafy.clonenova.follows.journal;
+
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class FollowJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void concurrentAppendsGetDistinctOrderedSeqs() throws Exception {
+        try (FollowJournal journal = FollowJournal.open(dir, 1 << 20, 64, 1)) {
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            List<Future<Long>> seqs = IntStream.range(0, 200)
+                    .mapToObj(i -> pool.submit(() -> journal.append(FollowChangeType.FOLLOW, "u" + i, "star")))
+                    .toList();
+            for (Future<Long> seq : seqs) {
+                seq.get();
+            }
+            pool.shutdown();
+
+            assertThat(journal.durableSeq()).isEqualTo(200);
+            List<JournalRecord> records = journal.openReader(0).next(1000);
+            assertThat(records).extracting(JournalRecord::getSeq)
+                    .containsExactlyElementsOf(IntStream.rangeClosed(1, 200).mapToObj(Long::valueOf).toList());
+        }
+    }
+
+    @Test
+    void recoversAfterTornTailAndResumesFromCheckpoint() throws Exception {
+        try (FollowJournal journal = FollowJournal.open(dir, 1 << 20, 16, 0)) {
+            journal.append(FollowChangeType.FOLLOW, "a", "star");
+            journal.append(FollowChangeType.UNFOLLOW, "a", "star");
+            journal.append(FollowChangeType.FOLLOW, "b", "star");
+            journal.checkpoint(1);
+        }
+        // 쓰다 만 레코드 흉내
+        Path segment = segments().get(0);
+        try (FileChannel out = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            out.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2, 3}));
+        }
+
+        try (FollowJournal journal = FollowJournal.open(dir, 1 << 20, 16, 0)) {
+            assertThat(journal.appliedSeq()).isEqualTo(1);
+            assertThat(journal.append(FollowChangeType.FOLLOW, "c", "star")).isEqualTo(4);
+
+            List<JournalRecord> replay = journal.openReader(journal.appliedSeq()).next(10);
+            assertThat(replay).extracting(JournalRecord::getType, JournalRecord::getFromUserId)
+                    .containsExactly(
+                            tuple(FollowChangeType.UNFOLLOW, "a"),
+                            tuple(FollowChangeType.FOLLOW, "b"),
+                            tuple(FollowChangeType.FOLLOW, "c"));
+        }
+    }
+
+    @Test
+    void readsAcrossSegmentsAndDropsAppliedOnes() throws Exception {
+        try (FollowJournal journal = FollowJournal.open(dir, 64, 1, 0)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(FollowChangeType.FOLLOW, "u" + i, "star");
+            }
+            assertThat(segments()).hasSizeGreaterThan(1);
+
+            FollowJournal.Reader reader = journal.openReader(0);
+            assertThat(reader.next(3)).extracting(JournalRecord::getSeq).containsExactly(1L, 2L, 3L);
+            journal.checkpoint(3);
+            assertThat(reader.next(10)).extracting(JournalRecord::getSeq).containsExactly(4L, 5L);
+            assertThat(reader.next(10)).isEmpty();
+            reader.close();
+
+            journal.checkpoint(5);
+            assertThat(segments()).hasSize(1);
+        }
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.toString().endsWith(".log")).sorted().toList();
+        }
+    }
+}
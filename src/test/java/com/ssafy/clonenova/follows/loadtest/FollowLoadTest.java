@@ -0,0 +1,256 @@
+package com.ssafy.clonenova.follows.loadtest;
+
+import com.ssafy.clonenova.follows.graph.FollowGraph;
+import com.ssafy.clonenova.follows.loadtest.LoadTestSettings.Endpoint;
+import com.ssafy.clonenova.follows.loadtest.LoadTestSettings.Slo;
+import com.ssafy.clonenova.follows.search.NicknameIndex;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 팔로우 API 부하 테스트 (gradle loadTest 로만 실행)
+ * - 기동 직후(그래프 워밍 전) 멱법칙 그래프를 시드 → 운영과 같은 워밍 경로를 거친 뒤 측정
+ * - 고정 rps 개방형(open-loop) 부하 : 지연시간은 "보냈어야 할 시각" 기준 → 서버가 밀려도 대기시간이 숨지 않음
+ * - 엔드포인트별 p50 / p99 / p999 / 처리량 출력 + build/reports/loadtest/summary.txt, SLO 위반 시 실패
+ * - 종료 시 /actuator/prometheus 스냅샷을 build/reports/loadtest/prometheus.txt 로 저장
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class FollowLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowLoadTest.class);
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    private static final long WARM_UP_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private FollowGraph followGraph;
+
+    @Autowired
+    private NicknameIndex nicknameIndex;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // 부하 중 팔로우에 성공한 쌍 → 언팔 대상
+    private final ConcurrentLinkedQueue<String[]> followed = new ConcurrentLinkedQueue<>();
+
+    @TestConfiguration
+    @EnableWebSecurity
+    static class LoadTestConfig {
+
+        // 인증/CSRF 는 측정 대상이 아니므로 전부 허용
+        @Bean
+        SecurityFilterChain loadTestSecurity(HttpSecurity http) throws Exception {
+            return http.csrf(csrf -> csrf.disable())
+                    .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                    .build();
+        }
+
+        // 그래프/닉네임 색인 워밍 리스너보다 먼저 실행
+        @Bean
+        GraphSeedListener graphSeedListener(JdbcTemplate jdbcTemplate) {
+            return new GraphSeedListener(jdbcTemplate);
+        }
+    }
+
+    static class GraphSeedListener {
+        private final JdbcTemplate jdbcTemplate;
+
+        GraphSeedListener(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        @EventListener(ApplicationReadyEvent.class)
+        public void seed() {
+            long start = System.currentTimeMillis();
+            long edges = new PowerLawGraphSeeder(jdbcTemplate, SETTINGS).seed();
+            log.info("load test graph seeded : users={}, edges={}, {}ms", SETTINGS.users(), edges, System.currentTimeMillis() - start);
+        }
+    }
+
+    @Test
+    void meetsLatencySlo() throws Exception {
+        awaitWarmUp();
+
+        drive(SETTINGS.warmupSeconds());
+        Map<Endpoint, LatencyRecorder> recorders = drive(SETTINGS.durationSeconds());
+
+        StringBuilder report = new StringBuilder(String.format("%-16s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "rps", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        SoftAssertions slo = new SoftAssertions();
+        recorders.forEach((endpoint, recorder) -> {
+            LatencyRecorder.Summary summary = recorder.summarize(SETTINGS.durationSeconds());
+            report.append(String.format("%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", endpoint, summary.requests(),
+                    summary.errors(), summary.throughput(), summary.p50Millis(), summary.p99Millis(), summary.p999Millis(),
+                    summary.maxMillis()));
+
+            Slo target = SETTINGS.slos().get(endpoint);
+            slo.assertThat(summary.p50Millis()).as("%s p50", endpoint).isLessThanOrEqualTo(target.p50Millis());
+            slo.assertThat(summary.p99Millis()).as("%s p99", endpoint).isLessThanOrEqualTo(target.p99Millis());
+            slo.assertThat(summary.p999Millis()).as("%s p999", endpoint).isLessThanOrEqualTo(target.p999Millis());
+            slo.assertThat(summary.errorRatio()).as("%s error ratio", endpoint).isLessThanOrEqualTo(SETTINGS.maxErrorRatio());
+        });
+
+        System.out.println(report);
+        Path reportFile = Path.of("build", "reports", "loadtest", "summary.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, SETTINGS + System.lineSeparator() + report);
+        // 서버 측 지표 (DB / 직렬화 시간, 요청당 쿼리 수) 스냅샷
+        HttpResponse<String> scrape = httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/prometheus")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        Files.writeString(reportFile.resolveSibling("prometheus.txt"), scrape.body());
+
+        slo.assertAll();
+    }
+
+    private void awaitWarmUp() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WARM_UP_TIMEOUT_MS;
+        while (!followGraph.isReady() || !nicknameIndex.isReady()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("warm-up timeout");
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    private Map<Endpoint, LatencyRecorder> drive(int seconds) throws InterruptedException {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(SETTINGS.concurrency());
+        SplittableRandom random = new SplittableRandom(SETTINGS.seed() + seconds);
+        PowerLawGraphSeeder.ZipfSampler hotness = new PowerLawGraphSeeder.ZipfSampler(SETTINGS.users(), SETTINGS.zipfExponent());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / SETTINGS.rps();
+        long total = (long) SETTINGS.rps() * seconds;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = pick(random);
+            HttpRequest request = request(endpoint, random, hotness);
+            workers.execute(() -> send(endpoint, request, intended, recorders.get(endpoint)));
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        return recorders;
+    }
+
+    private void send(Endpoint endpoint, HttpRequest request, long intended, LatencyRecorder recorder) {
+        boolean error;
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            // 팔로우는 신규/복원 201, 이미 팔로우 중 200 (멱등) → 정상 요청에는 4xx 가 없으므로 4xx/5xx 모두 오류
+            error = response.statusCode() >= 400;
+            if (endpoint == Endpoint.FOLLOW && response.statusCode() == 201) {
+                followed.add(pairOf(request));
+            }
+        } catch (IOException | InterruptedException e) {
+            error = true;
+        }
+        recorder.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended), error);
+    }
+
+    // 조회 위주, 특정 인기 계정에 몰리는 실제 트래픽 비율
+    private static Endpoint pick(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 40) {
+            return Endpoint.LIST_FOLLOWER;
+        }
+        if (roll < 60) {
+            return Endpoint.LIST_FOLLOWING;
+        }
+        if (roll < 70) {
+            return Endpoint.LIST_KEYWORD;
+        }
+        if (roll < 80) {
+            return Endpoint.SEARCH;
+        }
+        return roll < 90 ? Endpoint.FOLLOW : Endpoint.UNFOLLOW;
+    }
+
+    private HttpRequest request(Endpoint endpoint, SplittableRandom random, PowerLawGraphSeeder.ZipfSampler hotness) {
+        String hotUser = PowerLawGraphSeeder.userId(hotness.sample(random));
+        String anyUser = PowerLawGraphSeeder.userId(random.nextInt(SETTINGS.users()));
+        return switch (endpoint) {
+            case LIST_FOLLOWER -> get("/api/v1/follows?type=follower&size=20&userId=" + hotUser);
+            case LIST_FOLLOWING -> get("/api/v1/follows?type=following&size=20&userId=" + anyUser);
+            case LIST_KEYWORD -> get("/api/v1/follows?type=follower&size=20&userId=" + hotUser + "&keyword=yer" + random.nextInt(100));
+            case SEARCH -> get("/api/v1/follows/search?size=20&keyword=player" + random.nextInt(1000) + "&userId=" + anyUser);
+            case FOLLOW -> write("POST", anyUser, hotUser);
+            case UNFOLLOW -> {
+                String[] pair = followed.poll();
+                yield pair != null ? write("PUT", pair[0], pair[1]) : write("PUT", anyUser, hotUser);
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest write(String method, String fromUserId, String toUserId) {
+        String body = "{\"fromUserId\":\"" + fromUserId + "\",\"toUserId\":\"" + toUserId + "\"}";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/follows"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("X-Load-Pair", fromUserId + "," + toUserId)
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String[] pairOf(HttpRequest request) {
+        return request.headers().firstValue("X-Load-Pair").orElseThrow().split(",");
+    }
+}
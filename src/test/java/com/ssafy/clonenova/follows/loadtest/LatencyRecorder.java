@@ -0,0 +1,47 @@
+package com.ssafy.clonenova.follows.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 엔드포인트 하나의 지연시간 기록 (마이크로초, 오프라인 분석용이라 전부 보관 후 정렬)
+ */
+class LatencyRecorder {
+
+    private long[] micros = new long[4096];
+    private int count;
+    private int errors;
+
+    synchronized void record(long latencyMicros, boolean error) {
+        if (count == micros.length) {
+            micros = Arrays.copyOf(micros, count << 1);
+        }
+        micros[count++] = latencyMicros;
+        if (error) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(micros, count);
+        Arrays.sort(sorted);
+        return new Summary(count, errors, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                count == 0 ? 0 : sorted[count - 1] / 1000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000.0;
+    }
+
+    record Summary(int requests, int errors, double throughput, double p50Millis, double p99Millis, double p999Millis,
+                   double maxMillis) {
+
+        double errorRatio() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+}
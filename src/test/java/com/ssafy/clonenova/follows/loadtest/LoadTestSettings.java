@@ -0,0 +1,74 @@
+package com.ssafy.clonenova.follows.loadtest;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.xxx 로 변경, gradle loadTest 가 그대로 전달)
+ * 기본값은 로컬에서 수 분 안에 끝나는 규모, 운영 규모는 아래처럼 실행
+ *   gradle loadTest -Dloadtest.users=1500000 -Dloadtest.edges=8000000 -Dloadtest.hot-followers=1200000
+ */
+record LoadTestSettings(
+        int users,
+        long edges,
+        int hotUsers,
+        int hotFollowers,
+        double churnRatio,
+        double zipfExponent,
+        long seed,
+        int rps,
+        int durationSeconds,
+        int warmupSeconds,
+        int concurrency,
+        Map<Endpoint, Slo> slos,
+        double maxErrorRatio
+) {
+
+    enum Endpoint {
+        LIST_FOLLOWER, LIST_FOLLOWING, LIST_KEYWORD, SEARCH, FOLLOW, UNFOLLOW
+    }
+
+    record Slo(double p50Millis, double p99Millis, double p999Millis) {
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                intProperty("users", 100_000),
+                longProperty("edges", 1_000_000),
+                intProperty("hot-users", 3),
+                intProperty("hot-followers", 80_000),
+                doubleProperty("churn", 0.1),
+                doubleProperty("zipf-exponent", 1.1),
+                longProperty("seed", 42),
+                intProperty("rps", 300),
+                intProperty("duration-seconds", 30),
+                intProperty("warmup-seconds", 10),
+                intProperty("concurrency", 64),
+                Map.of(
+                        Endpoint.LIST_FOLLOWER, slo("list", 20, 150, 500),
+                        Endpoint.LIST_FOLLOWING, slo("list", 20, 150, 500),
+                        Endpoint.LIST_KEYWORD, slo("list-keyword", 30, 250, 800),
+                        Endpoint.SEARCH, slo("search", 30, 250, 800),
+                        Endpoint.FOLLOW, slo("write", 30, 250, 800),
+                        Endpoint.UNFOLLOW, slo("write", 30, 250, 800)),
+                doubleProperty("max-error-ratio", 0.01));
+    }
+
+    private static Slo slo(String name, double p50, double p99, double p999) {
+        String prefix = "slo." + name + ".";
+        return new Slo(doubleProperty(prefix + "p50-ms", p50),
+                doubleProperty(prefix + "p99-ms", p99),
+                doubleProperty(prefix + "p999-ms", p999));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, Integer.toString(defaultValue)));
+    }
+
+    private static long longProperty(String name, long defaultValue) {
+        return Long.parseLong(System.getProperty("loadtest." + name, Long.toString(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty("loadtest." + name, Double.toString(defaultValue)));
+    }
+}
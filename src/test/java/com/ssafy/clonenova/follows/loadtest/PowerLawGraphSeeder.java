@@ -0,0 +1,166 @@
+package com.ssafy.clonenova.follows.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 멱법칙(power-law) 팔로우 그래프 생성기
+ * - 0 ~ hotUsers-1 번 사용자는 hotFollowers 명에게 팔로우 받는 초대형 계정
+ * - 나머지 간선은 Zipf(s) 분포로 대상 선택 → 소수 계정에 팔로워가 몰리는 실제 분포와 비슷
+ * - churn 비율만큼 deleted_at 이 채워진 취소 행 포함
+ */
+class PowerLawGraphSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final long YEAR_SECONDS = 365L * 24 * 3600;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random;
+    private final ZipfSampler zipf;
+
+    PowerLawGraphSeeder(JdbcTemplate jdbcTemplate, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.seed());
+        // 초대형 계정은 따로 채우므로 Zipf 순위는 그 다음 사용자부터
+        this.zipf = new ZipfSampler(settings.users() - settings.hotUsers(), settings.zipfExponent());
+    }
+
+    static String userId(int i) {
+        return String.format("u-%08d", i);
+    }
+
+    static String nickname(int i) {
+        return "player" + i;
+    }
+
+    long seed() {
+        seedUsers();
+        long edges = 0;
+        for (int hot = 0; hot < settings.hotUsers(); hot++) {
+            edges += seedHotFollowers(hot);
+        }
+        edges += seedZipfEdges();
+        return edges;
+    }
+
+    private void seedUsers() {
+        Timestamp createdAt = Timestamp.valueOf(BASE);
+        List<Integer> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < settings.users(); i++) {
+            batch.add(i);
+            if (batch.size() == BATCH_SIZE || i == settings.users() - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO user (id, avatar_id, email, password, name, nickname, email_verified, created_at)"
+                        + " VALUES (?, 'avatar', ?, 'pw', 'name', ?, TRUE, ?)", batch, BATCH_SIZE, (ps, id) -> {
+                    ps.setString(1, userId(id));
+                    ps.setString(2, userId(id) + "@loadtest.io");
+                    ps.setString(3, nickname(id));
+                    ps.setTimestamp(4, createdAt);
+                });
+                batch.clear();
+            }
+        }
+    }
+
+    private long seedHotFollowers(int hot) {
+        int followers = Math.min(settings.hotFollowers(), settings.users() - 1);
+        EdgeBatch batch = new EdgeBatch();
+        for (int from = 0, added = 0; added < followers; from++) {
+            if (from == hot) {
+                continue;
+            }
+            batch.add(from, hot);
+            added++;
+        }
+        return batch.flush();
+    }
+
+    private long seedZipfEdges() {
+        int others = settings.users() - settings.hotUsers();
+        double averageDegree = (double) settings.edges() / settings.users();
+        EdgeBatch batch = new EdgeBatch();
+        Set<Integer> targets = new HashSet<>();
+        for (int from = 0; from < settings.users(); from++) {
+            // 팔로잉 수도 치우치게 (지수 분포, 평균 averageDegree)
+            int degree = (int) Math.min(others - 1, Math.round(-Math.log(1 - random.nextDouble()) * averageDegree));
+            targets.clear();
+            for (int k = 0; k < degree * 2 && targets.size() < degree; k++) {
+                int to = settings.hotUsers() + zipf.sample(random);
+                if (to != from && targets.add(to)) {
+                    batch.add(from, to);
+                }
+            }
+        }
+        return batch.flush();
+    }
+
+    private final class EdgeBatch {
+        private final int[] froms = new int[BATCH_SIZE];
+        private final int[] tos = new int[BATCH_SIZE];
+        private int size;
+        private long total;
+
+        private void add(int from, int to) {
+            froms[size] = from;
+            tos[size] = to;
+            if (++size == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private long flush() {
+            if (size > 0) {
+                List<Integer> rows = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    rows.add(i);
+                }
+                jdbcTemplate.batchUpdate("INSERT INTO follows (from_user_id, to_user_id, created_at, deleted_at) VALUES (?, ?, ?, ?)",
+                        rows, BATCH_SIZE, (ps, i) -> {
+                            LocalDateTime createdAt = BASE.plusSeconds(random.nextLong(YEAR_SECONDS));
+                            ps.setString(1, userId(froms[i]));
+                            ps.setString(2, userId(tos[i]));
+                            ps.setTimestamp(3, Timestamp.valueOf(createdAt));
+                            boolean churned = random.nextDouble() < settings.churnRatio();
+                            ps.setTimestamp(4, churned ? Timestamp.valueOf(createdAt.plusDays(1)) : null);
+                        });
+                total += size;
+                size = 0;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Zipf 분포 표본 (누적 분포 + 이진 탐색, 0 부터 n-1 순위)
+     */
+    static final class ZipfSampler {
+        private final double[] cdf;
+
+        ZipfSampler(int n, double exponent) {
+            cdf = new double[n];
+            double sum = 0;
+            for (int rank = 0; rank < n; rank++) {
+                sum += 1.0 / Math.pow(rank + 1, exponent);
+                cdf[rank] = sum;
+            }
+            for (int rank = 0; rank < n; rank++) {
+                cdf[rank] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int pos = Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(pos >= 0 ? pos : -pos - 1, cdf.length - 1);
+        }
+    }
+}
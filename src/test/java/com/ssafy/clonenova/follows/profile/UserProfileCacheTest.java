@@ -0,0 +1,130 @@
+package com.ssafy.clonenova.follows.profile;
+
+import com.ssafy.clonenova.follows.event.UserProfileChangedEvent;
+import com.ssafy.clonenova.follows.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserProfileCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final InMemoryL2Cache l2 = new InMemoryL2Cache();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void loadsMissesOnceAndFillsBothTiers() {
+        when(userRepository.findProfiles(anyCollection())).thenReturn(List.of(profile("a"), profile("b")));
+        UserProfileCache cache = new UserProfileCache(userRepository, Optional.of(l2), meterRegistry, 100, 60);
+
+        assertThat(cache.getAll(List.of("a", "b", "ghost"))).containsOnlyKeys("a", "b");
+        assertThat(l2.values).containsOnlyKeys("a", "b");
+
+        // L1 적중 → DB 조회 없음
+        assertThat(cache.getAll(List.of("a", "b"))).containsOnlyKeys("a", "b");
+        verify(userRepository, times(1)).findProfiles(anyCollection());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserProfileCache.L1_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void profileChangeInvalidatesBothTiers() {
+        l2.values.put("a", profile("a"));
+        UserProfileCache cache = new UserProfileCache(userRepository, Optional.of(l2), meterRegistry, 100, 60);
+        assertThat(cache.getAll(List.of("a"))).containsKey("a");
+
+        cache.onUserProfileChanged(UserProfileChangedEvent.builder().userId("a").nickname("renamed").active(true).build());
+        assertThat(l2.values).isEmpty();
+
+        when(userRepository.findProfiles(anyCollection())).thenReturn(List.of(new UserProfile("a", "a@test.io", "renamed")));
+        assertThat(cache.getAll(List.of("a")).get("a").getNickname()).isEqualTo("renamed");
+    }
+
+    @Test
+    void invalidationDuringLoadDoesNotCacheStaleProfile() {
+        UserProfileCache cache = new UserProfileCache(userRepository, Optional.of(l2), meterRegistry, 100, 60);
+        // DB 에서 이전 닉네임을 읽은 직후, 캐시에 넣기 전에 변경 커밋 + 무효화가 끼어듦
+        when(userRepository.findProfiles(anyCollection()))
+                .thenAnswer(invocation -> {
+                    cache.onUserProfileChanged(UserProfileChangedEvent.builder().userId("a").nickname("renamed").active(true).build());
+                    return List.of(profile("a"));
+                })
+                .thenReturn(List.of(new UserProfile("a", "a@test.io", "renamed")));
+
+        // 이번 응답은 조회 시점 값이지만 L1 / L2 어디에도 남지 않음
+        assertThat(cache.getAll(List.of("a")).get("a").getNickname()).isEqualTo("nick-a");
+        assertThat(l2.values).isEmpty();
+
+        assertThat(cache.getAll(List.of("a")).get("a").getNickname()).isEqualTo("renamed");
+        assertThat(l2.values.get("a").getNickname()).isEqualTo("renamed");
+        verify(userRepository, times(2)).findProfiles(anyCollection());
+    }
+
+    @Test
+    void remoteInvalidationDuringL2FillIsNotOverwritten() {
+        UserProfileCache cache = new UserProfileCache(userRepository, Optional.of(l2), meterRegistry, 100, 60);
+        // 다른 인스턴스가 L2 를 무효화 (이 인스턴스가 버전을 읽은 뒤, 저장하기 전)
+        when(userRepository.findProfiles(anyCollection())).thenAnswer(invocation -> {
+            l2.evict("a");
+            return List.of(profile("a"));
+        });
+
+        cache.getAll(List.of("a"));
+
+        assertThat(l2.values).doesNotContainKey("a");
+    }
+
+    private UserProfile profile(String userId) {
+        return new UserProfile(userId, userId + "@test.io", "nick-" + userId);
+    }
+
+    // Redis 대신 쓰는 L2 (버전 확인 규칙은 RedisUserProfileCache 의 Lua 와 같음)
+    private static class InMemoryL2Cache implements UserProfileL2Cache {
+        private final Map<String, UserProfile> values = new ConcurrentHashMap<>();
+        private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+        @Override
+        public Snapshot getAll(Collection<String> userIds) {
+            Map<String, UserProfile> result = new HashMap<>();
+            Map<String, Long> missVersions = new HashMap<>();
+            userIds.forEach(id -> {
+                UserProfile profile = values.get(id);
+                if (profile != null) {
+                    result.put(id, profile);
+                } else {
+                    missVersions.put(id, versions.getOrDefault(id, 0L));
+                }
+            });
+            return new Snapshot(result, missVersions);
+        }
+
+        @Override
+        public synchronized void putAll(Collection<UserProfile> profiles, Map<String, Long> readVersions) {
+            profiles.forEach(profile -> {
+                Long version = readVersions.get(profile.getUserId());
+                if (version != null && version.equals(versions.getOrDefault(profile.getUserId(), 0L))) {
+                    values.put(profile.getUserId(), profile);
+                }
+            });
+        }
+
+        @Override
+        public synchronized void evict(String userId) {
+            versions.merge(userId, 1L, Long::sum);
+            values.remove(userId);
+        }
+    }
+}
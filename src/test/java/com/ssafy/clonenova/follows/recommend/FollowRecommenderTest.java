@@ -0,0 +1,107 @@
+package com.ssafy.clonenova.follows.recommend;
+
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import com.ssafy.clonenova.follows.graph.FollowGraph;
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class FollowRecommenderTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    private final UserIdInterner interner = new UserIdInterner();
+    private final FollowGraph graph = new FollowGraph(interner);
+    private final FollowRecommender recommender = new FollowRecommender(graph, interner);
+    private long followId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recommender, "maxFollowings", 2000);
+        ReflectionTestUtils.setField(recommender, "maxFollowingsPerHop", 500);
+        ReflectionTestUtils.setField(recommender, "forkThreshold", 2);
+        recommender.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recommender.shutdown();
+    }
+
+    @Test
+    void ranksFriendsOfFriendsByMutualCount() {
+        follow("me", "a");
+        follow("me", "b");
+        follow("me", "c");
+        follow("me", "d");
+        follow("a", "x");
+        follow("b", "x");
+        follow("c", "x");
+        follow("a", "y");
+        follow("d", "y");
+        follow("b", "z");
+        // 이미 팔로우 중인 사용자 / 본인은 제외
+        follow("a", "b");
+        follow("c", "me");
+
+        List<FollowCandidate> result = recommender.recommend("me", 2);
+
+        assertThat(result).extracting(FollowCandidate::getUserId, FollowCandidate::getMutualCount)
+                .containsExactly(tuple("x", 3), tuple("y", 2));
+    }
+
+    @Test
+    void skipsUnfollowedEdges() {
+        follow("me", "a");
+        follow("a", "x");
+        graph.apply(FollowChangedEvent.builder()
+                .type(FollowChangeType.UNFOLLOW)
+                .fromUserId("a")
+                .toUserId("x")
+                .build());
+
+        assertThat(recommender.recommend("me", 10)).isEmpty();
+        assertThat(recommender.recommend("unknown", 10)).isEmpty();
+    }
+
+    @Test
+    void skipsUsersTheRequesterUnfollowed() {
+        follow("me", "a");
+        follow("me", "b");
+        follow("a", "x");
+        follow("b", "x");
+        follow("a", "y");
+        // me → x 는 취소된 관계 (tombstone) : 그래프에는 없고 호출부가 DB 에서 읽어서 넘김
+        follow("me", "x");
+        graph.apply(FollowChangedEvent.builder()
+                .type(FollowChangeType.UNFOLLOW)
+                .fromUserId("me")
+                .toUserId("x")
+                .build());
+
+        assertThat(recommender.recommend("me", 10)).extracting(FollowCandidate::getUserId).containsExactly("x", "y");
+        assertThat(recommender.recommend("me", 10, List.of("x", "not-in-graph")))
+                .extracting(FollowCandidate::getUserId)
+                .containsExactly("y");
+    }
+
+    private void follow(String from, String to) {
+        followId++;
+        graph.apply(FollowChangedEvent.builder()
+                .type(FollowChangeType.FOLLOW)
+                .followId(followId)
+                .fromUserId(from)
+                .toUserId(to)
+                .createdAt(BASE.plusSeconds(followId))
+                .build());
+    }
+}
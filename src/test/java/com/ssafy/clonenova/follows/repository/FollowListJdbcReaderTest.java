@@ -0,0 +1,107 @@
+package com.ssafy.clonenova.follows.repository;
+
+import com.ssafy.clonenova.common.ScrollCursor;
+import com.ssafy.clonenova.follows.dto.FollowSearchListResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC 목록 경로가 QueryDSL 경로와 같은 행/순서를 돌려주는지 (커서 동률, 취소 행, LIKE 특수문자, 프로필 없는 행 포함)
+ */
+@ActiveProfiles("bench")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:list-read-path;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+class FollowListJdbcReaderTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    @Autowired
+    private FollowCustomRepositoryImpl repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM follows");
+        jdbcTemplate.update("DELETE FROM user");
+        for (String id : List.of("star", "a", "b", "c", "d", "e")) {
+            jdbcTemplate.update("INSERT INTO user (id, avatar_id, email, password, name, nickname, email_verified, created_at)"
+                    + " VALUES (?, 'avatar', ?, 'pw', 'name', ?, TRUE, ?)", id, id + "@test.io",
+                    "c".equals(id) ? "Nick_C" : "nick" + id, Timestamp.valueOf(BASE));
+        }
+        // a, b 는 created_at 이 같음 → id 로 순서 결정
+        insert("a", "star", BASE.plusMinutes(1), null);
+        insert("b", "star", BASE.plusMinutes(1), null);
+        insert("c", "star", BASE.plusMinutes(2), null);
+        insert("d", "star", BASE.plusMinutes(3), BASE.plusMinutes(4));
+        insert("e", "star", BASE.plusMinutes(5), null);
+        insert("star", "a", BASE.plusMinutes(6), null);
+        insert("star", "c", BASE.plusMinutes(7), null);
+    }
+
+    @Test
+    void returnsSameRowsAsQuerydsl() {
+        for (String keyword : Arrays.asList(null, "NICK", "k_", "nick%")) {
+            assertSamePages(true, "star", keyword);
+            assertSamePages(false, "star", keyword);
+        }
+    }
+
+    @Test
+    void fillsPageWhenProfileMissing() {
+        // 프로필(user 행)이 없는 팔로워는 빠지지만 페이지는 그 다음 간선으로 채워져야 함
+        insert("ghost", "star", BASE.plusMinutes(4), null);
+        for (String readPath : List.of("querydsl", "jdbc")) {
+            assertThat(readAll(readPath, true, "star", null))
+                    .extracting(FollowSearchListResponseDTO::getUserId)
+                    .containsExactly("e", "c", "b", "a");
+        }
+    }
+
+    @Test
+    void escapesLikeWildcards() {
+        assertThat(FollowListJdbcReader.likePattern("A_b%!")).isEqualTo("%a!_b!%!!%");
+    }
+
+    // 2개씩 끝까지 넘기면서 페이지마다 비교
+    private void assertSamePages(boolean followers, String userId, String keyword) {
+        List<FollowSearchListResponseDTO> querydsl = readAll("querydsl", followers, userId, keyword);
+        List<FollowSearchListResponseDTO> jdbc = readAll("jdbc", followers, userId, keyword);
+        assertThat(jdbc).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(querydsl);
+    }
+
+    private List<FollowSearchListResponseDTO> readAll(String readPath, boolean followers, String userId, String keyword) {
+        ReflectionTestUtils.setField(repository, "listReadPath", readPath);
+        List<FollowSearchListResponseDTO> all = new ArrayList<>();
+        ScrollCursor cursor = null;
+        while (true) {
+            List<FollowSearchListResponseDTO> page = followers
+                    ? repository.findFollowerList(userId, keyword, cursor, 2)
+                    : repository.findFollowingList(userId, keyword, cursor, 2);
+            all.addAll(page);
+            if (page.size() < 2) {
+                return all;
+            }
+            FollowSearchListResponseDTO last = page.get(page.size() - 1);
+            cursor = new ScrollCursor(last.getCreatedAt(), last.getId());
+        }
+    }
+
+    private void insert(String from, String to, LocalDateTime createdAt, LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO follows (from_user_id, to_user_id, created_at, deleted_at) VALUES (?, ?, ?, ?)",
+                from, to, Timestamp.valueOf(createdAt), deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+    }
+}
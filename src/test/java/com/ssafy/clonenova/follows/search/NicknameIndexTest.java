@@ -0,0 +1,69 @@
+package com.ssafy.clonenova.follows.search;
+
+import com.ssafy.clonenova.follows.event.FollowChangeType;
+import com.ssafy.clonenova.follows.event.FollowChangedEvent;
+import com.ssafy.clonenova.follows.event.UserProfileChangedEvent;
+import com.ssafy.clonenova.follows.graph.FollowEdge;
+import com.ssafy.clonenova.follows.graph.FollowGraph;
+import com.ssafy.clonenova.follows.graph.UserIdInterner;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameIndexTest {
+
+    private final UserIdInterner interner = new UserIdInterner();
+
+    @Test
+    void searchesByContainedKeywordIgnoringCase() {
+        NicknameIndex index = loaded("u1", "WangWang", "u2", "wangja", "u3", "nowang", "u4", "abcxbcab");
+
+        assertThat(index.searchUsers("WANG", null, 10)).extracting(NicknameMatch::getUserId)
+                .containsExactly("u1", "u2", "u3");
+        assertThat(index.searchUsers("wa", "u1", 10)).extracting(NicknameMatch::getUserId)
+                .containsExactly("u2", "u3");
+        // 3-gram 은 모두 있지만 실제로는 포함되지 않는 경우
+        assertThat(index.search("abcab")).isEmpty();
+    }
+
+    @Test
+    void reflectsNicknameChange() {
+        NicknameIndex index = loaded("u1", "wangwang", "u2", "nova");
+
+        index.apply(UserProfileChangedEvent.builder().userId("u1").nickname("clone").active(true).build());
+        index.apply(UserProfileChangedEvent.builder().userId("u2").active(false).build());
+
+        assertThat(index.search("wang")).isEmpty();
+        assertThat(index.search("nov")).isEmpty();
+        assertThat(index.searchUsers("lon", null, 10)).extracting(NicknameMatch::getNickname).containsExactly("clone");
+    }
+
+    @Test
+    void intersectsWithFollowerEdges() {
+        NicknameIndex index = loaded("u1", "wangwang", "u2", "wangja", "u3", "nova");
+        FollowGraph graph = new FollowGraph(interner);
+        graph.apply(FollowChangedEvent.builder()
+                .type(FollowChangeType.FOLLOW)
+                .followId(1L).fromUserId("u1").toUserId("star")
+                .createdAt(LocalDateTime.of(2025, 10, 1, 0, 0)).build());
+        graph.apply(FollowChangedEvent.builder()
+                .type(FollowChangeType.FOLLOW)
+                .followId(2L).fromUserId("u3").toUserId("star")
+                .createdAt(LocalDateTime.of(2025, 10, 2, 0, 0)).build());
+
+        assertThat(graph.findFollowers("star", index.search("wang"), null, 10))
+                .extracting(FollowEdge::getUserId).containsExactly("u1");
+    }
+
+    private NicknameIndex loaded(String... pairs) {
+        NicknameIndex index = new NicknameIndex(interner);
+        index.beginLoad();
+        for (int i = 0; i < pairs.length; i += 2) {
+            index.load(pairs[i], pairs[i + 1]);
+        }
+        index.finishLoad();
+        return index;
+    }
+}
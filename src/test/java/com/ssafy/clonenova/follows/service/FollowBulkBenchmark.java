@@ -0,0 +1,50 @@
+package com.ssafy.clonenova.follows.service;
+
+import com.ssafy.clonenova.follows.dto.FollowBulkRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단건 follow() 반복 vs followAll() 일괄 처리 비교 (gradle benchmark 로만 실행)
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest
+class FollowBulkBenchmark {
+
+    private static final int TARGETS = 2000;
+
+    @Autowired
+    private FollowService followService;
+
+    @Test
+    void singleVersusBulk() throws Exception {
+        List<String> targets = new ArrayList<>();
+        for (int i = 0; i < TARGETS; i++) {
+            targets.add("target-" + i);
+        }
+
+        long start = System.nanoTime();
+        for (String toUserId : targets) {
+            followService.follow(new FollowRequestDTO("single", toUserId));
+        }
+        long single = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        var result = followService.followAll(new FollowBulkRequestDTO("bulk", targets));
+        long bulk = System.nanoTime() - start;
+
+        assertThat(result.getChanged()).isEqualTo(TARGETS);
+        System.out.printf("follow x%d : single=%dms, bulk=%dms (x%.1f)%n",
+                TARGETS, single / 1_000_000, bulk / 1_000_000, (double) single / bulk);
+    }
+}
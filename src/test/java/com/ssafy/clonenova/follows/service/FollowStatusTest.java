@@ -0,0 +1,63 @@
+package com.ssafy.clonenova.follows.service;
+
+import com.ssafy.clonenova.exception.CustomException;
+import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowStatusResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 팔로우 관계 일괄 조회 : 양방향 / 취소된 팔로우 제외 / 요청 순서 유지 + 중복 제거 / 최대 개수
+ */
+@ActiveProfiles("bench")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:status;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "follows.status.max-size=5"
+})
+class FollowStatusTest {
+
+    @Autowired
+    private FollowService followService;
+
+    @Test
+    void returnsBothDirectionsInRequestOrder() throws Exception {
+        followService.follow(new FollowRequestDTO("me", "mutual"));
+        followService.follow(new FollowRequestDTO("mutual", "me"));
+        followService.follow(new FollowRequestDTO("me", "star"));
+        followService.follow(new FollowRequestDTO("fan", "me"));
+        followService.follow(new FollowRequestDTO("me", "gone"));
+        followService.unfollow(new FollowRequestDTO("me", "gone"));
+        followService.follow(new FollowRequestDTO("fan", "star"));
+
+        List<FollowStatusResponseDTO> result = followService.getFollowStatuses(
+                new FollowStatusRequestDTO("me", Arrays.asList("star", "fan", null, "mutual", "gone", "star", "nobody")));
+
+        assertThat(result)
+                .extracting(FollowStatusResponseDTO::getUserId, FollowStatusResponseDTO::isFollowing, FollowStatusResponseDTO::isFollowedBy)
+                .containsExactly(
+                        tuple("star", true, false),
+                        tuple("fan", false, true),
+                        tuple("mutual", true, true),
+                        tuple("gone", false, false),
+                        tuple("nobody", false, false));
+    }
+
+    @Test
+    void rejectsTooManyTargets() {
+        List<String> targets = IntStream.range(0, 6).mapToObj(i -> "user-" + i).toList();
+
+        assertThatThrownBy(() -> followService.getFollowStatuses(new FollowStatusRequestDTO("me", targets)))
+                .isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.ssafy.clonenova.follows.service;
+
+import com.ssafy.clonenova.follows.dto.FollowBulkResponseDTO;
+import com.ssafy.clonenova.follows.dto.FollowRequestDTO;
+import com.ssafy.clonenova.follows.dto.FollowResponseDTO;
+import com.ssafy.clonenova.follows.repository.FollowRepository;
+import com.ssafy.clonenova.follows.service.Impl.FollowEdgeWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 팔로우 upsert : 신규 / 재시도(무변경) / 언팔 후 복원 / 동시 요청 / 일괄 insert 충돌
+ */
+@ActiveProfiles("bench")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:upsert;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+class FollowUpsertTest {
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void followIsIdempotentAndRestoresCanceledEdge() throws Exception {
+        FollowResponseDTO created = followService.follow(new FollowRequestDTO("a", "b"));
+        FollowResponseDTO retried = followService.follow(new FollowRequestDTO("a", "b"));
+
+        assertThat(created.isChanged()).isTrue();
+        assertThat(retried.isChanged()).isFalse();
+        assertThat(retried.getFollowId()).isEqualTo(created.getFollowId());
+
+        followService.unfollow(new FollowRequestDTO("a", "b"));
+        FollowResponseDTO restored = followService.follow(new FollowRequestDTO("a", "b"));
+
+        assertThat(restored.isChanged()).isTrue();
+        assertThat(restored.getFollowId()).isEqualTo(created.getFollowId());
+        assertThat(rows("a", "b")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentFollowsCreateSingleEdge() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<FollowResponseDTO>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return followService.follow(new FollowRequestDTO("c", "d"));
+            }));
+        }
+        start.countDown();
+
+        int changed = 0;
+        for (Future<FollowResponseDTO> result : results) {
+            changed += result.get().isChanged() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(changed).isEqualTo(1);
+        assertThat(rows("c", "d")).isEqualTo(1);
+    }
+
+    @Test
+    void bulkFollowRetriesPairsInsertedAfterLookup() throws Exception {
+        // 일괄 요청이 기존 관계를 조회한 뒤, 같은 쌍의 단건 팔로우가 먼저 커밋된 상황
+        followService.follow(new FollowRequestDTO("e", "f"));
+        FollowRepository staleLookup = mock(FollowRepository.class, delegatesTo(followRepository));
+        doReturn(List.of())
+                .doAnswer(invocation -> followRepository.findEdges(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(staleLookup).findEdges(eq("e"), anyCollection());
+        FollowEdgeWriter writer = new FollowEdgeWriter(staleLookup, eventPublisher);
+
+        FollowBulkResponseDTO result = transactionTemplate.execute(status ->
+                writer.followAll("e", List.of("f", "g"), LocalDateTime.now()));
+
+        assertThat(result.getChanged()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(rows("e", "f")).isEqualTo(1);
+        assertThat(rows("e", "g")).isEqualTo(1);
+    }
+
+    private int rows(String from, String to) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM follows WHERE from_user_id = ? AND to_user_id = ?",
+                Integer.class, from, to);
+    }
+}
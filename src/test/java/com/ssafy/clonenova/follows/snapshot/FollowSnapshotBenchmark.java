@@ -0,0 +1,121 @@
+package com.ssafy.clonenova.follows.snapshot;
+
+import com.ssafy.clonenova.follows.entity.Follows;
+import com.ssafy.clonenova.follows.repository.FollowRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷 적재 처리량 vs FollowRepository.save 반복 (gradle benchmark 로만 실행)
+ * -Dbench.snapshot-edges 로 간선 수, -Dbench.snapshot-users 로 사용자 수 조절
+ * - 50M 간선 소요 시간은 측정한 처리량으로 환산 (H2 인메모리라 MySQL 절대값과는 다름, 배율 비교용)
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@SpringBootTest(properties = {
+        // 인메모리 DB 라 테스트 힙(512MB) 기준 수십만 간선까지 (더 크면 jdbc:h2:file 로 바꿔서 실행)
+        "spring.datasource.url=jdbc:h2:mem:snapshot-bench;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=8"
+})
+class FollowSnapshotBenchmark {
+
+    private static final long TARGET_EDGES = 50_000_000L;
+    private static final int SAVE_SAMPLE = 5_000;
+
+    @Autowired
+    private FollowSnapshotExporter exporter;
+
+    @Autowired
+    private FollowSnapshotImporter importer;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void bulkLoadVersusSave() throws Exception {
+        int edges = Integer.getInteger("bench.snapshot-edges", 200_000);
+        int users = Integer.getInteger("bench.snapshot-users", 20_000);
+        long seedStart = System.nanoTime();
+        seed(edges, users);
+        System.out.printf("seed     : %dms%n", (System.nanoTime() - seedStart) / 1_000_000);
+
+        Path snapshot = dir.resolve("follows.snapshot");
+        long start = System.nanoTime();
+        long exported = exporter.exportTo(snapshot);
+        long exportNanos = System.nanoTime() - start;
+
+        jdbcTemplate.update("TRUNCATE TABLE follows");
+        start = System.nanoTime();
+        long imported = importer.importFrom(snapshot);
+        long importNanos = System.nanoTime() - start;
+        assertThat(imported).isEqualTo(exported);
+
+        // 비교 기준 : 엔티티 save 반복 (표본만 측정)
+        jdbcTemplate.update("TRUNCATE TABLE follows");
+        LocalDateTime now = LocalDateTime.now();
+        start = System.nanoTime();
+        for (int i = 0; i < SAVE_SAMPLE; i++) {
+            followRepository.save(Follows.builder()
+                    .fromUserId("save-" + i)
+                    .toUserId("save-" + (i + 1))
+                    .createdAt(now)
+                    .build());
+        }
+        long saveNanos = System.nanoTime() - start;
+
+        double importRate = imported * 1e9 / importNanos;
+        double saveRate = SAVE_SAMPLE * 1e9 / saveNanos;
+        System.out.printf("snapshot : edges=%d, users=%d, bytes=%d (%.1f B/edge)%n",
+                exported, users, Files.size(snapshot), (double) Files.size(snapshot) / exported);
+        System.out.printf("export   : %dms (%.0f edges/s)%n", exportNanos / 1_000_000, exported * 1e9 / exportNanos);
+        System.out.printf("import   : %dms (%.0f edges/s) → 50M ≈ %.1f min%n",
+                importNanos / 1_000_000, importRate, TARGET_EDGES / importRate / 60);
+        System.out.printf("save()   : %.0f edges/s → 50M ≈ %.1f h (x%.0f)%n",
+                saveRate, TARGET_EDGES / saveRate / 3600, importRate / saveRate);
+    }
+
+    private void seed(int edges, int users) {
+        SplittableRandom random = new SplittableRandom(42);
+        Timestamp base = Timestamp.valueOf(LocalDateTime.of(2025, 10, 1, 0, 0));
+        Set<Long> pairs = new HashSet<>(edges * 2);
+        List<Object[]> batch = new ArrayList<>(10_000);
+        while (pairs.size() < edges) {
+            int from = random.nextInt(users);
+            int to = random.nextInt(users);
+            if (from == to || !pairs.add(((long) from << 32) | to)) {
+                continue;
+            }
+            batch.add(new Object[]{"user-" + from, "user-" + to, new Timestamp(base.getTime() + pairs.size() * 1000L)});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES (?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES (?, ?, ?)", batch);
+        }
+    }
+}
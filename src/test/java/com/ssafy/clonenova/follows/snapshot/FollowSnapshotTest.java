@@ -0,0 +1,103 @@
+package com.ssafy.clonenova.follows.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스냅샷 내보내기 → follows 비우기 → 적재 후 행이 그대로인지 (여러 블록 / 병렬 적재 / 취소 행 제외)
+ */
+@ActiveProfiles("bench")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshot;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "follows.snapshot.block-edges=64",
+        "follows.snapshot.rows-per-statement=50",
+        "follows.snapshot.threads=3"
+})
+class FollowSnapshotTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 0, 0);
+    private static final String ROWS_SQL =
+            "SELECT id, from_user_id, to_user_id, created_at FROM follows WHERE deleted_at IS NULL ORDER BY id";
+
+    @Autowired
+    private FollowSnapshotExporter exporter;
+
+    @Autowired
+    private FollowSnapshotImporter importer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void restoresActiveEdges() throws IOException {
+        SplittableRandom random = new SplittableRandom(7);
+        List<Object[]> edges = new ArrayList<>();
+        for (int from = 0; from < 40; from++) {
+            for (int to = 0; to < 40; to++) {
+                if (from != to && random.nextInt(4) == 0) {
+                    LocalDateTime createdAt = BASE.plusSeconds(random.nextInt(100_000)).plusNanos(random.nextInt(1_000_000) * 1000L);
+                    edges.add(new Object[]{"user-" + from, "user-" + to, Timestamp.valueOf(createdAt),
+                            random.nextInt(10) == 0 ? Timestamp.valueOf(createdAt.plusDays(1)) : null});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO follows (from_user_id, to_user_id, created_at, deleted_at) VALUES (?, ?, ?, ?)", edges);
+        List<String> before = rows();
+
+        Path snapshot = dir.resolve("follows.snapshot");
+        long exported = exporter.exportTo(snapshot);
+        assertThat(exported).isEqualTo(before.size());
+
+        jdbcTemplate.update("DELETE FROM follows");
+        long imported = importer.importFrom(snapshot);
+
+        assertThat(imported).isEqualTo(exported);
+        assertThat(rows()).containsExactlyElementsOf(before);
+        try (FollowSnapshotReader reader = FollowSnapshotReader.open(snapshot)) {
+            assertThat(reader.blockCount()).isGreaterThan(1);
+        }
+    }
+
+    @Test
+    void rejectsCorruptedBlock() throws IOException {
+        jdbcTemplate.update("DELETE FROM follows");
+        jdbcTemplate.update("INSERT INTO follows (from_user_id, to_user_id, created_at) VALUES ('a', 'b', ?)", Timestamp.valueOf(BASE));
+        Path snapshot = dir.resolve("corrupted.snapshot");
+        exporter.exportTo(snapshot);
+
+        // 첫 블록 payload 한 바이트 변조
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0x7F}),
+                    FollowSnapshotFormat.HEADER_BYTES + FollowSnapshotFormat.BLOCK_HEADER_BYTES);
+        }
+        try (FollowSnapshotReader reader = FollowSnapshotReader.open(snapshot)) {
+            assertThatThrownBy(() -> reader.readBlock(0)).isInstanceOf(IOException.class);
+        }
+    }
+
+    private List<String> rows() {
+        return jdbcTemplate.query(ROWS_SQL, (rs, rowNum) -> rs.getLong(1) + "|" + rs.getString(2) + "|" + rs.getString(3)
+                + "|" + rs.getObject(4, LocalDateTime.class));
+    }
+}
@@ -0,0 +1,91 @@
+package com.ssafy.clonenova.games.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+    private static final Comparator<long[]> ORDER = Comparator.<long[]>comparingLong(entry -> entry[0]).reversed()
+            .thenComparingLong(entry -> entry[1]);
+
+    @Test
+    void keepsBestScoreAndRanksNeighbours() {
+        Leaderboard board = new Leaderboard();
+        assertThat(board.offer(1, 100)).isTrue();
+        assertThat(board.offer(2, 300)).isTrue();
+        assertThat(board.offer(3, 200)).isTrue();
+        assertThat(board.offer(1, 50)).isFalse();
+        assertThat(board.offer(1, 400)).isTrue();
+
+        assertThat(board.top(10)).extracting(RankedMember::getMember).containsExactly(1, 2, 3);
+        assertThat(board.rank(3)).isEqualTo(3);
+        assertThat(board.around(2, 1)).extracting(RankedMember::getRank).containsExactly(1, 2, 3);
+        assertThat(board.around(9, 1)).isEmpty();
+    }
+
+    @Test
+    void matchesFullSortOnRandomUpdates() {
+        Random random = new Random(7);
+        int users = 3000;
+        Leaderboard board = new Leaderboard();
+        long[] best = new long[users];
+        Arrays.fill(best, Long.MIN_VALUE);
+        for (int i = 0; i < 20_000; i++) {
+            int member = random.nextInt(users);
+            long score = random.nextInt(5000);
+            board.offer(member, score);
+            best[member] = Math.max(best[member], score);
+        }
+        List<long[]> expected = sorted(best, IntStream.range(0, users).toArray());
+
+        assertThat(board.size()).isEqualTo(expected.size());
+        assertThat(board.top(20)).extracting(RankedMember::getMember)
+                .containsExactlyElementsOf(members(expected.subList(0, 20)));
+        int me = (int) expected.get(1500)[1];
+        assertThat(board.rank(me)).isEqualTo(1501);
+        assertThat(board.around(me, 3)).extracting(RankedMember::getMember)
+                .containsExactlyElementsOf(members(expected.subList(1497, 1504)));
+
+        // 친구가 적을 때(힙 선택) / 많을 때(전체 랭킹 순회) 모두 전체 정렬 결과와 같아야 함
+        for (int friendCount : new int[]{30, 2500}) {
+            int[] friends = random.ints(0, users).distinct().limit(friendCount).toArray();
+            int[] sortedFriends = friends.clone();
+            Arrays.sort(sortedFriends);
+            List<long[]> friendOrder = sorted(best, friends);
+
+            assertThat(board.topAmong(friends, id -> Arrays.binarySearch(sortedFriends, id) >= 0, 10))
+                    .extracting(RankedMember::getMember)
+                    .containsExactlyElementsOf(members(friendOrder.subList(0, 10)));
+
+            int position = friendOrder.size() / 2;
+            int friend = (int) friendOrder.get(position)[1];
+            List<RankedMember> around = board.aroundAmong(friend, friends, 2);
+            assertThat(around).extracting(RankedMember::getMember)
+                    .containsExactlyElementsOf(members(friendOrder.subList(position - 2, position + 3)));
+            assertThat(around.get(2).getRank()).isEqualTo(position + 1);
+        }
+    }
+
+    private static List<long[]> sorted(long[] best, int[] members) {
+        List<long[]> entries = new ArrayList<>();
+        for (int member : members) {
+            if (best[member] != Long.MIN_VALUE) {
+                entries.add(new long[]{best[member], member});
+            }
+        }
+        entries.sort(ORDER);
+        return entries;
+    }
+
+    private static List<Integer> members(List<long[]> entries) {
+        return entries.stream().map(entry -> (int) entry[1]).toList();
+    }
+}